@@ -0,0 +1,69 @@
+package org.example.lv6;
+
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 메뉴와 출력 스트림을 생성하는 클래스이다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 주어진 개수의 메뉴 항목을 가진 메뉴를 생성한다.
+     *
+     * @param category 메뉴의 카테고리
+     * @param size 메뉴 항목의 개수
+     * @return 생성된 메뉴
+     */
+    public static Menu createMenu(String category, int size) {
+        Menu menu = new Menu(category);
+        for (int i = 0; i < size; i++) {
+            menu.addMenuItem(createMenuItem(category + "-" + i, i));
+        }
+        return menu;
+    }
+
+    /**
+     * 주어진 카테고리 수와 카테고리별 항목 수로 메뉴 리스트를 생성한다.
+     *
+     * @param categoryCount 카테고리의 개수
+     * @param menuSize 카테고리별 메뉴 항목의 개수
+     * @return 생성된 메뉴 리스트
+     */
+    public static List<Menu> createMenus(int categoryCount, int menuSize) {
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            menus.add(createMenu("C" + i, menuSize));
+        }
+        return menus;
+    }
+
+    /**
+     * 이름과 순번으로 가격이 정해지는 메뉴 항목을 생성한다.
+     *
+     * @param name 메뉴 항목의 이름
+     * @param seq 가격 계산에 사용할 순번
+     * @return 생성된 메뉴 항목
+     */
+    public static MenuItem createMenuItem(String name, int seq) {
+        return MenuItem.of(name, Money.ofMinor(100 + seq % 1900), "벤치마크용 메뉴 항목");
+    }
+
+    /**
+     * 출력 내용을 모두 버리는 `PrintStream`을 생성한다.
+     *
+     * @return 출력을 버리는 `PrintStream`
+     */
+    public static PrintStream nullPrintStream() {
+        return new PrintStream(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.lv6.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 입력을 번호로 변환하는 비용을 `Scanner`와 `InputTokenizer`로 비교하는 벤치마크이다.
+ *
+ * 1,000개의 입력 중 `invalidPercent`%는 메뉴판에 없는 문자열이다. `Scanner` 방식은 기존
+ * `Kiosk`와 같이 `Integer.parseInt()`의 예외로 잘못된 입력을 걸러 낸다.
+ * `-prof gc`로 실행하면 입력 하나당 할당량도 비교할 수 있다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputTokenizerBenchmark {
+    private static final int INPUT_COUNT = 1_000;
+
+    @Param({"0", "10"})
+    private int invalidPercent;
+
+    private byte[] script;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            builder.append(i % 100 < invalidPercent ? "abc" : String.valueOf(i % 5)).append('\n');
+        }
+        script = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 기존 방식: `Scanner.next()`로 읽고, `Integer.parseInt()`의 예외로 잘못된 입력을 확인한다.
+     */
+    @Benchmark
+    public int scanner() {
+        Scanner scanner = new Scanner(new ByteArrayInputStream(script), StandardCharsets.UTF_8);
+        int sum = 0;
+        while (scanner.hasNext()) {
+            try {
+                int option = Integer.parseInt(scanner.next().trim());
+                sum += option >= 0 && option <= 4 ? option : InputTokenizer.INVALID;
+            } catch (NumberFormatException e) {
+                sum += InputTokenizer.INVALID;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * `InputTokenizer`로 읽고, 범위 검사 결과를 반환값으로 확인한다.
+     */
+    @Benchmark
+    public int tokenizer() {
+        InputTokenizer tokenizer = new InputTokenizer(new ByteArrayInputStream(script), StandardCharsets.UTF_8);
+        int sum = 0;
+        while (tokenizer.nextToken()) {
+            sum += tokenizer.parseOption(0, 4);
+        }
+        return sum;
+    }
+}
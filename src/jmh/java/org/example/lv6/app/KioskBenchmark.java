@@ -0,0 +1,73 @@
+package org.example.lv6.app;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.menu.Menu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크립트로 작성된 입력으로 `Kiosk`의 주문 과정 전체를 실행하는 벤치마크이다.
+ *
+ * 한 번의 실행은 `cartSize`개의 항목을 장바구니에 담고, 주문 및 할인을 적용한 뒤
+ * 프로그램을 종료하는 과정으로 이루어진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KioskBenchmark {
+
+    @Param({"4", "100"})
+    private int menuSize;
+
+    @Param({"1", "20"})
+    private int cartSize;
+
+    private List<Menu> menus;
+    private byte[] script;
+    private PrintStream out;
+
+    @Setup
+    public void setUp() {
+        menus = BenchmarkFixtures.createMenus(3, menuSize);
+        script = createOrderScript().getBytes(StandardCharsets.UTF_8);
+        out = BenchmarkFixtures.nullPrintStream();
+    }
+
+    /**
+     * 항목 추가, 주문, 할인 선택, 종료로 이루어진 주문 과정을 실행한다.
+     */
+    @Benchmark
+    public void orderFlow() {
+        new Kiosk(menus, new ByteArrayInputStream(script), out).start();
+    }
+
+    private String createOrderScript() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cartSize; i++) {
+            int category = i % menus.size() + 1;
+            int item = i % menuSize + 1;
+            sb.append(category).append('\n').append(item).append("\n1\n"); // 카테고리, 항목, 추가 확인
+        }
+        sb.append(menus.size() + 1).append("\n1\n3\n"); // 주문, 주문 확정, 학생 할인
+        sb.append("0\n"); // 종료
+        return sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.lv6.app;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `KioskSessionManager`로 여러 세션을 동시에 실행하는 처리량을 측정하는 벤치마크이다.
+ *
+ * 한 번의 실행은 `concurrentSessions`개의 세션을 동시에 시작하고 모두 끝날 때까지
+ * 기다린다. 초당 세션 수는 (ops/s × concurrentSessions)이며, 이를 코어 수
+ * (`Runtime.availableProcessors()`)로 나누면 코어당 세션 처리량이 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KioskSessionManagerBenchmark {
+
+    @Param({"20", "200"})
+    private int concurrentSessions;
+
+    private KioskSessionManager sessionManager;
+    private byte[] script;
+    private Future<?>[] sessions;
+
+    @Setup
+    public void setUp() {
+        sessionManager = new KioskSessionManager(BenchmarkFixtures.createMenus(3, 10));
+        script = "1\n2\n1\n2\n1\n1\n4\n1\n4\n0\n".getBytes(StandardCharsets.UTF_8); // 항목 2개 추가, 주문, 일반 할인, 종료
+        sessions = new Future<?>[concurrentSessions];
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionManager.close();
+    }
+
+    /**
+     * 세션들을 동시에 실행하고 모두 끝날 때까지 기다린다.
+     */
+    @Benchmark
+    public void runSessions() throws ExecutionException, InterruptedException {
+        for (int i = 0; i < concurrentSessions; i++) {
+            sessions[i] = sessionManager.open(new ByteArrayInputStream(script), OutputStream.nullOutputStream(), null);
+        }
+        for (Future<?> session : sessions) {
+            session.get();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.lv6.app;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.cart.CartPool;
+import org.example.lv6.domain.menu.Menu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 세션에서 주문을 반복할 때, 주문 하나마다 생성되는 객체의 양을 측정하는 벤치마크이다.
+ *
+ * 세션 관리자처럼 풀에서 빌린 장바구니를 사용하는 `Kiosk`를 한 번만 만들고, 한 번의 실행마다
+ * `cartSize`개의 항목을 담아 주문을 완료한 후 메인 메뉴로 돌아온다.
+ * `-prof gc`로 실행하면 `gc.alloc.rate.norm`이 주문 하나당 생성된 객체의 바이트 수이다.
+ * (예: ./gradlew jmh -Pjmh.includes=OrderAllocationBenchmark -Pjmh.args="-prof gc")
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderAllocationBenchmark {
+
+    @Param({"1", "10"})
+    private int cartSize;
+
+    private Kiosk kiosk;
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        List<Menu> menus = BenchmarkFixtures.createMenus(3, 10);
+        kiosk = new Kiosk(menus, new CartPool(1).acquire(), InputStream.nullInputStream(),
+                OutputStream.nullOutputStream(), StandardCharsets.UTF_8);
+        kiosk.begin();
+        inputs = createOrderInputs(menus.size()).toArray(String[]::new);
+    }
+
+    /**
+     * 항목 추가, 주문, 할인 선택으로 이루어진 주문 하나를 완료한다.
+     */
+    @Benchmark
+    public boolean order() {
+        for (String input : inputs) {
+            kiosk.handleInput(input);
+        }
+        return kiosk.isTerminated();
+    }
+
+    private List<String> createOrderInputs(int categoryCount) {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < cartSize; i++) {
+            inputs.add(String.valueOf(i % categoryCount + 1)); // 카테고리
+            inputs.add(String.valueOf(i % 10 + 1)); // 항목
+            inputs.add("1"); // 추가 확인
+        }
+        inputs.add(String.valueOf(categoryCount + 1)); // 주문
+        inputs.add("1"); // 주문 확정
+        inputs.add("3"); // 학생 할인
+        return inputs;
+    }
+}
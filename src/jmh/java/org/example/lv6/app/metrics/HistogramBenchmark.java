@@ -0,0 +1,56 @@
+package org.example.lv6.app.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 하나의 `Histogram`에 동시에 값을 기록할 때의 비용을 측정하는 벤치마크이다.
+ *
+ * 세션마다 화면을 처리할 때 한 번씩 기록하므로, 기록 비용이 키오스크 처리 시간에
+ * 비해 무시할 수 있을 만큼 작은지 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistogramBenchmark {
+    private final Histogram histogram = new Histogram();
+
+    /**
+     * 한 스레드가 값을 기록한다.
+     */
+    @Benchmark
+    public void record() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+
+    /**
+     * 네 개의 스레드가 같은 히스토그램에 동시에 값을 기록한다.
+     */
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+
+    /**
+     * 기록된 값에서 99번째 백분위수를 계산한다.
+     */
+    @Benchmark
+    public long valueAtQuantile() {
+        return histogram.getValueAtQuantile(0.99);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.lv6.catalog;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CSV 메뉴 카탈로그와 바이너리 스냅샷을 불러오는 성능을 비교하는 벤치마크이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuCatalogLoaderBenchmark {
+
+    @Param({"100", "20000"})
+    private int itemCount;
+
+    private Path directory;
+    private Path csv;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("catalog-benchmark");
+        csv = directory.resolve("menu.csv");
+        snapshot = directory.resolve("menu.bin");
+
+        List<Menu> menus = BenchmarkFixtures.createMenus(10, itemCount / 10);
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            for (Menu menu : menus) {
+                for (MenuItem menuItem : menu.getMenuItems()) {
+                    writer.write(menu.getCategory() + "," + menuItem.getName() + ","
+                            + menuItem.getPrice().format() + "," + menuItem.getDescription());
+                    writer.newLine();
+                }
+            }
+        }
+        MenuCatalogLoader.compile(csv, snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * CSV 파일을 해석하여 메뉴 리스트를 만든다.
+     */
+    @Benchmark
+    public List<Menu> parseCsv() throws IOException {
+        return CsvCatalogParser.parse(csv);
+    }
+
+    /**
+     * 메모리에 매핑한 바이너리 스냅샷에서 메뉴 리스트를 만든다.
+     */
+    @Benchmark
+    public List<Menu> readSnapshot() throws IOException {
+        return CatalogSnapshot.read(snapshot);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `Cart`의 항목 추가, 제거, 총 금액 조회 성능을 측정하는 벤치마크이다.
+ *
+ * 장바구니는 `cartSize`개의 서로 다른 항목으로 미리 채워진 상태에서 측정한다.
+ * `implementation`으로 측정할 장바구니 구현을 고르며, 객체 생성량은 `-prof gc`로 비교할 수 있다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int cartSize;
+
+    @Param({"simple", "primitive"})
+    private String implementation;
+
+    private Cart cart;
+    private MenuItem[] menuItems;
+    private MenuItem extraItem;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cart = implementation.equals("primitive") ? new PrimitiveCart() : new SimpleCart();
+        menuItems = new MenuItem[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            menuItems[i] = BenchmarkFixtures.createMenuItem("Item-" + i, i);
+            cart.addCartItem(menuItems[i]);
+        }
+        extraItem = BenchmarkFixtures.createMenuItem("Extra", cartSize);
+    }
+
+    /**
+     * 이미 담긴 항목을 추가하여 수량을 증가시킨다.
+     */
+    @Benchmark
+    public void addExistingItem() {
+        cart.addCartItem(menuItems[next++ % cartSize]);
+    }
+
+    /**
+     * 새로운 항목을 추가한 뒤 이름으로 제거한다.
+     */
+    @Benchmark
+    public boolean addAndRemoveItem() {
+        cart.addCartItem(extraItem);
+        return cart.removeItemByName("EXTRA");
+    }
+
+    /**
+     * 장바구니의 총 금액을 조회한다.
+     */
+    @Benchmark
+    public Money totalPrice() {
+        return cart.getTotalPrice();
+    }
+}
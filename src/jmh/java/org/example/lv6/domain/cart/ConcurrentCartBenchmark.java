@@ -0,0 +1,91 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.menu.MenuItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 스레드가 하나의 `ConcurrentCart`를 함께 사용할 때의 성능과 정확성을 확인하는 벤치마크이다.
+ *
+ * 네 개의 스레드가 같은 항목들을 동시에 추가하고, 한 개의 스레드가 주문 확정용 스냅샷을
+ * 조회한다. 각 반복이 끝나면 스냅샷의 수량 합계와 실제로 추가된 횟수를 비교하여,
+ * 경합 중에 사라진 수량이 있다면 예외를 발생시킨다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCartBenchmark {
+    private static final int ITEM_COUNT = 8;
+
+    private final AtomicLong additions = new AtomicLong();
+    private ConcurrentCart cart;
+    private MenuItem[] menuItems;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cart = new ConcurrentCart();
+        additions.set(0);
+        menuItems = new MenuItem[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            menuItems[i] = BenchmarkFixtures.createMenuItem("Item-" + i, i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyNoLostUpdates() {
+        long counted = cart.getCartItems().stream().mapToLong(CartItem::getCount).sum();
+        if (counted != additions.get() || cart.getItemCount() != additions.get()) {
+            throw new IllegalStateException("수량이 유실되었습니다: 추가 " + additions.get()
+                    + ", 스냅샷 " + counted + ", 집계 " + cart.getItemCount());
+        }
+    }
+
+    /**
+     * 스레드 상태로 각 스레드가 추가할 항목의 순번을 관리한다.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        private int next;
+    }
+
+    /**
+     * 여러 스레드가 같은 항목들을 동시에 추가한다.
+     */
+    @Benchmark
+    @Group("sharedCart")
+    @GroupThreads(4)
+    public void addCartItem(ThreadCursor cursor) {
+        cart.addCartItem(menuItems[cursor.next++ % ITEM_COUNT]);
+        additions.incrementAndGet();
+    }
+
+    /**
+     * 항목이 추가되는 도중에 주문 확정용 스냅샷을 조회한다.
+     */
+    @Benchmark
+    @Group("sharedCart")
+    @GroupThreads(1)
+    public List<CartItem> snapshot() {
+        return cart.getCartItems();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.lv6.domain.menu;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 화면 출력과 메뉴 항목 문자열 변환 성능을 측정하는 벤치마크이다.
+ *
+ * 출력은 모두 버려지는 스트림으로 보내므로, 콘솔 I/O를 제외한 렌더링 비용을 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuBenchmark {
+
+    @Param({"4", "100", "1000"})
+    private int menuSize;
+
+    private Menu menu;
+    private MenuItem menuItem;
+    private String lastItemName;
+    private PrintStream out;
+
+    @Setup
+    public void setUp() {
+        menu = BenchmarkFixtures.createMenu("Burgers", menuSize);
+        menuItem = menu.getMenuItems().get(0);
+        lastItemName = menu.getMenuItem(menuSize).getName().toUpperCase();
+        out = BenchmarkFixtures.nullPrintStream();
+    }
+
+    /**
+     * 메뉴에 포함된 모든 메뉴 항목을 출력한다.
+     */
+    @Benchmark
+    public void printMenuItems() {
+        menu.printMenuItems(out);
+    }
+
+    /**
+     * 캐시된 메뉴 항목 화면을 조회한다.
+     */
+    @Benchmark
+    public byte[] renderMenuItems() {
+        return menu.renderMenuItems(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 번호로 마지막 메뉴 항목을 조회한다.
+     */
+    @Benchmark
+    public MenuItem menuItemByNumber() {
+        return menu.getMenuItem(menuSize);
+    }
+
+    /**
+     * 대소문자가 다른 이름으로 마지막 메뉴 항목을 찾는다.
+     */
+    @Benchmark
+    public Optional<MenuItem> menuItemByName() {
+        return menu.findMenuItem(lastItemName);
+    }
+
+    /**
+     * 메뉴 항목 하나를 문자열로 변환한다.
+     */
+    @Benchmark
+    public String menuItemToString() {
+        return menuItem.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.lv6.domain.menu;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 항목 수에 따른 이름 검색 성능을 측정하는 벤치마크이다.
+ *
+ * 두세 개의 단어를 조합한 이름("Spicy Chicken Wrap" 등)을 가진 메뉴 항목을 `itemCount`개
+ * 만들고, 이름 전체, 단어의 앞부분, 오타가 섞인 이름으로 검색한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuSearchIndexBenchmark {
+    private static final String[] WORDS = {
+            "Spicy", "Chicken", "Wrap", "Double", "Cheese", "Burger", "Bacon", "Smoke", "Shack", "Vanilla",
+            "Shake", "Lemon", "Soda", "Iced", "Coffee", "Green", "Salad", "Crispy", "Fries", "Truffle",
+            "Mushroom", "Onion", "Rings", "Chocolate", "Cone", "Berry", "Float", "Garlic", "Pepper", "Melt"};
+    private static final int RESULT_LIMIT = 9;
+
+    @Param({"100", "20000"})
+    private int itemCount;
+
+    private List<Menu> menus;
+    private MenuSearchIndex index;
+    private String exactQuery; // 색인에 있는 메뉴 항목의 이름
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        menus = new ArrayList<>();
+        Menu menu = null;
+        for (int i = 0; i < itemCount; i++) {
+            if (i % 100 == 0) {
+                menu = new Menu("C" + i / 100);
+                menus.add(menu);
+            }
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + (random.nextBoolean() ? " " + WORDS[random.nextInt(WORDS.length)] : "") + " " + i;
+            menu.addMenuItem(BenchmarkFixtures.createMenuItem(name, i));
+        }
+        index = MenuSearchIndex.of(menus);
+        exactQuery = menus.get(menus.size() / 2).getMenuItems().get(0).getName();
+    }
+
+    /**
+     * 검색 색인을 만든다(메뉴를 다시 불러올 때 한 번 수행된다).
+     */
+    @Benchmark
+    public MenuSearchIndex build() {
+        return MenuSearchIndex.of(menus);
+    }
+
+    /**
+     * 이름 전체로 검색한다.
+     */
+    @Benchmark
+    public List<MenuItem> exact() {
+        return index.search(exactQuery, RESULT_LIMIT);
+    }
+
+    /**
+     * 이름 안의 단어의 앞부분으로 검색한다.
+     */
+    @Benchmark
+    public List<MenuItem> prefix() {
+        return index.search("truf", RESULT_LIMIT);
+    }
+
+    /**
+     * 오타가 섞인 이름으로 검색한다.
+     */
+    @Benchmark
+    public List<MenuItem> fuzzy() {
+        return index.search("chocolat cnoe", RESULT_LIMIT);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.lv6.domain.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 `Float` 가격 계산과 `Money` 가격 계산의 성능을 비교하는 벤치마크이다.
+ *
+ * 장바구니 항목들의 (가격 × 수량) 합계를 구한 뒤 할인율을 적용하는 과정을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "500"})
+    private int cartSize;
+
+    private Float[] floatPrices;
+    private Money[] moneyPrices;
+    private long[] minorPrices;
+    private int[] counts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        floatPrices = new Float[cartSize];
+        moneyPrices = new Money[cartSize];
+        minorPrices = new long[cartSize];
+        counts = new int[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            long minor = 100 + random.nextInt(1900);
+            floatPrices[i] = minor / 100f;
+            moneyPrices[i] = Money.ofMinor(minor);
+            minorPrices[i] = minor;
+            counts[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    /**
+     * 기존 방식: 박싱된 `Float` 가격을 곱해 double로 합산하고, float로 할인율을 적용한다.
+     */
+    @Benchmark
+    public float floatTotal() {
+        double sum = 0;
+        for (int i = 0; i < cartSize; i++) {
+            sum += floatPrices[i] * counts[i];
+        }
+        float total = (float) sum;
+        return total * (100 - 3) / 100;
+    }
+
+    /**
+     * `Money` 객체의 연산 메서드로 합계를 구하고 할인율을 적용한다.
+     */
+    @Benchmark
+    public Money moneyTotal() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < cartSize; i++) {
+            total = total.plus(moneyPrices[i].times(counts[i]));
+        }
+        return total.discount(3);
+    }
+
+    /**
+     * `Cart`와 같이 최소 단위의 long 값으로 합계를 유지하고 할인율을 적용한다.
+     */
+    @Benchmark
+    public long minorTotal() {
+        long total = 0;
+        for (int i = 0; i < cartSize; i++) {
+            total += minorPrices[i] * counts[i];
+        }
+        return Money.discount(total, 3);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인 규칙 수에 따른 결제 금액 계산 성능을 측정하는 벤치마크이다.
+ *
+ * 1,000개의 메뉴 항목 중 일부를 대상으로 하는 세트, 수량, 시간대 할인 규칙을 `ruleCount`개
+ * 만들고, 10종류의 항목이 담긴 장바구니의 결제 금액을 계산한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"1", "100", "500"})
+    private int ruleCount;
+
+    private PricingEngine engine;
+    private List<CartItem> cartItems;
+    private LocalTime time;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (Menu menu : BenchmarkFixtures.createMenus(10, 100)) {
+            menuItems.addAll(menu.getMenuItems());
+        }
+
+        List<PricingRule> rules = new ArrayList<>();
+        rules.add(new UserTypeDiscountRule());
+        for (int i = 1; i < ruleCount; i++) {
+            List<MenuItem> items = randomItems(menuItems, random, 5);
+            switch (i % 3) {
+                case 0 -> rules.add(new ComboRule(List.of(items, randomItems(menuItems, random, 5)), Money.ofMinor(100)));
+                case 1 -> rules.add(new QuantityBreakRule(items, 3, 10));
+                default -> rules.add(new TimeWindowRule(LocalTime.of(14, 0), LocalTime.of(17, 0), items, 20));
+            }
+        }
+        engine = new PricingEngine(rules);
+
+        cartItems = new ArrayList<>();
+        for (MenuItem menuItem : randomItems(menuItems, random, 10)) {
+            cartItems.add(new CartItem(menuItem, 1 + random.nextInt(3)));
+        }
+        time = LocalTime.of(15, 0);
+    }
+
+    /**
+     * 장바구니의 결제 금액을 계산한다.
+     */
+    @Benchmark
+    public Money price() {
+        return engine.price(cartItems, UserType.STUDENT, time);
+    }
+
+    private static List<MenuItem> randomItems(List<MenuItem> menuItems, Random random, int count) {
+        List<MenuItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(menuItems.get(random.nextInt(menuItems.size())));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.lv6.kitchen;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 세션이 동시에 주문을 완료할 때 주문을 주방에 전달하는 데 걸리는 시간을 측정하는 벤치마크이다.
+ *
+ * 세 개의 카테고리에 걸친 주문을 네 개의 스레드가 동시에 전달하고, 각 스테이션은 주문표를
+ * 받는 즉시 처리를 마친다. 스테이션이 한 번에 전달받는 최대 주문 수(`maxBatch`)에 따라
+ * 스테이션이 따라잡는 속도와 버퍼가 가득 차 기다리는 시간이 달라진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KitchenDispatcherBenchmark {
+    private static final int ORDER_VARIANTS = 16;
+
+    @Param({"1", "32"})
+    private int maxBatch;
+
+    private KitchenDispatcher dispatcher;
+    private Order[] orders;
+
+    /**
+     * 각 스레드가 전달할 주문의 순번을 관리한다.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() {
+        List<Menu> menus = BenchmarkFixtures.createMenus(3, 10);
+        dispatcher = new KitchenDispatcher(new MenuCatalog(menus), (station, tickets) -> { },
+                KitchenDispatcher.DEFAULT_CAPACITY, maxBatch);
+
+        orders = new Order[ORDER_VARIANTS];
+        for (int i = 0; i < ORDER_VARIANTS; i++) {
+            List<CartItem> cartItems = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                Menu menu = menus.get((i + j) % menus.size());
+                cartItems.add(new CartItem(menu.getMenuItem((i * 3 + j) % 10 + 1), 1));
+            }
+            orders[i] = Order.of(System.currentTimeMillis(), cartItems, UserType.GENERAL, Money.parse("20.0"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    /**
+     * 네 개의 스레드가 동시에 주문을 전달한다.
+     */
+    @Benchmark
+    @Threads(4)
+    public void onOrder(ThreadCursor cursor) {
+        dispatcher.onOrder(orders[cursor.next++ % ORDER_VARIANTS]);
+    }
+}
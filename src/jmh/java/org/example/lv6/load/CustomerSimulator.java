@@ -0,0 +1,254 @@
+package org.example.lv6.load;
+
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.menu.MenuSearchIndex;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 키오스크 화면을 따라가며 실제 손님처럼 보이는 무작위 입력을 하나씩 만드는 클래스이다.
+ *
+ * 키오스크의 화면 상태와 장바구니를 그대로 따라 기록하므로, 만든 입력은 항상 현재 화면에서
+ * 의미가 있다. 손님 한 명은 메뉴를 둘러보며 몇 개의 항목을 담고(가끔 검색하거나, 뒤로 가거나,
+ * 추가를 취소하거나, 잘못 입력한다), 주문 확인 화면에서 가끔 항목을 제거한 후 할인 유형을 골라
+ * 주문한다. 드물게 주문을 취소하기도 한다. 세션 하나에서 여러 손님이 차례로 주문한 후 종료한다.
+ *
+ * 메인 메뉴 번호는 키오스크와 같이 카테고리(1 ~ n), 검색(n+1), 주문(n+2), 취소(n+3), 종료(0)이다.
+ *
+ * - `menus`: 키오스크에 출력된 메뉴 리스트
+ * - `searchableItems`: 이름으로 검색하면 첫 번째 결과로 나오는 메뉴 항목
+ * - `random`: 입력을 고르는 난수 생성기
+ * - `step`: 키오스크의 현재 화면
+ * - `cart`: 키오스크의 장바구니에 담긴 메뉴 항목 이름별 수량
+ * - `shownItems`, `selectedItem`: 메뉴 항목 화면에 출력된 항목과 추가를 확인 중인 항목
+ * - `targetCount`: 현재 손님이 담으려는 수량
+ * - `visitsLeft`: 세션을 종료하기 전까지 남은 손님 수
+ * - `orders`: 지금까지 완료된 주문 수
+ */
+public class CustomerSimulator {
+    private static final String INVALID_INPUT = "x";
+    private static final int MAX_VISITS_PER_SESSION = 20;
+    private static final int MAX_TARGET_COUNT = 8;
+
+    /**
+     * 입력을 기다리는 키오스크 화면이다.
+     */
+    public enum Step {
+        MAIN_MENU,
+        MENU_ITEMS,
+        CART_ADDITION,
+        ORDER_CONFIRMATION,
+        ITEM_REMOVAL,
+        SEARCH,
+        DISCOUNT
+    }
+
+    private final List<Menu> menus;
+    private final List<MenuItem> searchableItems;
+    private final Random random;
+
+    private Step step = Step.MAIN_MENU;
+    private final Map<String, Integer> cart = new LinkedHashMap<>();
+    private int cartCount;
+    private List<MenuItem> shownItems = List.of();
+    private MenuItem selectedItem;
+    private int targetCount;
+    private int visitsLeft;
+    private long orders;
+
+    /**
+     * 주어진 메뉴 리스트를 출력하는 키오스크에 입력할 `CustomerSimulator` 객체를 생성한다.
+     *
+     * @param menus 키오스크에 출력된 메뉴 리스트
+     * @param searchIndex 키오스크가 검색에 사용하는 색인
+     * @param random 입력을 고르는 난수 생성기
+     */
+    public CustomerSimulator(List<Menu> menus, MenuSearchIndex searchIndex, Random random) {
+        this.menus = menus;
+        this.random = random;
+        this.searchableItems = new ArrayList<>();
+        for (Menu menu : menus) {
+            for (MenuItem menuItem : menu.getMenuItems()) {
+                List<MenuItem> results = searchIndex.search(menuItem.getName(), 1);
+                if (!results.isEmpty() && results.get(0) == menuItem) {
+                    searchableItems.add(menuItem);
+                }
+            }
+        }
+    }
+
+    /**
+     * 새로운 세션을 시작한다. 키오스크의 `begin()`을 호출한 직후에 호출한다.
+     */
+    public void beginSession() {
+        step = Step.MAIN_MENU;
+        cart.clear();
+        cartCount = 0;
+        visitsLeft = 1 + random.nextInt(MAX_VISITS_PER_SESSION);
+        beginVisit();
+    }
+
+    /**
+     * 키오스크의 현재 화면을 반환한다.
+     *
+     * @return 다음 입력을 기다리는 화면
+     */
+    public Step getStep() {
+        return step;
+    }
+
+    /**
+     * 지금까지 완료된 주문 수를 반환한다.
+     *
+     * @return 완료된 주문 수
+     */
+    public long getOrderCount() {
+        return orders;
+    }
+
+    /**
+     * 현재 화면에 입력할 값을 고르고, 그 입력을 처리한 후의 화면으로 이동한다.
+     *
+     * @return 키오스크에 입력할 값
+     */
+    public String next() {
+        return switch (step) {
+            case MAIN_MENU -> nextMainMenu();
+            case MENU_ITEMS -> nextMenuItem();
+            case CART_ADDITION -> nextCartAddition();
+            case ORDER_CONFIRMATION -> nextOrderConfirmation();
+            case ITEM_REMOVAL -> nextItemRemoval();
+            case SEARCH -> nextSearch();
+            case DISCOUNT -> nextDiscount();
+        };
+    }
+
+    private String nextMainMenu() {
+        int categoryCount = menus.size();
+        if (cartCount == 0 && visitsLeft == 0) { // 세션 종료
+            return "0";
+        }
+        if (random.nextInt(50) == 0) {
+            return INVALID_INPUT;
+        }
+
+        if (cartCount >= targetCount) {
+            if (random.nextInt(30) == 0) { // 주문 취소
+                clearCart();
+                endVisit();
+                return String.valueOf(categoryCount + 2);
+            }
+            step = Step.ORDER_CONFIRMATION;
+            return String.valueOf(categoryCount + 1);
+        }
+
+        if (!searchableItems.isEmpty() && random.nextInt(10) == 0) {
+            step = Step.SEARCH;
+            return String.valueOf(categoryCount + 3);
+        }
+        int category = random.nextInt(categoryCount);
+        shownItems = menus.get(category).getMenuItems();
+        step = Step.MENU_ITEMS;
+        return String.valueOf(category + 1);
+    }
+
+    private String nextMenuItem() {
+        if (random.nextInt(12) == 0) { // 뒤로가기
+            step = Step.MAIN_MENU;
+            return "0";
+        }
+
+        int index = random.nextInt(shownItems.size());
+        selectedItem = shownItems.get(index);
+        step = Step.CART_ADDITION;
+        return String.valueOf(index + 1);
+    }
+
+    private String nextSearch() {
+        // 검색한 메뉴 항목은 첫 번째 결과로 나오므로, 결과 화면에서는 1번을 고른다.
+        MenuItem menuItem = searchableItems.get(random.nextInt(searchableItems.size()));
+        shownItems = List.of(menuItem);
+        step = Step.MENU_ITEMS;
+        return random.nextBoolean() ? menuItem.getName() : menuItem.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private String nextCartAddition() {
+        step = Step.MAIN_MENU;
+        if (random.nextInt(10) == 0) { // 추가 취소
+            return "2";
+        }
+
+        cart.merge(selectedItem.getName(), 1, Integer::sum);
+        cartCount++;
+        return "1";
+    }
+
+    private String nextOrderConfirmation() {
+        int choice = random.nextInt(20);
+        if (choice < 2) { // 항목 제거
+            step = Step.ITEM_REMOVAL;
+            return "2";
+        }
+        if (choice == 2) { // 메뉴판으로 돌아가 하나 더 담는다.
+            targetCount = cartCount + 1;
+            step = Step.MAIN_MENU;
+            return "3";
+        }
+        step = Step.DISCOUNT;
+        return "1";
+    }
+
+    private String nextItemRemoval() {
+        List<String> names = new ArrayList<>(cart.keySet());
+        String name = names.get(random.nextInt(names.size()));
+        cartCount -= cart.remove(name);
+        step = cart.isEmpty() ? Step.MAIN_MENU : Step.ORDER_CONFIRMATION;
+        return random.nextBoolean() ? name : name.toUpperCase(Locale.ROOT);
+    }
+
+    private String nextDiscount() {
+        // 대부분은 일반 손님이고, 일부는 할인 대상이다.
+        UserType[] userTypes = UserType.values();
+        int index = random.nextInt(10) < 7 ? indexOf(userTypes, UserType.GENERAL) : random.nextInt(userTypes.length);
+        orders++;
+        clearCart();
+        endVisit();
+        return String.valueOf(index + 1);
+    }
+
+    private void beginVisit() {
+        // 대부분 1 ~ 3개를 담고, 가끔 더 많이 담는다.
+        int count = 1;
+        while (count < MAX_TARGET_COUNT && random.nextInt(5) < 3) {
+            count++;
+        }
+        targetCount = count;
+    }
+
+    private void endVisit() {
+        step = Step.MAIN_MENU;
+        visitsLeft--;
+        beginVisit();
+    }
+
+    private void clearCart() {
+        cart.clear();
+        cartCount = 0;
+    }
+
+    private static int indexOf(UserType[] userTypes, UserType userType) {
+        for (int i = 0; i < userTypes.length; i++) {
+            if (userTypes[i] == userType) {
+                return i;
+            }
+        }
+        return userTypes.length - 1;
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.lv6.load;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.app.InputTokenizer;
+import org.example.lv6.app.Kiosk;
+import org.example.lv6.app.metrics.Histogram;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.catalog.MenuCatalogLoader;
+import org.example.lv6.domain.cart.CartPool;
+import org.example.lv6.domain.cart.PrimitiveCart;
+import org.example.lv6.domain.menu.Menu;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 손님이 동시에 키오스크를 사용하는 상황을 만들어, 하드웨어 규모를 정하는 데 필요한
+ * 처리량과 지연 시간, 객체 할당량을 측정하는 부하 생성기이다.
+ *
+ * 손님마다 하나의 스레드가 풀에서 빌린 장바구니로 `Kiosk`를 만들고, `CustomerSimulator`가
+ * 만든 입력을 `handleInput()`으로 차례로 전달한다. 화면 출력은 버린다. 세션이 종료되면
+ * 장바구니를 돌려주고 새로운 세션을 시작한다. `--replay`로 콘솔 입력을 기록한 파일을 주면,
+ * 무작위 입력 대신 파일의 입력을 세션마다 처음부터 다시 입력한다.
+ *
+ * 준비 시간 동안 실행한 후 측정 시간 동안의 완료된 주문 수(초당), 화면별 입력 처리 시간의
+ * 분위수, 입력을 처리하는 동안 할당된 객체의 양(초당, 주문당)과 GC 횟수를 출력한다.
+ * 무작위 입력으로 실행한 경우, 만든 입력에서 예상한 주문 수와 키오스크가 완료한 주문 수가
+ * 다르면 입력이 키오스크 화면과 어긋났다는 경고를 출력한다.
+ *
+ * 실행: ./gradlew loadtest -Pload.args="--customers 64 --seconds 30 --think-ms 500"
+ *
+ * - `--customers`: 동시에 키오스크를 사용하는 손님(스레드)의 수 (기본 8)
+ * - `--seconds`, `--warmup-seconds`: 측정 시간과 준비 시간(초) (기본 10, 3)
+ * - `--think-ms`: 손님이 입력하기 전에 고민하는 평균 시간(밀리초, 지수 분포) (기본 0)
+ * - `--seed`: 난수 생성기의 시드 (기본 42)
+ * - `--catalog`: 메뉴 카탈로그 파일(CSV 또는 바이너리 스냅샷), 없으면 4개 카테고리 x 8개 항목의 메뉴
+ * - `--replay`: 세션마다 다시 입력할 콘솔 입력 파일
+ */
+public class LoadGenerator {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final int CART_POOL_CAPACITY = 256;
+
+    private final MenuCatalog catalog;
+    private final int customers;
+    private final int seconds;
+    private final int warmupSeconds;
+    private final long thinkMillis;
+    private final long seed;
+    private final byte[] replay;
+
+    private final CartPool cartPool = new CartPool(CART_POOL_CAPACITY);
+    private final Histogram[] stepNanos = new Histogram[CustomerSimulator.Step.values().length];
+    private final Histogram replayNanos = new Histogram();
+    private final LongAdder inputs = new LongAdder();
+    private final LongAdder completedOrders = new LongAdder();
+    private final LongAdder expectedOrders = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadGenerator(MenuCatalog catalog, int customers, int seconds, int warmupSeconds, long thinkMillis,
+                          long seed, byte[] replay) {
+        this.catalog = catalog;
+        this.customers = customers;
+        this.seconds = seconds;
+        this.warmupSeconds = warmupSeconds;
+        this.thinkMillis = thinkMillis;
+        this.seed = seed;
+        this.replay = replay;
+        for (int i = 0; i < stepNanos.length; i++) {
+            stepNanos[i] = new Histogram();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int customers = 8;
+        int seconds = 10;
+        int warmupSeconds = 3;
+        long thinkMillis = 0;
+        long seed = 42;
+        List<Menu> menus = BenchmarkFixtures.createMenus(4, 8);
+        byte[] replay = null;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("옵션의 값이 없습니다: " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--customers" -> customers = Integer.parseInt(value);
+                case "--seconds" -> seconds = Integer.parseInt(value);
+                case "--warmup-seconds" -> warmupSeconds = Integer.parseInt(value);
+                case "--think-ms" -> thinkMillis = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--catalog" -> menus = MenuCatalogLoader.load(Path.of(value));
+                case "--replay" -> replay = Files.readAllBytes(Path.of(value));
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+            }
+        }
+
+        new LoadGenerator(new MenuCatalog(menus), customers, seconds, warmupSeconds, thinkMillis, seed, replay).run();
+    }
+
+    /**
+     * 손님 스레드를 시작하고, 준비 시간과 측정 시간이 지나면 멈춘 후 결과를 출력한다.
+     */
+    private void run() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            Random random = new Random(seed + i);
+            Thread thread = new Thread(() -> drive(random), "customer-" + (i + 1));
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        System.out.printf("손님 %d명, 준비 %d초, 측정 %d초, 평균 고민 시간 %dms, 메뉴 %d개 카테고리%s%n",
+                customers, warmupSeconds, seconds, thinkMillis, catalog.getMenus().size(),
+                replay == null ? "" : ", 기록된 입력 재생");
+        threads.forEach(Thread::start);
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        long gcCount = gcCount();
+        recording = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(seconds);
+        recording = false;
+        long elapsed = System.nanoTime() - start;
+        gcCount = gcCount() - gcCount;
+
+        running = false;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        report(elapsed, gcCount);
+    }
+
+    /**
+     * 손님 스레드에서 실행되며, 멈출 때까지 세션을 반복한다.
+     */
+    private void drive(Random random) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CustomerSimulator customer = new CustomerSimulator(catalog.getMenus(), catalog.getSearchIndex(), random);
+        while (running) {
+            PrimitiveCart cart = cartPool.acquire();
+            try {
+                Kiosk kiosk = new Kiosk(catalog, cart, InputStream.nullInputStream(), OutputStream.nullOutputStream(),
+                        StandardCharsets.UTF_8);
+                kiosk.addOrderListener(order -> {
+                    if (recording) {
+                        completedOrders.increment();
+                    }
+                });
+                kiosk.begin();
+                if (replay == null) {
+                    simulate(kiosk, customer, random, threadBean);
+                } else {
+                    replay(kiosk, random, threadBean);
+                }
+            } finally {
+                cartPool.release(cart);
+            }
+        }
+    }
+
+    private void simulate(Kiosk kiosk, CustomerSimulator customer, Random random, com.sun.management.ThreadMXBean threadBean) {
+        customer.beginSession();
+        while (running && !kiosk.isTerminated()) {
+            think(random);
+            CustomerSimulator.Step step = customer.getStep();
+            long orders = customer.getOrderCount();
+            String input = customer.next();
+            boolean measured = recording;
+            long bytes = threadBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            kiosk.handleInput(input);
+            long elapsed = System.nanoTime() - start;
+            bytes = threadBean.getCurrentThreadAllocatedBytes() - bytes;
+            if (measured) {
+                stepNanos[step.ordinal()].record(elapsed);
+                allocatedBytes.add(bytes);
+                inputs.increment();
+                expectedOrders.add(customer.getOrderCount() - orders);
+            }
+        }
+    }
+
+    private void replay(Kiosk kiosk, Random random, com.sun.management.ThreadMXBean threadBean) {
+        InputTokenizer tokenizer = new InputTokenizer(new ByteArrayInputStream(replay), StandardCharsets.UTF_8);
+        while (running && !kiosk.isTerminated() && (kiosk.expectsName() ? tokenizer.nextLine() : tokenizer.nextToken())) {
+            think(random);
+            boolean measured = recording;
+            long bytes = threadBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            kiosk.handleInput(tokenizer);
+            long elapsed = System.nanoTime() - start;
+            bytes = threadBean.getCurrentThreadAllocatedBytes() - bytes;
+            if (measured) {
+                replayNanos.record(elapsed);
+                allocatedBytes.add(bytes);
+                inputs.increment();
+            }
+        }
+    }
+
+    /**
+     * 손님이 다음 입력을 고민하는 시간만큼 기다린다. 평균 고민 시간이 0이면 바로 입력한다.
+     */
+    private void think(Random random) {
+        if (thinkMillis <= 0) {
+            return;
+        }
+
+        long nanos = (long) (-Math.log(1 - random.nextDouble()) * thinkMillis * 1_000_000);
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void report(long elapsedNanos, long gcCount) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long orders = completedOrders.sum();
+        long bytes = allocatedBytes.sum();
+
+        System.out.printf("%n완료된 주문: %d건 (%.1f건/초), 처리한 입력: %d개 (%.1f개/초)%n",
+                orders, orders / elapsedSeconds, inputs.sum(), inputs.sum() / elapsedSeconds);
+        System.out.printf("%n화면별 입력 처리 시간(마이크로초)%n");
+        System.out.printf("%-20s %10s %10s %10s %10s%n", "화면", "입력 수", "p50", "p99", "최대");
+        if (replay == null) {
+            for (CustomerSimulator.Step step : CustomerSimulator.Step.values()) {
+                printLatency(step.name().toLowerCase(Locale.ROOT), stepNanos[step.ordinal()]);
+            }
+        } else {
+            printLatency("replay", replayNanos);
+        }
+
+        System.out.printf("%n입력 처리 중 할당: %.1f MB/초, 주문당 %.0f B, 입력당 %.0f B, GC %d회%n",
+                bytes / elapsedSeconds / (1024 * 1024), orders == 0 ? 0.0 : (double) bytes / orders,
+                inputs.sum() == 0 ? 0.0 : (double) bytes / inputs.sum(), gcCount);
+
+        if (replay == null && expectedOrders.sum() != orders) {
+            System.out.printf("%n경고: 입력이 키오스크 화면과 어긋났습니다. (예상 주문 %d건, 완료된 주문 %d건)%n",
+                    expectedOrders.sum(), orders);
+        }
+    }
+
+    private static void printLatency(String step, Histogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        System.out.printf("%-20s %10d %10.1f %10.1f %10.1f%n", step, histogram.getCount(),
+                histogram.getValueAtQuantile(0.5) / NANOS_PER_MICRO, histogram.getValueAtQuantile(0.99) / NANOS_PER_MICRO,
+                histogram.getMax() / NANOS_PER_MICRO);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.lv6.sales;
+
+import org.example.lv6.BenchmarkFixtures;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 세션이 동시에 주문을 완료할 때 판매 실적 집계에 걸리는 시간을 측정하는 벤치마크이다.
+ *
+ * 100개의 메뉴 항목 중 5종류가 담긴 주문을 네 개의 스레드가 동시에 집계하고,
+ * 그동안 한 스레드가 판매 실적을 조회하는 경우도 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalesAggregatorBenchmark {
+    private static final int ORDER_VARIANTS = 16;
+
+    private SalesAggregator aggregator;
+    private Order[] orders;
+
+    /**
+     * 각 스레드가 집계할 주문의 순번을 관리한다.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() {
+        List<Menu> menus = BenchmarkFixtures.createMenus(4, 25);
+        aggregator = new SalesAggregator(new MenuCatalog(menus));
+
+        orders = new Order[ORDER_VARIANTS];
+        for (int i = 0; i < ORDER_VARIANTS; i++) {
+            List<CartItem> cartItems = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                Menu menu = menus.get((i + j) % menus.size());
+                cartItems.add(new CartItem(menu.getMenuItem((i * 7 + j) % 25 + 1), 2));
+            }
+            orders[i] = Order.of(System.currentTimeMillis(), cartItems, UserType.GENERAL, Money.parse("30.0"));
+            aggregator.onOrder(orders[i]);
+        }
+    }
+
+    /**
+     * 네 개의 스레드가 동시에 주문을 집계한다.
+     */
+    @Benchmark
+    @Threads(4)
+    public void onOrder(ThreadCursor cursor) {
+        aggregator.onOrder(orders[cursor.next++ % ORDER_VARIANTS]);
+    }
+
+    /**
+     * 메뉴 항목별 판매 실적을 조회한다.
+     */
+    @Benchmark
+    public List<ItemSales> getItemSales() {
+        return aggregator.getItemSales();
+    }
+
+    /**
+     * 최근 15분 동안의 판매 실적을 조회한다.
+     */
+    @Benchmark
+    public SalesWindow getRecentSales() {
+        return aggregator.getRecentSales(15);
+    }
+}
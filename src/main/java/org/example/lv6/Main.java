@@ -1,9 +1,32 @@
 package org.example.lv6;
 
 import org.example.lv6.app.Kiosk;
+import org.example.lv6.app.KioskEventLoopServer;
+import org.example.lv6.app.KioskServer;
+import org.example.lv6.app.KioskSessionManager;
+import org.example.lv6.app.metrics.KioskMetrics;
+import org.example.lv6.app.metrics.MetricsHttpServer;
+import org.example.lv6.app.metrics.MetricsSource;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.catalog.MenuCatalogLoader;
+import org.example.lv6.catalog.MenuCatalogWatcher;
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.SimpleCart;
 import org.example.lv6.domain.menu.Menu;
 import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.journal.JournaledCart;
+import org.example.lv6.journal.OrderJournal;
+import org.example.lv6.kitchen.KitchenDispatcher;
+import org.example.lv6.kitchen.TicketPrinter;
+import org.example.lv6.sales.SalesAggregator;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,16 +34,246 @@ import java.util.List;
  * 키오스크를 실행시키는 클래스이다.
  *
  * 메뉴를 초기화하고, 이를 활용해 `Kiosk` 객체를 생성 및 실행한다.
+ *
+ * `kiosk.port` 시스템 프로퍼티가 주어지면, 콘솔 대신 해당 포트에서
+ * 여러 주문 단말기의 연결을 받는 서버로 실행한다.
+ * (예: java -Dkiosk.port=9000 org.example.lv6.Main)
+ * 이때 `kiosk.workers` 시스템 프로퍼티가 주어지면, 세션마다 스레드를 두지 않고 해당 수의 작업
+ * 스레드가 모든 단말기의 세션을 처리하는 이벤트 루프 서버로 실행한다.
+ * (예: java -Dkiosk.port=9000 -Dkiosk.workers=4 org.example.lv6.Main)
+ *
+ * `kiosk.catalog` 시스템 프로퍼티가 주어지면, 해당 파일(CSV 또는 바이너리 스냅샷)에서 메뉴를 불러온다.
+ * 실행 중에 파일이 바뀌면 메뉴를 다시 불러와, 각 키오스크의 다음 메인 메뉴 화면부터 반영한다.
+ * (예: java -Dkiosk.catalog=menu.csv org.example.lv6.Main)
+ *
+ * `kiosk.journal.dir` 시스템 프로퍼티가 주어지면, 완료된 주문을 해당 디렉터리에 기록한다.
+ *
+ * `kiosk.kitchen.dir` 시스템 프로퍼티가 주어지면, 완료된 주문을 카테고리별 주방 스테이션에 전달하여
+ * 해당 디렉터리의 스테이션별 파일에 주문표를 출력한다. 주방이 밀려 있으면 주문 확인 화면에 안내한다.
+ *
+ * `kiosk.cart.dir` 시스템 프로퍼티가 주어지면, 진행 중인 장바구니를 해당 디렉터리에 기록하고
+ * 다시 실행할 때 복원한다. 서버로 실행하는 경우 단말기는 연결 직후 첫 줄로 단말기 식별자를 보내야 하며,
+ * 장바구니는 단말기 식별자별로 기록된다. 같은 식별자로 동시에 연결하면 나중에 연결한 단말기를 거부한다.
+ *
+ * `kiosk.metrics.port` 시스템 프로퍼티가 주어지면, 화면별 소요 시간과 주문 수 등의 측정값을
+ * 해당 포트의 `/metrics`에서 Prometheus 텍스트 형식으로 제공한다. 이때 메뉴 항목별, 카테고리별
+ * 판매 실적도 함께 집계하여 제공하며, 주방 전달을 사용하면 스테이션별 처리 실적도 제공한다.
+ * `kiosk.metrics.file` 시스템 프로퍼티가 주어지면, 종료할 때 같은 형식으로 해당 파일에 기록한다.
  */
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // 메뉴 초기화
-        List<Menu> menus = initializeMenus();
+        MenuCatalog catalog = new MenuCatalog(loadMenus());
+        KioskMetrics metrics = createMetrics();
+        SalesAggregator sales = System.getProperty("kiosk.metrics.port") == null ? null : new SalesAggregator(catalog);
+
+        try (MenuCatalogWatcher watcher = watchCatalog(catalog);
+             OrderJournal journal = openOrderJournal();
+             KitchenDispatcher kitchen = openKitchen(catalog);
+             MetricsHttpServer metricsServer = openMetricsServer(metrics, sales, kitchen)) {
+            if (watcher != null) {
+                System.out.println("메뉴 카탈로그 파일이 바뀌면 다시 불러옵니다.");
+            }
+            if (metricsServer != null) {
+                System.out.println("측정값을 " + metricsServer.getPort() + " 포트의 /metrics에서 제공합니다.");
+            }
+            String port = System.getProperty("kiosk.port");
+            if (port != null) { // 여러 단말기를 위한 서버 실행
+                KioskSessionManager sessionManager = new KioskSessionManager(catalog, StandardCharsets.UTF_8);
+                if (journal != null) {
+                    sessionManager.addOrderListener(journal);
+                }
+                if (metrics != null) {
+                    sessionManager.setMetrics(metrics);
+                }
+                if (sales != null) {
+                    sessionManager.addOrderListener(sales);
+                }
+                if (kitchen != null) {
+                    sessionManager.addOrderListener(kitchen);
+                    sessionManager.setBackpressure(kitchen);
+                }
+                String workers = System.getProperty("kiosk.workers");
+                if (workers != null) { // 적은 수의 스레드로 모든 세션을 처리하는 이벤트 루프 서버 실행
+                    try (KioskEventLoopServer server = new KioskEventLoopServer(sessionManager, Integer.parseInt(port),
+                            Integer.parseInt(workers))) {
+                        Path cartDirectory = getCartDirectory();
+                        if (cartDirectory != null) {
+                            server.setCartProvider(terminalId -> openCart(cartDirectory, terminalId, catalog));
+                        }
+                        System.out.println("키오스크 서버가 " + server.getPort() + " 포트에서 실행 중입니다. (작업 스레드 " + workers + "개)");
+                        server.start();
+                    }
+                    return;
+                }
+                try (KioskServer server = new KioskServer(sessionManager, Integer.parseInt(port))) {
+                    Path cartDirectory = getCartDirectory();
+                    if (cartDirectory != null) {
+                        server.setCartProvider(terminalId -> openCart(cartDirectory, terminalId, catalog));
+                    }
+                    System.out.println("키오스크 서버가 " + server.getPort() + " 포트에서 실행 중입니다.");
+                    server.start();
+                }
+                return;
+            }
+
+            // Kiosk 객체 생성 및 실행
+            Path cartDirectory = getCartDirectory();
+            Cart cart = cartDirectory == null ? new SimpleCart() : openCart(cartDirectory, "console", catalog);
+            try {
+                if (!cart.isEmpty()) {
+                    System.out.println("진행 중이던 주문을 복원했습니다.");
+                }
+                Kiosk kiosk = new Kiosk(catalog, cart, System.in, System.out, Charset.defaultCharset());
+                if (journal != null) {
+                    kiosk.addOrderListener(journal);
+                }
+                if (metrics != null) {
+                    kiosk.setMetrics(metrics);
+                }
+                if (sales != null) {
+                    kiosk.addOrderListener(sales);
+                }
+                if (kitchen != null) {
+                    kiosk.addOrderListener(kitchen);
+                    kiosk.setBackpressure(kitchen);
+                }
+                kiosk.start();
+            } finally {
+                if (cart instanceof Closeable closeableCart) {
+                    closeableCart.close();
+                }
+            }
+        } finally {
+            dumpMetrics(metrics);
+        }
+    }
+
+    /**
+     * `kiosk.metrics.port` 또는 `kiosk.metrics.file` 시스템 프로퍼티가 주어지면 측정값을 기록할 객체를 만든다.
+     *
+     * @return 측정값을 기록할 객체, 프로퍼티가 없으면 null
+     */
+    private static KioskMetrics createMetrics() {
+        boolean enabled = System.getProperty("kiosk.metrics.port") != null
+                || System.getProperty("kiosk.metrics.file") != null;
+        return enabled ? new KioskMetrics() : null;
+    }
+
+    /**
+     * `kiosk.metrics.port` 시스템 프로퍼티에 지정된 포트에서 측정값, 판매 실적, 주방 처리 실적을 제공하는 서버를 시작한다.
+     *
+     * @param metrics 제공할 측정값
+     * @param sales 제공할 판매 실적
+     * @param kitchen 제공할 주방 처리 실적, 없으면 null
+     * @return 측정값 서버, 프로퍼티가 없으면 null
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    private static MetricsHttpServer openMetricsServer(KioskMetrics metrics, SalesAggregator sales,
+                                                       KitchenDispatcher kitchen) throws IOException {
+        String port = System.getProperty("kiosk.metrics.port");
+        if (port == null) {
+            return null;
+        }
+
+        List<MetricsSource> sources = new ArrayList<>(List.of(metrics, sales));
+        if (kitchen != null) {
+            sources.add(kitchen);
+        }
+        return new MetricsHttpServer(Integer.parseInt(port), sources.toArray(MetricsSource[]::new));
+    }
+
+    /**
+     * `kiosk.kitchen.dir` 시스템 프로퍼티가 주어지면 해당 디렉터리에 주문표를 출력하는 주방 전달을 시작한다.
+     *
+     * @param catalog 메뉴 항목의 스테이션(카테고리)을 찾을 메뉴 카탈로그
+     * @return 주방 전달 객체, 프로퍼티가 없으면 null
+     * @throws IOException 주문표 디렉터리를 만들 수 없는 경우
+     */
+    private static KitchenDispatcher openKitchen(MenuCatalog catalog) throws IOException {
+        String directory = System.getProperty("kiosk.kitchen.dir");
+        return directory == null ? null : new KitchenDispatcher(catalog, new TicketPrinter(Path.of(directory)));
+    }
+
+    /**
+     * `kiosk.metrics.file` 시스템 프로퍼티에 지정된 파일에 측정값을 기록한다.
+     *
+     * @param metrics 기록할 측정값
+     * @throws IOException 파일에 기록할 수 없는 경우
+     */
+    private static void dumpMetrics(KioskMetrics metrics) throws IOException {
+        String file = System.getProperty("kiosk.metrics.file");
+        if (metrics != null && file != null) {
+            metrics.dump(Path.of(file));
+        }
+    }
+
+    /**
+     * `kiosk.cart.dir` 시스템 프로퍼티에 지정된 장바구니 기록 디렉터리를 반환한다.
+     *
+     * @return 장바구니 기록 디렉터리, 프로퍼티가 없으면 null
+     */
+    private static Path getCartDirectory() {
+        String directory = System.getProperty("kiosk.cart.dir");
+        return directory == null ? null : Path.of(directory);
+    }
 
-        // Kiosk 객체 생성 및 실행
-        Kiosk kiosk = new Kiosk(menus);
-        kiosk.start();
+    /**
+     * 주어진 세션의 장바구니 기록을 열고, 기록된 장바구니를 복원한다.
+     *
+     * @param directory 장바구니 기록 디렉터리
+     * @param sessionId 세션 식별자
+     * @param catalog 복원할 메뉴 항목을 찾을 메뉴 카탈로그
+     * @return 복원된 장바구니
+     */
+    private static Cart openCart(Path directory, String sessionId, MenuCatalog catalog) {
+        try {
+            return JournaledCart.open(directory, sessionId, new SimpleCart(), catalog::findMenuItem);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * `kiosk.catalog` 시스템 프로퍼티에 지정된 파일이 바뀌면 메뉴를 다시 불러오도록 감시를 시작한다.
+     *
+     * @param catalog 다시 불러온 메뉴로 교체할 카탈로그
+     * @return 파일 감시 객체, 프로퍼티가 없으면 null
+     * @throws IOException 파일 감시를 시작할 수 없는 경우
+     */
+    private static MenuCatalogWatcher watchCatalog(MenuCatalog catalog) throws IOException {
+        String source = System.getProperty("kiosk.catalog");
+        if (source == null) {
+            return null;
+        }
+
+        MenuCatalogWatcher watcher = new MenuCatalogWatcher(catalog, Path.of(source));
+        watcher.start();
+        return watcher;
+    }
+
+    /**
+     * `kiosk.journal.dir` 시스템 프로퍼티에 지정된 디렉터리의 주문 기록 파일을 연다.
+     *
+     * @return 주문 기록 파일, 프로퍼티가 없으면 null
+     * @throws IOException 주문 기록 파일을 열 수 없는 경우
+     */
+    private static OrderJournal openOrderJournal() throws IOException {
+        String directory = System.getProperty("kiosk.journal.dir");
+        return directory == null ? null : new OrderJournal(Path.of(directory));
+    }
+
+    /**
+     * `kiosk.catalog` 시스템 프로퍼티에 지정된 파일에서 메뉴를 불러온다.
+     * 프로퍼티가 없으면 기본 메뉴를 사용한다.
+     *
+     * @return 메뉴 리스트
+     * @throws IOException 메뉴 카탈로그 파일을 읽을 수 없는 경우
+     */
+    private static List<Menu> loadMenus() throws IOException {
+        String catalog = System.getProperty("kiosk.catalog");
+        return catalog == null ? initializeMenus() : MenuCatalogLoader.load(Path.of(catalog));
     }
 
     /**
@@ -36,19 +289,19 @@ public class Main {
         List<Menu> menus = new ArrayList<>();
 
         Menu burgerMenu = new Menu("Burgers");
-        burgerMenu.addMenuItem(new MenuItem("ShackBurger", 6.9f, "토마토, 양상추, 쉑소스가 토핑된 치즈버거"));
-        burgerMenu.addMenuItem(new MenuItem("SmokeShack", 8.9f, "베이컨, 체리 페퍼에 쉑소스가 토핑된 치즈버거"));
-        burgerMenu.addMenuItem(new MenuItem("Cheeseburger", 6.9f, "포테이토 번과 비프패티, 치즈가 토핑된 치즈버거"));
-        burgerMenu.addMenuItem(new MenuItem("Hamburger", 5.4f, "비프패티를 기반으로 야채가 들어간 기본버거"));
+        burgerMenu.addMenuItem(MenuItem.of("ShackBurger", Money.parse("6.9"), "토마토, 양상추, 쉑소스가 토핑된 치즈버거"));
+        burgerMenu.addMenuItem(MenuItem.of("SmokeShack", Money.parse("8.9"), "베이컨, 체리 페퍼에 쉑소스가 토핑된 치즈버거"));
+        burgerMenu.addMenuItem(MenuItem.of("Cheeseburger", Money.parse("6.9"), "포테이토 번과 비프패티, 치즈가 토핑된 치즈버거"));
+        burgerMenu.addMenuItem(MenuItem.of("Hamburger", Money.parse("5.4"), "비프패티를 기반으로 야채가 들어간 기본버거"));
 
         Menu drinkMenu = new Menu("Drinks");
-        drinkMenu.addMenuItem(new MenuItem("Coke", 2.5f, "시원한 탄산음료 코카콜라"));
-        drinkMenu.addMenuItem(new MenuItem("ZeroCoke", 2.5f, "칼로리가 0인 다이어트 코카콜라"));
-        drinkMenu.addMenuItem(new MenuItem("Sprite", 2.5f, "레몬과 라임이 어우러진 탄산음료"));
+        drinkMenu.addMenuItem(MenuItem.of("Coke", Money.parse("2.5"), "시원한 탄산음료 코카콜라"));
+        drinkMenu.addMenuItem(MenuItem.of("ZeroCoke", Money.parse("2.5"), "칼로리가 0인 다이어트 코카콜라"));
+        drinkMenu.addMenuItem(MenuItem.of("Sprite", Money.parse("2.5"), "레몬과 라임이 어우러진 탄산음료"));
 
         Menu dessertMenu = new Menu("Desserts");
-        dessertMenu.addMenuItem(new MenuItem("IceCreamCone", 3.5f, "클래식 바닐라 아이스크림 콘"));
-        dessertMenu.addMenuItem(new MenuItem("Vanilla Shake", 5.0f, "부드럽고 달콤한 바닐라 밀크셰이크"));
+        dessertMenu.addMenuItem(MenuItem.of("IceCreamCone", Money.parse("3.5"), "클래식 바닐라 아이스크림 콘"));
+        dessertMenu.addMenuItem(MenuItem.of("Vanilla Shake", Money.parse("5.0"), "부드럽고 달콤한 바닐라 밀크셰이크"));
 
         menus.add(burgerMenu);
         menus.add(drinkMenu);
@@ -0,0 +1,24 @@
+package org.example.lv6.app;
+
+/**
+ * 주문을 넘겨받는 후속 단계(주방 등)가 밀려 있는지를 키오스크에 알리는 인터페이스이다.
+ *
+ * 키오스크는 주문 확인 화면을 출력할 때 이 값을 확인하여, 후속 단계가 밀려 있으면
+ * 준비가 늦어질 수 있다는 안내를 함께 출력한다.
+ */
+public interface Backpressure {
+
+    /**
+     * 아직 처리되지 않은 주문의 수를 반환한다.
+     *
+     * @return 대기 중인 주문의 수
+     */
+    int getBacklog();
+
+    /**
+     * 대기 중인 주문이 많아 처리가 늦어지고 있는지 여부를 반환한다.
+     *
+     * @return 처리가 늦어지고 있으면 true
+     */
+    boolean isBackedUp();
+}
@@ -0,0 +1,380 @@
+package org.example.lv6.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * 입력 스트림을 공백으로 구분된 토큰 또는 줄 단위로 읽는 클래스이다.
+ *
+ * `Scanner`를 대신하여 콘솔과 네트워크 입력에 모두 사용한다. 입력은 재사용하는 바이트 버퍼로
+ * 읽고, 토큰은 재사용하는 문자 버퍼에 디코딩하므로 토큰을 읽을 때 객체를 만들지 않는다.
+ * 이 객체 자체가 현재 토큰을 나타내는 `CharSequence`이며, 문자열이 필요할 때만
+ * `toString()`으로 만든다.
+ *
+ * 번호 입력은 `parseOption()`으로 변환하며, 숫자가 아니거나 범위를 벗어난 입력은 예외 대신
+ * `INVALID`를 반환한다.
+ *
+ * 입력 스트림 없이 생성하면, 이벤트 루프처럼 입력을 기다릴 수 없는 환경을 위해 `read()`로
+ * 채널에서 읽을 수 있는 만큼만 읽어 두고 `pollToken()`, `pollLine()`으로 완성된 토큰만 꺼낸다.
+ * 이때 버퍼는 작게 시작하여 필요한 만큼(최대 `MAX_BUFFER_SIZE`) 늘어난다.
+ *
+ * 토큰은 ASCII 공백 문자로 구분하므로, UTF-8 등 ASCII와 호환되는 문자 인코딩만 사용할 수 있다.
+ *
+ * - `in`: 사용자 입력을 읽을 스트림, 채널에서 읽는 경우 null
+ * - `buffer`, `position`, `limit`: 입력 스트림에서 읽어 둔 바이트와 다음에 읽을 위치
+ * - `endOfInput`: 채널의 입력이 끝났는지 여부
+ * - `token`, `tokenBytes`: 현재 토큰의 바이트
+ * - `chars`, `tokenChars`, `length`: 디코딩한 현재 토큰의 문자
+ * - `decoder`: ASCII가 아닌 문자가 포함된 토큰을 디코딩하는 객체
+ * - `ioException`: 입력 스트림에서 마지막으로 발생한 예외
+ */
+public final class InputTokenizer implements CharSequence {
+    public static final int INVALID = -1; // 숫자가 아니거나 범위를 벗어난 입력을 나타내는 값
+
+    public static final int MAX_BUFFER_SIZE = 64 * 1024; // 채널에서 읽을 때 완성되지 않은 입력을 보관할 최대 크기
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INITIAL_CHANNEL_BUFFER_SIZE = 256;
+    private static final int INITIAL_TOKEN_SIZE = 64;
+
+    private final InputStream in;
+    private byte[] buffer;
+    private ByteBuffer channelBuffer; // 채널에서 읽을 때 `buffer`를 감싸는 버퍼
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private byte[] token = new byte[INITIAL_TOKEN_SIZE];
+    private ByteBuffer tokenBytes = ByteBuffer.wrap(token);
+    private char[] chars = new char[INITIAL_TOKEN_SIZE];
+    private CharBuffer tokenChars = CharBuffer.wrap(chars);
+    private int length;
+
+    private final CharsetDecoder decoder;
+    private IOException ioException;
+
+    /**
+     * 주어진 입력 스트림과 문자 인코딩으로 `InputTokenizer` 객체를 생성한다.
+     *
+     * @param in 사용자 입력을 읽을 스트림
+     * @param charset 입력의 문자 인코딩
+     */
+    public InputTokenizer(InputStream in, Charset charset) {
+        this(in, charset, BUFFER_SIZE);
+    }
+
+    /**
+     * 입력 스트림 없이, `read()`로 채널에서 읽은 입력을 토큰으로 나누는 `InputTokenizer` 객체를 생성한다.
+     *
+     * @param charset 입력의 문자 인코딩
+     */
+    public InputTokenizer(Charset charset) {
+        this(null, charset, INITIAL_CHANNEL_BUFFER_SIZE);
+    }
+
+    private InputTokenizer(InputStream in, Charset charset, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 다음 토큰을 읽는다.
+     *
+     * 다음 토큰이 입력될 때까지 기다리며, 입력이 끝났거나 입력 스트림에서 예외가 발생하면
+     * false를 반환한다. 발생한 예외는 `ioException()`으로 확인할 수 있다.
+     *
+     * @return 토큰을 읽었으면 true, 입력이 끝났으면 false
+     */
+    public boolean nextToken() {
+        return next(false);
+    }
+
+    /**
+     * 비어 있지 않은 다음 줄을 읽는다.
+     *
+     * "Vanilla Shake"와 같이 공백이 포함된 이름을 입력받을 때 사용하며, 앞뒤의 공백은 제외한다.
+     * 입력이 끝났거나 입력 스트림에서 예외가 발생하면 false를 반환한다.
+     *
+     * @return 줄을 읽었으면 true, 입력이 끝났으면 false
+     */
+    public boolean nextLine() {
+        return next(true);
+    }
+
+    /**
+     * 채널에서 지금 읽을 수 있는 입력을 기다리지 않고 읽어 버퍼에 덧붙인다.
+     *
+     * 채널은 non-blocking 모드여야 한다. 버퍼가 가득 차면 최대 `MAX_BUFFER_SIZE`까지 늘린다.
+     *
+     * @param channel 사용자 입력을 읽을 채널
+     * @return 읽은 바이트 수, 입력이 끝났으면 -1
+     * @throws IOException 채널에서 읽는 중 오류가 발생한 경우
+     */
+    public int read(ReadableByteChannel channel) throws IOException {
+        if (position > 0) { // 이미 꺼낸 입력을 버리고 남은 입력을 앞으로 옮긴다.
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length && buffer.length < MAX_BUFFER_SIZE) {
+            buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, MAX_BUFFER_SIZE));
+        }
+        if (channelBuffer == null || channelBuffer.array() != buffer) {
+            channelBuffer = ByteBuffer.wrap(buffer);
+        }
+
+        channelBuffer.limit(buffer.length).position(limit);
+        int read = channel.read(channelBuffer);
+        if (read < 0) {
+            endOfInput = true;
+            return -1;
+        }
+        limit += read;
+        return read;
+    }
+
+    /**
+     * 이미 읽어 둔 입력에서 다음 토큰을 꺼낸다.
+     *
+     * 토큰 뒤에 공백 문자가 아직 도착하지 않았다면 토큰이 완성되지 않은 것으로 보고 false를
+     * 반환한다. 다만 입력이 끝났거나, 버퍼가 최대 크기까지 찼다면 남은 입력을 토큰으로 꺼낸다.
+     *
+     * @return 토큰을 꺼냈으면 true, 완성된 토큰이 없으면 false
+     */
+    public boolean pollToken() {
+        return poll(false);
+    }
+
+    /**
+     * 이미 읽어 둔 입력에서 비어 있지 않은 다음 줄을 꺼낸다.
+     *
+     * 줄바꿈 문자가 아직 도착하지 않았다면 false를 반환하며, 앞뒤의 공백은 제외한다.
+     *
+     * @return 줄을 꺼냈으면 true, 완성된 줄이 없으면 false
+     */
+    public boolean pollLine() {
+        return poll(true);
+    }
+
+    /**
+     * 채널의 입력이 끝났는지 확인한다.
+     *
+     * @return `read()`가 입력의 끝에 도달했으면 true
+     */
+    public boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    /**
+     * 입력 스트림에서 마지막으로 발생한 예외를 반환한다.
+     *
+     * @return 마지막으로 발생한 예외, 없으면 null
+     */
+    public IOException ioException() {
+        return ioException;
+    }
+
+    /**
+     * 현재 토큰을 주어진 범위의 번호로 변환한다.
+     *
+     * @param minOption 선택 가능한 번호의 최솟값
+     * @param maxOption 선택 가능한 번호의 최댓값
+     * @return 변환한 번호, 유효하지 않은 경우 `INVALID`
+     */
+    public int parseOption(int minOption, int maxOption) {
+        return parseOption(this, minOption, maxOption);
+    }
+
+    /**
+     * 입력 문자열을 주어진 범위의 번호로 변환한다.
+     *
+     * 앞뒤의 공백은 무시하며, `Integer.parseInt()`와 같이 부호(+, -)를 허용한다.
+     * 숫자가 아니거나 범위를 벗어나면 예외를 발생시키지 않고 `INVALID`를 반환한다.
+     *
+     * @param input 사용자 입력 문자열
+     * @param minOption 선택 가능한 번호의 최솟값 (0 이상)
+     * @param maxOption 선택 가능한 번호의 최댓값
+     * @return 변환한 번호, 유효하지 않은 경우 `INVALID`
+     */
+    public static int parseOption(CharSequence input, int minOption, int maxOption) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+
+        boolean negative = false;
+        if (start < end && (input.charAt(start) == '+' || input.charAt(start) == '-')) {
+            negative = input.charAt(start) == '-';
+            start++;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+            if (value > maxOption) { // 더 읽어도 범위 안으로 돌아오지 않는다(넘침 방지).
+                return INVALID;
+            }
+        }
+
+        long option = negative ? -value : value;
+        return option >= minOption && option <= maxOption ? (int) option : INVALID;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * 현재 토큰을 문자열로 반환한다.
+     *
+     * @return 현재 토큰 문자열
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private boolean next(boolean line) {
+        length = 0;
+        int b;
+        do {
+            b = read();
+            if (b < 0) {
+                return false;
+            }
+        } while (isWhitespace(b));
+
+        int size = 0;
+        boolean ascii = true;
+        do {
+            if (size == token.length) {
+                token = Arrays.copyOf(token, size * 2);
+                tokenBytes = ByteBuffer.wrap(token);
+            }
+            token[size++] = (byte) b;
+            ascii &= b < 0x80;
+            b = read();
+        } while (b >= 0 && (line ? b != '\n' : !isWhitespace(b)));
+
+        while (isWhitespace(token[size - 1])) { // 줄 끝의 공백과 '\r'
+            size--;
+        }
+        decode(size, ascii);
+        return true;
+    }
+
+    private boolean poll(boolean line) {
+        length = 0;
+        int p = position;
+        while (p < limit && isWhitespace(buffer[p] & 0xFF)) {
+            p++;
+        }
+        position = p;
+        if (p == limit) {
+            return false;
+        }
+
+        int start = p;
+        boolean ascii = true;
+        while (p < limit && (line ? buffer[p] != '\n' : !isWhitespace(buffer[p] & 0xFF))) {
+            ascii &= buffer[p] >= 0;
+            p++;
+        }
+        boolean full = start == 0 && limit == MAX_BUFFER_SIZE;
+        if (p == limit && !endOfInput && !full) { // 구분 문자가 아직 도착하지 않은 경우
+            return false;
+        }
+        position = p < limit ? p + 1 : p;
+
+        int end = p;
+        while (isWhitespace(buffer[end - 1] & 0xFF)) { // 줄 끝의 공백과 '\r'
+            end--;
+        }
+        int size = end - start;
+        if (token.length < size) {
+            token = new byte[Math.max(size, token.length * 2)];
+            tokenBytes = ByteBuffer.wrap(token);
+        }
+        System.arraycopy(buffer, start, token, 0, size);
+        decode(size, ascii);
+        return true;
+    }
+
+    private void decode(int size, boolean ascii) {
+        if (chars.length < size) {
+            chars = new char[Math.max(size, chars.length * 2)];
+            tokenChars = CharBuffer.wrap(chars);
+        }
+
+        if (ascii) {
+            for (int i = 0; i < size; i++) {
+                chars[i] = (char) token[i];
+            }
+            length = size;
+            return;
+        }
+
+        tokenBytes.clear().limit(size);
+        tokenChars.clear();
+        decoder.reset();
+        decoder.decode(tokenBytes, tokenChars, true);
+        decoder.flush(tokenChars);
+        length = tokenChars.position();
+    }
+
+    private int read() {
+        if (position == limit) {
+            try {
+                int read = in.read(buffer, 0, buffer.length);
+                if (read <= 0) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+            } catch (IOException e) {
+                ioException = e;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+    }
+}
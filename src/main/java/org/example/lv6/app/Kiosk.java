@@ -1,69 +1,380 @@
 package org.example.lv6.app;
 
+import org.example.lv6.app.metrics.KioskMetrics;
+import org.example.lv6.app.metrics.StepMetrics;
+import org.example.lv6.catalog.MenuCatalog;
 import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.cart.SimpleCart;
 import org.example.lv6.domain.menu.Menu;
 import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.menu.MenuSnapshot;
 import org.example.lv6.domain.enums.UserType;
-
-import java.util.InputMismatchException;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.example.lv6.domain.pricing.PricingContext;
+import org.example.lv6.domain.pricing.PricingEngine;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.time.Clock;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * 키오스크를 구현한 클래스이다.
  *
  * 사용자는 이 키오스크를 통해 메뉴를 선택하고, 장바구니에 담거나 주문을 처리할 수 있다.
+ *
+ * 키오스크는 현재 화면(`State`)과 입력 이벤트에 따라 동작하는 상태 기계로 구현되어 있다.
+ * `start()`는 입력 스트림에서 읽은 값을 차례로 `handleInput()`에 전달하며, 콘솔이 아닌
+ * 환경에서는 `begin()`과 `handleInput()`을 직접 호출하여 키오스크를 구동할 수 있다.
+ *
+ * 화면은 `Screen` 버퍼에 모아 두었다가, 다음 입력을 기다리기 직전에 한 번에 출력한다.
+ * 내용이 바뀌지 않는 화면은 미리 인코딩해 두고, 바뀌는 줄은 문자열을 이어 붙이지 않고 나누어 출력하여
+ * 세션이 주문을 반복하는 동안 객체를 거의 만들지 않는다.
+ *
+ * 메뉴 리스트는 메인 메뉴를 출력할 때마다 `MenuCatalog`에서 새로 가져오므로, 메뉴가 교체되면
+ * 다음 메인 메뉴 화면부터 반영된다. 이미 장바구니에 담긴 항목은 담을 때의 가격을 유지한다.
  */
 public class Kiosk {
     private static final String INVALID_INPUT_MESSAGE = "메뉴판에 존재하는 번호를 입력해주세요."; // 잘못된 입력 메시지
+    private static final int INVALID_INPUT = InputTokenizer.INVALID; // 유효하지 않은 입력을 나타내는 값
+    private static final int SEARCH_RESULT_LIMIT = 9; // 검색 결과로 보여 줄 최대 메뉴 항목 수
+
+    /**
+     * 키오스크가 사용자 입력을 기다리는 화면을 정의한 Enum 클래스이다.
+     */
+    private enum State {
+        MAIN_MENU,            // 메인 메뉴 선택
+        MENU_ITEMS,           // 카테고리 내 메뉴 항목 선택
+        CART_ADDITION,        // 장바구니 추가 확인
+        ORDER_CONFIRMATION,   // 주문 확인
+        ITEM_REMOVAL,         // 제거할 항목 이름 입력
+        REMOVAL_CONFIRMATION, // 비슷한 이름으로 찾은 항목의 제거 확인
+        SEARCH,               // 검색할 메뉴 이름 입력
+        DISCOUNT,             // 할인 정보 선택
+        TERMINATED            // 프로그램 종료
+    }
+
+    /**
+     * 메뉴 리스트로부터 만들어 둔 메인 메뉴, 주문 메뉴, 검색 메뉴 화면이다.
+     *
+     * @param menus 화면을 만들 때 사용한 메뉴 리스트
+     * @param mainMenu 인코딩된 메인 메뉴 화면
+     * @param orderMenu 인코딩된 주문 메뉴 화면
+     * @param searchMenu 인코딩된 검색 메뉴 화면
+     * @param menuItemsFrames 메뉴 리스트의 순서대로, 처음 선택될 때 만들어 두는 메뉴 항목 화면
+     */
+    private record MainMenuFrame(List<Menu> menus, byte[] mainMenu, byte[] orderMenu, byte[] searchMenu,
+                                 MenuItemsFrame[] menuItemsFrames) {
+    }
+
+    /**
+     * 메뉴 항목 스냅샷으로부터 만들어 둔 메뉴 항목 화면이다.
+     *
+     * @param snapshot 화면을 만들 때 사용한 메뉴 항목 스냅샷
+     * @param frame 인코딩된 메뉴 항목 화면
+     */
+    private record MenuItemsFrame(MenuSnapshot snapshot, byte[] frame) {
+    }
 
-    private final Scanner scanner = new Scanner(System.in); // 사용자 입력을 받기 위한 Scanner 객체
-    private final Cart cart = new Cart(); // 장바구니를 관리하는 객체
-    private final List<Menu> menus; // 키오스크에서 제공하는 메뉴 리스트
+    private final InputTokenizer tokenizer; // 사용자 입력을 토큰 또는 줄 단위로 읽는 객체
+    private final Screen screen; // 화면을 모아서 출력하는 버퍼
+    private final PrintStream out; // 화면 버퍼에 기록하는 스트림
+    private final Cart cart; // 장바구니를 관리하는 객체
+    private final MenuCatalog catalog; // 키오스크에서 제공하는 메뉴 카탈로그
+    private final List<OrderListener> orderListeners = new ArrayList<>(); // 주문 완료 알림을 받을 객체 리스트
+    private PricingEngine pricingEngine = PricingEngine.standard(); // 결제 금액을 계산하는 할인 규칙 엔진
+    private final PricingContext pricingContext = new PricingContext(); // 주문마다 재사용하는 결제 금액 계산 공간
+    private final Clock clock = Clock.systemDefaultZone(); // 할인 규칙에 사용할 주문 시각을 읽는 시계
+    private KioskMetrics metrics; // 측정값을 기록할 객체(없으면 측정하지 않는다)
+    private StepMetrics[] stepMetrics; // 화면(State)별 측정값
+    private Backpressure backpressure; // 주문을 넘겨받는 주방이 밀려 있는지 알려주는 객체(없으면 안내하지 않는다)
+    private long screenShownAt; // 마지막 화면을 출력한 시각(나노초)
+
+    private State state = State.MAIN_MENU; // 현재 화면
+    private List<Menu> menus; // 메인 메뉴 화면에 출력한 메뉴 리스트
+    private MainMenuFrame mainMenuFrame; // 미리 인코딩해 둔 메인 메뉴 화면
+    private byte[] discountFrame; // 미리 인코딩해 둔 할인 정보 화면
+    private MenuSnapshot selectedMenuItems; // 메인 메뉴에서 선택한 메뉴의 항목들(화면에 출력한 스냅샷)
+    private String pendingRemovalName; // 제거를 확인받고 있는 장바구니 항목의 이름
+    private MenuItem selectedMenuItem; // 장바구니 추가를 확인 중인 메뉴 항목
 
     /**
-     * 주어진 메뉴 리스트로 `Kiosk` 객체를 생성한다.
+     * 주어진 메뉴 리스트로 콘솔 입출력을 사용하는 `Kiosk` 객체를 생성한다.
      *
      * @param menus 키오스크에서 제공하는 메뉴 리스트
      */
     public Kiosk(List<Menu> menus) {
-        this.menus = menus;
+        this(menus, System.in, System.out);
+    }
+
+    /**
+     * 주어진 메뉴 리스트와 입출력 스트림으로 `Kiosk` 객체를 생성한다.
+     *
+     * 화면은 시스템 기본 문자 인코딩으로 출력된다.
+     *
+     * @param menus 키오스크에서 제공하는 메뉴 리스트
+     * @param in 사용자 입력을 읽을 스트림
+     * @param out 화면을 출력할 스트림
+     */
+    public Kiosk(List<Menu> menus, InputStream in, OutputStream out) {
+        this(menus, in, out, Charset.defaultCharset());
+    }
+
+    /**
+     * 주어진 메뉴 리스트, 입출력 스트림, 문자 인코딩으로 `Kiosk` 객체를 생성한다.
+     *
+     * @param menus 키오스크에서 제공하는 메뉴 리스트
+     * @param in 사용자 입력을 읽을 스트림
+     * @param out 화면을 출력할 스트림
+     * @param charset 입출력의 문자 인코딩
+     */
+    public Kiosk(List<Menu> menus, InputStream in, OutputStream out, Charset charset) {
+        this(menus, new SimpleCart(), in, out, charset);
+    }
+
+    /**
+     * 주어진 장바구니를 사용하는 `Kiosk` 객체를 생성한다.
+     *
+     * 여러 키오스크에 같은 `ConcurrentCart`를 전달하면 단체 주문을 함께 담을 수 있다.
+     *
+     * @param menus 키오스크에서 제공하는 메뉴 리스트
+     * @param cart 키오스크에서 사용할 장바구니
+     * @param in 사용자 입력을 읽을 스트림
+     * @param out 화면을 출력할 스트림
+     * @param charset 입출력의 문자 인코딩
+     */
+    public Kiosk(List<Menu> menus, Cart cart, InputStream in, OutputStream out, Charset charset) {
+        this(new MenuCatalog(menus), cart, in, out, charset);
+    }
+
+    /**
+     * 주어진 메뉴 카탈로그와 장바구니를 사용하는 `Kiosk` 객체를 생성한다.
+     *
+     * 여러 키오스크가 같은 카탈로그를 공유하면, 카탈로그가 교체될 때 모든 키오스크에 반영된다.
+     *
+     * @param catalog 키오스크에서 제공하는 메뉴 카탈로그
+     * @param cart 키오스크에서 사용할 장바구니
+     * @param in 사용자 입력을 읽을 스트림
+     * @param out 화면을 출력할 스트림
+     * @param charset 입출력의 문자 인코딩
+     */
+    public Kiosk(MenuCatalog catalog, Cart cart, InputStream in, OutputStream out, Charset charset) {
+        this(catalog, cart, new InputTokenizer(in, charset), out, charset);
+    }
+
+    /**
+     * 주어진 입력 토큰 분리기를 사용하는 `Kiosk` 객체를 생성한다.
+     *
+     * 이벤트 루프 서버처럼 `start()` 대신 `handleInput()`으로 키오스크를 구동하는 쪽에서,
+     * 입력을 나누는 데 사용한 토큰 분리기를 그대로 키오스크에 전달할 때 사용한다.
+     *
+     * @param catalog 키오스크에서 제공하는 메뉴 카탈로그
+     * @param cart 키오스크에서 사용할 장바구니
+     * @param tokenizer 사용자 입력을 토큰 또는 줄 단위로 읽는 객체
+     * @param out 화면을 출력할 스트림
+     * @param charset 화면의 문자 인코딩
+     */
+    Kiosk(MenuCatalog catalog, Cart cart, InputTokenizer tokenizer, OutputStream out, Charset charset) {
+        this.catalog = catalog;
+        this.menus = catalog.getMenus();
+        this.cart = cart;
+        this.tokenizer = tokenizer;
+        this.screen = new Screen(out, charset);
+        this.out = screen.getPrinter();
+    }
+
+    /**
+     * 주문이 완료될 때 알림을 받을 객체를 등록한다.
+     *
+     * @param orderListener 주문 완료 알림을 받을 객체
+     */
+    public void addOrderListener(OrderListener orderListener) {
+        orderListeners.add(orderListener);
+    }
+
+    /**
+     * 결제 금액을 계산할 할인 규칙 엔진을 지정한다.
+     *
+     * 지정하지 않으면 사용자 유형별 할인만 적용한다.
+     *
+     * @param pricingEngine 할인 규칙 엔진
+     */
+    public void setPricingEngine(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    /**
+     * 화면별 소요 시간, 주문 수, 잘못된 입력 수 등을 기록할 객체를 지정한다.
+     *
+     * @param metrics 측정값을 기록할 객체
+     */
+    public void setMetrics(KioskMetrics metrics) {
+        State[] states = State.values();
+        StepMetrics[] steps = new StepMetrics[states.length];
+        for (State s : states) {
+            steps[s.ordinal()] = metrics.step(s.name());
+        }
+        this.stepMetrics = steps;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 주문을 넘겨받는 주방이 밀려 있는지 알려주는 객체를 지정한다.
+     *
+     * 주방이 밀려 있으면 주문 확인 화면에 준비가 늦어질 수 있다는 안내를 함께 출력한다.
+     *
+     * @param backpressure 주방이 밀려 있는지 알려주는 객체
+     */
+    public void setBackpressure(Backpressure backpressure) {
+        this.backpressure = backpressure;
     }
 
     /**
      * 키오스크를 실행하는 메서드이다.
      *
-     * 사용자의 입력을 처리하여 메뉴 선택, 장바구니 확인,
-     * 주문 진행, 프로그램 종료 등 키오스크의 주요 기능을 제어한다.
+     * 메인 메뉴를 출력한 후, 프로그램이 종료되거나 입력이 끝날 때까지
+     * 사용자 입력을 읽어 처리한다. 이름을 입력받는 화면에서는 공백을 포함한 한 줄을,
+     * 그 외의 화면에서는 번호 하나를 읽는다.
      */
     public void start() {
-        while(true) {
-            // 메인 메뉴 출력
-            printMainMenu();
+        begin();
+        while (!isTerminated() && (expectsName() ? tokenizer.nextLine() : tokenizer.nextToken())) {
+            handleInput(tokenizer);
+        }
+    }
 
-            // 장바구니 확인
-            if (!cart.isEmpty()) { // 주문 메뉴 출력
-                printOrderMenu();
-            }
+    /**
+     * 키오스크의 첫 화면(메인 메뉴)을 출력한다.
+     */
+    public void begin() {
+        state = State.MAIN_MENU;
+        printMainScreen();
+        screen.flush();
+        screenShownAt = System.nanoTime();
+    }
 
-            // 사용자 입력 받기
-            int maxOption = calculateMaxOption();
-            int userInput = getUserInput(0, maxOption);
-
-            // 사용자 입력 처리
-            if (isMenuSelection(userInput)) { // 메뉴 선택
-                handleMenu(menus.get(userInput - 1));
-            } else if (isOrder(userInput)) { // 주문
-                handleOrder();
-            } else if (isReset(userInput)) { // 주문 취소
-                handelReset();
-            } else { // 프로그램 종료
-                terminate();
-                break;
-            }
+    /**
+     * 사용자 입력 하나를 현재 화면에 맞게 처리한다.
+     *
+     * 입력을 처리한 후에는 다음 입력을 기다리는 화면이 출력된 상태가 된다.
+     * 유효하지 않은 입력이면 경고 메시지를 출력하고 현재 화면을 유지한다.
+     * 입력은 처리하는 동안에만 사용하므로, 호출한 쪽에서 재사용해도 된다.
+     *
+     * @param input 사용자 입력 문자열
+     */
+    public void handleInput(CharSequence input) {
+        long receivedAt = metrics != null ? System.nanoTime() : 0;
+        State step = state;
+        switch (state) {
+            case MAIN_MENU -> handleMainMenu(input);
+            case MENU_ITEMS -> handleMenu(input);
+            case CART_ADDITION -> handleCartAddition(input);
+            case ORDER_CONFIRMATION -> handleOrder(input);
+            case ITEM_REMOVAL -> removeItemFromCart(input.toString());
+            case REMOVAL_CONFIRMATION -> handleRemovalConfirmation(input);
+            case SEARCH -> handleSearch(input.toString());
+            case DISCOUNT -> processOrder(input);
+            case TERMINATED -> { }
+        }
+        screen.flush();
+
+        if (metrics != null) {
+            long now = System.nanoTime();
+            stepMetrics[step.ordinal()].record(receivedAt - screenShownAt, now - receivedAt);
+            screenShownAt = now;
+        }
+    }
 
-            System.out.println("\n아래 메뉴판을 보시고 메뉴를 골라 입력해주세요.\n");
+    /**
+     * 키오스크가 종료되었는지 확인한다.
+     *
+     * @return 종료되었으면 true, 그렇지 않으면 false
+     */
+    public boolean isTerminated() {
+        return state == State.TERMINATED;
+    }
+
+    /**
+     * 현재 화면이 번호가 아닌 이름을 입력받는 화면인지 확인한다.
+     *
+     * @return 이름을 입력받는 화면이면 true, 그렇지 않으면 false
+     */
+    public boolean expectsName() {
+        return state == State.ITEM_REMOVAL || state == State.SEARCH;
+    }
+
+    /**
+     * 메인 메뉴에서 사용자 입력을 처리한다.
+     *
+     * 메뉴 선택, 메뉴 검색, 주문, 주문 취소, 프로그램 종료 중 하나를 수행한다.
+     *
+     * @param input 사용자 입력 문자열
+     */
+    private void handleMainMenu(CharSequence input) {
+        int userInput = getUserInput(input, 0, calculateMaxOption());
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
+        if (cart.isEmpty() && (isOrder(userInput) || isReset(userInput))) { // 주문 메뉴가 출력되지 않은 경우
+            rejectInput();
+            return;
         }
+
+        if (isMenuSelection(userInput)) { // 메뉴 선택
+            printMenuItems(userInput - 1);
+            state = State.MENU_ITEMS;
+        } else if (isSearch(userInput)) { // 메뉴 검색
+            out.println("\n검색할 메뉴 이름을 입력하세요.");
+            state = State.SEARCH;
+        } else if (isOrder(userInput)) { // 주문
+            printOrderConfirmation();
+            state = State.ORDER_CONFIRMATION;
+        } else if (isReset(userInput)) { // 주문 취소
+            handelReset();
+            returnToMainMenu();
+        } else { // 프로그램 종료
+            terminate();
+        }
+    }
+
+    /**
+     * 메인 메뉴 화면을 출력한다.
+     *
+     * 장바구니에 항목이 있다면 주문 메뉴도 함께 출력하고, 마지막에 검색 메뉴를 출력한다.
+     * 메뉴 리스트는 이때 카탈로그에서 새로 가져오며, 다음 메인 메뉴를 출력할 때까지
+     * 사용자 입력은 화면에 출력한 메뉴 리스트를 기준으로 해석된다.
+     * 메뉴 화면은 처음 출력할 때 인코딩해 두고, 메뉴 리스트가 바뀔 때까지 재사용한다.
+     */
+    private void printMainScreen() {
+        menus = catalog.getMenus();
+        if (mainMenuFrame == null || mainMenuFrame.menus() != menus) {
+            mainMenuFrame = new MainMenuFrame(menus, screen.render(this::printMainMenu), screen.render(this::printOrderMenu),
+                    screen.render(this::printSearchMenu), new MenuItemsFrame[menus.size()]);
+        }
+
+        // 메인 메뉴 출력
+        screen.write(mainMenuFrame.mainMenu());
+
+        // 장바구니 확인
+        if (!cart.isEmpty()) { // 주문 메뉴 출력
+            screen.write(mainMenuFrame.orderMenu());
+        }
+        screen.write(mainMenuFrame.searchMenu());
+    }
+
+    /**
+     * 안내 메시지와 함께 메인 메뉴 화면으로 돌아간다.
+     */
+    private void returnToMainMenu() {
+        out.println("\n아래 메뉴판을 보시고 메뉴를 골라 입력해주세요.\n");
+        printMainScreen();
+        state = State.MAIN_MENU;
     }
 
     /**
@@ -72,12 +383,14 @@ public class Kiosk {
      * 1. 메뉴 이름을 "MAIN"으로 출력한다.
      * 2. 상위 카테고리 목록을 출력한다.
      * 3. 종료 옵션(0번)을 출력한다.
+     *
+     * @param out 메인 메뉴를 출력할 스트림
      */
-    private void printMainMenu() {
-        printMenu("MAIN",
+    private void printMainMenu(PrintStream out) {
+        printMenu(out, "MAIN",
                 () -> {
                     for (int i = 1; i <= menus.size(); i++) {
-                        System.out.println(i + ". " + menus.get(i - 1).getCategory());
+                        out.println(i + ". " + menus.get(i - 1).getCategory());
                     }
                 },
                 "종료");
@@ -88,17 +401,57 @@ public class Kiosk {
      *
      * 1. 메뉴 이름을 "ORDER"로 출력한다.
      * 2. 주문 목록(주문, 주문 취소)을 출력한다.
+     *
+     * @param out 주문 메뉴를 출력할 스트림
      */
-    private void printOrderMenu() {
-        System.out.println();
-        printMenu("ORDER",
+    private void printOrderMenu(PrintStream out) {
+        out.println();
+        printMenu(out, "ORDER",
                 () -> {
-                    System.out.println((menus.size() + 1) + ". " + "Orders       | 장바구니를 확인 후 주문합니다.");
-                    System.out.println((menus.size() + 2) + ". " + "Cancel       | 진행중인 주문을 취소합니다.");
+                    out.println((menus.size() + 1) + ". " + "Orders       | 장바구니를 확인 후 주문합니다.");
+                    out.println((menus.size() + 2) + ". " + "Cancel       | 진행중인 주문을 취소합니다.");
                 },
                 "");
     }
 
+    /**
+     * 검색 메뉴를 출력한다.
+     *
+     * 1. 메뉴 이름을 "SEARCH"로 출력한다.
+     * 2. 메뉴 검색 옵션을 주문 메뉴의 다음 번호로 출력한다.
+     *
+     * 장바구니가 비어 주문 메뉴가 출력되지 않아도 번호는 바뀌지 않는다.
+     *
+     * @param out 검색 메뉴를 출력할 스트림
+     */
+    private void printSearchMenu(PrintStream out) {
+        out.println();
+        printMenu(out, "SEARCH",
+                () -> out.println((menus.size() + 3) + ". " + "Search       | 메뉴 이름으로 검색합니다."),
+                "");
+    }
+
+    /**
+     * 메인 메뉴에서 선택된 메뉴를 출력한다.
+     *
+     * 메뉴 항목 화면은 처음 출력할 때 인코딩해 두고, 메뉴 항목이 바뀔 때까지 재사용한다.
+     * 출력한 메뉴 항목의 스냅샷은 사용자가 입력한 번호를 해석하는 데 사용된다.
+     *
+     * @param index 메뉴 리스트에서 선택된 메뉴의 인덱스
+     */
+    private void printMenuItems(int index) {
+        Menu menu = menus.get(index);
+        MenuSnapshot snapshot = menu.getSnapshot();
+        MenuItemsFrame[] frames = mainMenuFrame.menuItemsFrames();
+        if (frames[index] == null || frames[index].snapshot() != snapshot) {
+            frames[index] = new MenuItemsFrame(snapshot,
+                    screen.render(frameOut -> printMenuItems(frameOut, menu.getCategory(), snapshot)));
+        }
+
+        selectedMenuItems = snapshot;
+        screen.write(frames[index].frame());
+    }
+
     /**
      * 선택된 메뉴를 출력한다.
      *
@@ -106,38 +459,44 @@ public class Kiosk {
      * 2. 해당 메뉴에 포함된 메뉴 항목들을 출력한다.
      * 3. 뒤로가기 옵션(0번)을 출력한다.
      *
-     * @param menu 사용자가 선택한 메뉴
+     * @param out 메뉴를 출력할 스트림
+     * @param category 메뉴의 카테고리
+     * @param snapshot 출력할 메뉴 항목의 스냅샷
      */
-    private void printMenuItems(Menu menu) {
-        System.out.println();
-        printMenu(menu.getCategory(), menu::printMenuItems, "뒤로가기");
+    private void printMenuItems(PrintStream out, String category, MenuSnapshot snapshot) {
+        out.println();
+        printMenu(out, category, () -> {
+            byte[] menuItems = snapshot.render(screen.getCharset());
+            out.write(menuItems, 0, menuItems.length);
+        }, "뒤로가기");
     }
 
     /**
      * 공통적인 메뉴 출력 형식을 제공한다.
      *
+     * @param out 메뉴를 출력할 스트림
      * @param menuName 메뉴 이름
      * @param printer 메뉴 내용을 출력하는 람다식
      * @param option 옵션 문자열(종료, 뒤로가기)
      */
-    private void printMenu(String menuName, Runnable printer, String option) {
-        System.out.println("[ " + menuName.toUpperCase() + " MENU ]");
+    private void printMenu(PrintStream out, String menuName, Runnable printer, String option) {
+        out.println("[ " + menuName.toUpperCase() + " MENU ]");
         printer.run();
         if (!option.isEmpty()) {
-            System.out.println("0. " + option);
+            out.println("0. " + option);
         }
     }
 
     /**
      * 사용자가 메인 메뉴에서 선택할 수 있는 최대 번호를 계산한다.
      *
-     * 장바구니가 비었을 경우에는 메뉴 항목의 개수만큼, 장바구니에 항목이
-     * 있을 경우에는 메뉴 항목과, 주문 항목을 포함한 번호를 반환한다.
+     * 검색 옵션이 주문 항목의 다음 번호이므로 항상 검색 옵션의 번호를 반환한다.
+     * 장바구니가 비었을 때 주문 항목의 번호는 `handleMainMenu()`에서 거절한다.
      *
      * @return 선택할 수 있는 최대 번호
      */
     private int calculateMaxOption() {
-        return cart.isEmpty() ? menus.size() : menus.size() + 2;
+        return menus.size() + 3;
     }
 
     /**
@@ -150,6 +509,16 @@ public class Kiosk {
         return userInput <= menus.size() && userInput > 0;
     }
 
+    /**
+     * 메인 메뉴에서 사용자 입력이 메뉴 검색인지 확인한다.
+     *
+     * @param userInput 사용자 입력값
+     * @return 메뉴 검색 여부
+     */
+    private boolean isSearch(int userInput) {
+        return userInput == menus.size() + 3;
+    }
+
     /**
      * 메인 메뉴에서 사용자 입력이 주문인지 확인한다.
      *
@@ -171,45 +540,72 @@ public class Kiosk {
     }
 
     /**
-     * 메인 메뉴에서 사용자가 메뉴를 선택했을 경우 해당 메뉴를 처리한다.
+     * 메뉴 검색 결과를 출력한다.
      *
-     * 선택된 메뉴의 항목을 출력하고, 사용자가 메뉴 항목을 선택하면
-     * 해당 항목을 장바구니에 추가할지 결정한다.
+     * 이름이 검색어와 일치하거나 비슷한 메뉴 항목들을 메뉴 항목 화면과 같은 형식으로 출력하며,
+     * 사용자는 번호를 골라 장바구니에 추가할 수 있다. 결과가 없으면 메인 메뉴로 돌아간다.
      *
-     * @param menu 선택된 메뉴
+     * @param query 검색어
      */
-    private void handleMenu(Menu menu) {
-        List<MenuItem> menuItems = menu.getMenuItems();
+    private void handleSearch(String query) {
+        List<MenuItem> results = catalog.getSearchIndex().search(query, SEARCH_RESULT_LIMIT);
+        if (results.isEmpty()) {
+            out.println("\n검색 결과가 없습니다.");
+            returnToMainMenu();
+            return;
+        }
 
-        // 메뉴 항목 출력
-        printMenuItems(menu);
+        Menu resultMenu = new Menu("Search");
+        results.forEach(resultMenu::addMenuItem);
+        selectedMenuItems = resultMenu.getSnapshot();
+        printMenuItems(out, resultMenu.getCategory(), selectedMenuItems);
+        state = State.MENU_ITEMS;
+    }
+
+    /**
+     * 메뉴 항목 화면에서 사용자 입력을 처리한다.
+     *
+     * 사용자가 메뉴 항목을 선택하면 해당 항목을 장바구니에 추가할지 묻고,
+     * 뒤로가기를 선택하면 메인 메뉴로 돌아간다.
+     *
+     * @param input 사용자 입력 문자열
+     */
+    private void handleMenu(CharSequence input) {
+        int userInput = getUserInput(input, 0, selectedMenuItems.size());
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
 
-        // 사용자 입력 받기
-        int userInput = getUserInput(0, menuItems.size());
         if (userInput != 0) { // 메뉴 항목 선택
-            handleCartAddition(menuItems.get(userInput - 1));
+            selectedMenuItem = selectedMenuItems.getMenuItem(userInput);
+            printAddToCart(selectedMenuItem);
+            state = State.CART_ADDITION;
+        } else { // 뒤로가기
+            returnToMainMenu();
         }
     }
 
     /**
      * 선택한 항목을 장바구니에 넣을지 결정한다.
      *
-     * 사용자에게 선택한 메뉴 항목을 장바구니에 넣을지 물어보는 메시지를
-     * 출력하고, 추가를 선택하면 해당 항목을 장바구니에 추가하고, 완료
-     * 메시지를 출력한다.
+     * 추가를 선택하면 해당 항목을 장바구니에 추가하고, 완료 메시지를
+     * 출력한 후 메인 메뉴로 돌아간다.
      *
-     * @param menuItem 선택된 메뉴 항목
+     * @param input 사용자 입력 문자열 (1: 확인, 2: 취소)
      */
-    private void handleCartAddition(MenuItem menuItem) {
-        // 장바구니에 메뉴 항목을 추가할지 물어보는 메시지 출력
-        printAddToCart(menuItem);
+    private void handleCartAddition(CharSequence input) {
+        int userInput = getUserInput(input, 1, 2);
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
 
-        // 사용자 입력 받기 (1: 확인, 2: 취소)
-        int userInput = getUserInput(1, 2);
         if (userInput == 1) { // 장바구니에 추가 선택
-            cart.addCartItem(menuItem);
-            System.out.println("\n" + menuItem.getName() + " 이 장바구니에 추가되었습니다.");
+            cart.addCartItem(selectedMenuItem);
+            out.print("\n");
+            out.print(selectedMenuItem.getName());
+            out.println(" 이 장바구니에 추가되었습니다.");
         }
+        returnToMainMenu();
     }
 
     /**
@@ -217,40 +613,43 @@ public class Kiosk {
      *
      * @param menuItem 선택한 메뉴 항목
      */
-    private static void printAddToCart(MenuItem menuItem) {
-        System.out.println("선택한 메뉴: " + menuItem);
-        System.out.println("\n\"" + menuItem + "\"");
-        System.out.println("위 메뉴를 장바구니에 추가하시겠습니까?");
-        System.out.println("1. 확인        2. 취소");
+    private void printAddToCart(MenuItem menuItem) {
+        out.print("선택한 메뉴: ");
+        out.println(menuItem);
+        out.print("\n\"");
+        out.print(menuItem);
+        out.println("\"");
+        out.println("위 메뉴를 장바구니에 추가하시겠습니까?");
+        out.println("1. 확인        2. 취소");
     }
 
     /**
-     * 사용자의 주문 요청을 처리한다.
+     * 주문 확인 화면에서 사용자 입력을 처리한다.
+     *
+     * 주문을 확정하면 할인 정보를 묻고, 항목 제거를 선택하면 제거할
+     * 항목의 이름을 묻는다. 메뉴판을 선택하면 메인 메뉴로 돌아간다.
      *
-     * 주문 확인 메시지를 출력하고, 항목을 제거하거나,
-     * 주문을 완료할 수 있는 옵션을 제공한다.
+     * @param input 사용자 입력 문자열 (1: 주문, 2: 항목 제거, 3:메뉴판)
      */
-    private void handleOrder() {
-        // 장바구니에서 항목을 제거할 동안 반복
-        while (true) {
-            // 주문 확인 메시지 출력
-            printOrderConfirmation();
+    private void handleOrder(CharSequence input) {
+        int userInput = getUserInput(input, 1, 3);
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
 
-            // 사용자 입력 받기 (1: 주문, 2: 항목 제거, 3:메뉴판)
-            int userInput = getUserInput(1, 3);
-            if (userInput == 1) { // 주문 완료 처리
-                processOrder();
-                break;
-            }
-            else if (userInput == 2) { // 장바구니에서 항목 제거
-                removeItemFromCart();
-                if (cart.isEmpty()) { // 장바구니가 비면 종료
-                    break;
-                }
-            }
-            else { // 메뉴판으로 돌아가기
-                break;
+        if (userInput == 1) { // 할인 정보 입력
+            if (discountFrame == null) {
+                discountFrame = screen.render(this::printDiscountInfo);
             }
+            screen.write(discountFrame);
+            state = State.DISCOUNT;
+        }
+        else if (userInput == 2) { // 장바구니에서 항목 제거
+            out.println("\n제거할 항목의 이름을 입력하세요.");
+            state = State.ITEM_REMOVAL;
+        }
+        else { // 메뉴판으로 돌아가기
+            returnToMainMenu();
         }
     }
 
@@ -259,69 +658,239 @@ public class Kiosk {
      *
      * 장바구니에 담긴 항목들과 총 금액을 출력 한 후,
      * '주문 확정', '항목 제거', '메뉴판으로 돌아가기' 옵션을 제공한다.
+     * 주방이 밀려 있으면 옵션 앞에 준비가 늦어질 수 있다는 안내를 출력한다.
      */
     private void printOrderConfirmation() {
-        System.out.println("\n아래와 같이 주문 하시겠습니까?\n");
-        System.out.println("[ Orders ]");
-        cart.printCartItems();
-        System.out.println("\n[ Total ]");
-        System.out.println("W " + String.format("%.2f", cart.getTotalPrice()) + "\n");
-        System.out.println("1. 주문      2. 항목 제거     3. 메뉴판");
+        out.println("\n아래와 같이 주문 하시겠습니까?\n");
+        out.println("[ Orders ]");
+        cart.printCartItems(out);
+        out.println("\n[ Total ]");
+        out.print("W ");
+        out.print(cart.getTotalPrice().format());
+        out.println("\n");
+        if (backpressure != null && backpressure.isBackedUp()) {
+            out.print("주방에 주문이 밀려 있어 준비가 늦어질 수 있습니다. (대기 주문 ");
+            out.print(backpressure.getBacklog());
+            out.println("건)\n");
+        }
+        out.println("1. 주문      2. 항목 제거     3. 메뉴판");
     }
 
     /**
      * 주문 처리를 완료한다.
      *
-     * 할인 정보를 적용한 후, 최종 금액을 포함한 주문 완료 메세지를 출력하고,
-     * 장바구니를 비운다.
+     * 장바구니의 항목을 꺼내면서 비운 후, 꺼낸 항목에 입력 받은 사용자 유형의
+     * 할인율을 적용하고, 최종 금액을 포함한 주문 완료 메세지를 출력하고,
+     * 등록된 객체에 완료된 주문을 알린다. 금액 계산과 주문 기록은 모두 한 번에
+     * 꺼낸 항목으로 수행하므로, 여러 단말기가 함께 사용하는 장바구니에서도
+     * 결제되지 않은 항목이 주문에 포함되거나 사라지지 않는다.
+     *
+     * @param input 사용자 입력 문자열 (사용자 유형 번호)
      */
-    private void processOrder() {
-        float totalPrice = applyDiscount();
-        System.out.println("\n주문이 완료되었습니다. 금액은 W " + String.format("%.2f", totalPrice) + " 입니다.");
-        cart.clear();
+    private void processOrder(CharSequence input) {
+        UserType[] userTypes = UserType.values();
+        int userInput = getUserInput(input, 1, userTypes.length);
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
+
+        UserType userType = userTypes[userInput - 1];
+        List<CartItem> cartItems = cart.drain();
+        if (cartItems.isEmpty()) { // 다른 단말기에서 먼저 주문한 경우
+            out.println("\n장바구니가 비어 있습니다.");
+            returnToMainMenu();
+            return;
+        }
+
+        long pricingStart = System.nanoTime();
+        Money totalPrice = applyDiscount(cartItems, userType);
+        if (metrics != null) {
+            metrics.recordOrder(countItems(cartItems), System.nanoTime() - pricingStart);
+        }
+        out.print("\n주문이 완료되었습니다. 금액은 W ");
+        out.print(totalPrice.format());
+        out.println(" 입니다.");
+        notifyOrder(cartItems, userType, totalPrice);
+        returnToMainMenu();
     }
 
     /**
-     * 사용자 유형 별 할인 정보를 처리하고, 최종 가격을 계산하여 반환한다.
+     * 등록된 객체들에 완료된 주문을 알린다.
      *
-     * 사용자 유형 목록을 출력하고, 사용자 유형을 입력 받아
-     * 해당 할인율을 적용한 가격을 반환한다.
+     * 어떤 객체가 주문을 처리하지 못해 예외를 던지면 고객에게 안내하고, 나머지 객체들에는 계속 알린다.
+     * {@link OrderRejectedException}의 메시지만 그대로 안내하며, 그 밖의 예외는 내부 정보가
+     * 드러나지 않도록 정해진 문구로 안내하고 자세한 내용은 오류 출력에만 남긴다.
      *
-     * @return 할인이 적용된 최종 금액
+     * @param cartItems 주문한 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param paymentPrice 할인이 적용된 최종 결제 금액
      */
-    private float applyDiscount() {
-        System.out.println("\n할인 정보를 입력해주세요.");
-        UserType.printAllTypes();
+    private void notifyOrder(List<CartItem> cartItems, UserType userType, Money paymentPrice) {
+        if (orderListeners.isEmpty()) {
+            return;
+        }
 
-        UserType[] userTypes = UserType.values();
-        int userInput = getUserInput(1, userTypes.length);
-        int discountRate = userTypes[userInput - 1].getDiscountRate();
-        return cart.getTotalPrice() * (100 - discountRate) / 100;
+        Order order = Order.of(System.currentTimeMillis(), cartItems, userType, paymentPrice);
+        for (OrderListener listener : orderListeners) {
+            try {
+                listener.onOrder(order);
+            } catch (OrderRejectedException e) {
+                System.err.println("완료된 주문을 처리하지 못했습니다: " + e);
+                out.print("\n");
+                out.print(e.getMessage());
+                out.println(" 직원에게 문의해주세요.");
+            } catch (RuntimeException e) {
+                System.err.println("완료된 주문을 처리하지 못했습니다: " + e);
+                out.println("\n주문을 처리하는 중 문제가 발생했습니다. 직원에게 문의해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 장바구니 항목들의 수량 합계를 반환한다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @return 수량 합계
+     */
+    private static int countItems(List<CartItem> cartItems) {
+        int count = 0;
+        for (int i = 0; i < cartItems.size(); i++) {
+            count += cartItems.get(i).getCount();
+        }
+        return count;
+    }
+
+    /**
+     * 할인 정보 입력 메시지와 사용자 유형 목록을 출력한다.
+     *
+     * @param out 할인 정보를 출력할 스트림
+     */
+    private void printDiscountInfo(PrintStream out) {
+        out.println("\n할인 정보를 입력해주세요.");
+        UserType.printAllTypes(out);
+    }
+
+    /**
+     * 할인 규칙 엔진으로 사용자 유형 할인을 포함한 할인을 적용한 최종 가격을 계산하여 반환한다.
+     *
+     * @param cartItems 주문할 장바구니 항목 리스트
+     * @param userType 사용자 유형
+     * @return 할인이 적용된 최종 금액
+     */
+    private Money applyDiscount(List<CartItem> cartItems, UserType userType) {
+        return pricingEngine.price(cartItems, userType, LocalTime.now(clock), pricingContext);
     }
 
     /**
      * 장바구니에서 항목을 제거한다.
      *
-     * 제거할 항목의 이름을 입력 받아, 해당 항목을 장바구니에서 제거한다.
+     * 입력 받은 이름의 항목을 장바구니에서 제거한 후, 장바구니가 비었다면
+     * 메인 메뉴로, 그렇지 않다면 주문 확인 화면으로 돌아간다.
+     * 이름이 정확히 일치하는 항목이 없으면, 메뉴 검색 결과 중 장바구니에 담긴
+     * 첫 번째 항목의 이름을 보여 주고 제거할지 확인받는다.
+     *
+     * @param itemName 제거할 항목의 이름
      */
-    private void removeItemFromCart() {
-        System.out.println("\n제거할 항목의 이름을 입력하세요.");
-        String itemName = scanner.next();
+    private void removeItemFromCart(String itemName) {
         if (cart.removeItemByName(itemName)) {
-            System.out.println("\n제거되었습니다.");
+            out.println("\n제거되었습니다.");
+        } else {
+            String matchedName = findCartItemName(itemName);
+            if (matchedName != null) {
+                printRemovalConfirmation(matchedName);
+                pendingRemovalName = matchedName;
+                state = State.REMOVAL_CONFIRMATION;
+                return;
+            }
+            out.println("\n항목이 존재하지 않습니다.");
+        }
+        returnAfterRemoval();
+    }
+
+    /**
+     * 비슷한 이름으로 찾은 항목을 제거할지 결정한다.
+     *
+     * 제거를 선택하면 해당 항목을 장바구니에서 제거하고, 어느 쪽이든
+     * 장바구니가 비었다면 메인 메뉴로, 그렇지 않다면 주문 확인 화면으로 돌아간다.
+     *
+     * @param input 사용자 입력 문자열 (1: 확인, 2: 취소)
+     */
+    private void handleRemovalConfirmation(CharSequence input) {
+        int userInput = getUserInput(input, 1, 2);
+        if (userInput == INVALID_INPUT) {
+            return;
+        }
+
+        if (userInput == 1) { // 제거 선택
+            if (cart.removeItemByName(pendingRemovalName)) {
+                out.println("\n" + pendingRemovalName + " 이 제거되었습니다.");
+            } else { // 다른 단말기에서 먼저 제거한 경우
+                out.println("\n항목이 존재하지 않습니다.");
+            }
+        }
+        pendingRemovalName = null;
+        returnAfterRemoval();
+    }
+
+    /**
+     * 비슷한 이름으로 찾은 항목을 제거할지 물어보는 메시지를 출력한다.
+     *
+     * @param matchedName 찾은 장바구니 항목의 이름
+     */
+    private void printRemovalConfirmation(String matchedName) {
+        out.println("\n이름이 일치하는 항목이 없습니다.");
+        out.print("찾은 항목: ");
+        out.println(matchedName);
+        out.println("위 항목을 장바구니에서 제거하시겠습니까?");
+        out.println("1. 확인        2. 취소");
+    }
+
+    /**
+     * 항목 제거를 마친 후, 장바구니가 비었다면 메인 메뉴로, 그렇지 않다면 주문 확인 화면으로 돌아간다.
+     */
+    private void returnAfterRemoval() {
+        if (cart.isEmpty()) { // 장바구니가 비면 종료
+            returnToMainMenu();
         } else {
-            System.out.println("\n항목이 존재하지 않습니다.");
+            printOrderConfirmation();
+            state = State.ORDER_CONFIRMATION;
         }
     }
 
+    /**
+     * 메뉴 검색 결과 중 장바구니에 담긴 첫 번째 항목의 이름을 찾는다.
+     *
+     * @param query 검색어
+     * @return 장바구니에 담긴 항목의 이름, 없으면 null
+     */
+    private String findCartItemName(String query) {
+        List<MenuItem> results = catalog.getSearchIndex().search(query, SEARCH_RESULT_LIMIT);
+        if (results.isEmpty()) {
+            return null;
+        }
+
+        List<CartItem> cartItems = cart.viewCartItems();
+        for (MenuItem result : results) {
+            for (CartItem cartItem : cartItems) {
+                if (cartItem.getMenuItem().getName().equalsIgnoreCase(result.getName())) {
+                    return cartItem.getMenuItem().getName();
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * 주문을 취소한다.
      *
      * 주문 취소 메시지를 출력하고, 장바구니를 비운다.
      */
     private void handelReset() {
-        System.out.println("\n주문이 취소되었습니다.");
+        out.println("\n주문이 취소되었습니다.");
         cart.clear();
+        if (metrics != null) {
+            metrics.recordCancellation();
+        }
     }
 
     /**
@@ -330,33 +899,38 @@ public class Kiosk {
      * 종료 메시지를 출력하고, 장바구니를 비운다.
      */
     private void terminate() {
-        System.out.println("\n프로그램을 종료합니다.");
+        out.println("\n프로그램을 종료합니다.");
         cart.clear();
+        state = State.TERMINATED;
     }
 
     /**
-     * 사용자 입력을 받는다.
+     * 사용자 입력을 번호로 변환한다.
      *
-     * 주어진 최소값과 최대값 사이의 숫자를 사용자로부터 입력받고,
-     * 잘못된 입력이 있을 경우 다시 입력을 받는다.
+     * 입력이 주어진 최소값과 최대값 사이의 숫자가 아니라면 경고 메시지를
+     * 출력하고 `INVALID_INPUT`을 반환한다.
      *
+     * @param input 사용자 입력 문자열
      * @param minOption 선택 가능한 번호의 최솟값
      * @param maxOption 선택 가능한 번호의 최댓값
-     * @return 사용자 입력 값
+     * @return 사용자 입력 값, 유효하지 않은 경우 `INVALID_INPUT`
      */
-    private int getUserInput(int minOption, int maxOption) {
-        while(true) {
-            try {
-                int num = scanner.nextInt();
-                if (num < minOption || num > maxOption)
-                    throw new IllegalArgumentException();
-                return num;
-            } catch (InputMismatchException e) {
-                System.out.println(INVALID_INPUT_MESSAGE);
-                scanner.next();
-            } catch (IllegalArgumentException e) {
-                System.out.println(INVALID_INPUT_MESSAGE);
-            }
+    private int getUserInput(CharSequence input, int minOption, int maxOption) {
+        int num = InputTokenizer.parseOption(input, minOption, maxOption);
+        if (num != INVALID_INPUT) {
+            return num;
+        }
+        rejectInput();
+        return INVALID_INPUT;
+    }
+
+    /**
+     * 유효하지 않은 입력에 대한 경고 메시지를 출력하고 기록한다.
+     */
+    private void rejectInput() {
+        out.println(INVALID_INPUT_MESSAGE);
+        if (metrics != null) {
+            metrics.recordInvalidInput();
         }
     }
 }
@@ -0,0 +1,378 @@
+package org.example.lv6.app;
+
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.PrimitiveCart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 세션마다 스레드를 두지 않고, 적은 수의 스레드로 많은 주문 단말기의 세션을 처리하는 서버 클래스이다.
+ *
+ * `KioskServer`는 세션마다 스레드 하나가 입력을 기다리며 멈춰 있지만, 이 서버는 non-blocking
+ * 채널과 셀렉터를 사용한다. 셀렉터 스레드 하나가 연결을 받고 입출력이 가능해진 세션을 찾아
+ * 고정된 수의 작업 스레드에 넘기면, 작업 스레드는 지금 읽을 수 있는 입력만 읽어 완성된
+ * 입력마다 `Kiosk.handleInput()`을 호출하고, 출력된 화면을 보낸 후 세션을 셀렉터에 돌려준다.
+ * 입력을 기다리는 세션은 스레드를 차지하지 않고 `Kiosk`의 화면 상태로만 남아 있다.
+ *
+ * 한 세션은 작업 스레드에 넘겨진 동안 셀렉터에서 관심 이벤트가 없으므로, 동시에 두 스레드에서
+ * 처리되지 않는다. 화면을 다 보내지 못하면 보낼 수 있을 때까지 다음 입력을 처리하지 않으며,
+ * 한 번에 처리하는 입력은 `MAX_INPUTS_PER_DISPATCH`개로 제한하여 다른 세션이 밀리지 않게 한다.
+ *
+ * 세션의 설정(주문 완료 알림, 할인 규칙, 측정값 등)과 장바구니 풀은 `KioskSessionManager`의 것을 사용한다.
+ *
+ * - `sessionManager`: 세션의 키오스크를 만들고 장바구니를 빌려주는 객체
+ * - `serverChannel`: 단말기의 연결을 받는 채널
+ * - `selector`: 연결과 입출력이 가능해진 채널을 찾는 셀렉터
+ * - `workers`: 세션의 입력을 처리하는 작업 스레드 풀
+ * - `sessions`: 연결된 세션의 집합
+ * - `cartProvider`: 단말기가 보낸 식별자로 세션에서 사용할 장바구니를 여는 함수, 없으면 세션 관리자의 장바구니 풀을 사용한다
+ */
+public class KioskEventLoopServer implements Closeable {
+    public static final int MAX_INPUTS_PER_DISPATCH = 64; // 작업 스레드가 세션 하나에서 한 번에 처리하는 최대 입력 수
+
+    private static final int INITIAL_OUTPUT_SIZE = 1024;
+
+    private final KioskSessionManager sessionManager;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ExecutorService workers;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private Function<String, Cart> cartProvider;
+
+    /**
+     * 연결된 단말기 하나의 세션으로, 작업 스레드에서 실행되어 입력을 처리한다.
+     *
+     * - `channel`, `key`: 단말기와 연결된 채널과 셀렉터에 등록된 키
+     * - `tokenizer`: 채널에서 읽은 입력을 토큰 또는 줄 단위로 나누는 객체
+     * - `output`: 아직 보내지 못한 화면
+     * - `kiosk`: 세션의 화면 상태를 가진 키오스크(처음 실행될 때 만든다)
+     * - `cart`, `pooledCart`: 세션의 장바구니와, 풀에서 빌린 경우 돌려줄 장바구니
+     */
+    private final class Session implements Runnable {
+        private final SocketChannel channel;
+        private final InputTokenizer tokenizer;
+        private final SessionOutput output = new SessionOutput();
+        private SelectionKey key;
+        private Kiosk kiosk;
+        private Cart cart;
+        private PrimitiveCart pooledCart;
+        private boolean closed;
+
+        private Session(SocketChannel channel) {
+            this.channel = channel;
+            this.tokenizer = new InputTokenizer(sessionManager.getCharset());
+        }
+
+        /**
+         * 보낼 화면을 보내고, 읽어 둔 입력과 지금 읽을 수 있는 입력을 처리한다.
+         * 더 처리할 입력이 없으면 필요한 이벤트를 셀렉터에 등록하고 반환한다.
+         */
+        @Override
+        public void run() {
+            try {
+                if (kiosk == null && !begin()) {
+                    return;
+                }
+
+                int handled = 0;
+                while (true) {
+                    if (!output.writeTo(channel)) {
+                        await(SelectionKey.OP_WRITE);
+                        return;
+                    }
+                    if (kiosk.isTerminated()) {
+                        close();
+                        return;
+                    }
+                    if (handled == MAX_INPUTS_PER_DISPATCH) { // 다른 세션에 차례를 넘긴다.
+                        execute(this);
+                        return;
+                    }
+                    if (kiosk.expectsName() ? tokenizer.pollLine() : tokenizer.pollToken()) {
+                        kiosk.handleInput(tokenizer);
+                        handled++;
+                    } else if (tokenizer.isEndOfInput()) {
+                        close();
+                        return;
+                    } else if (tokenizer.read(channel) == 0) {
+                        await(SelectionKey.OP_READ);
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                close(); // 연결이 끊어진 경우
+            } catch (RuntimeException e) {
+                System.err.println("세션이 비정상 종료되었습니다: " + e);
+                close();
+            }
+        }
+
+        /**
+         * 장바구니와 키오스크를 준비하고 첫 화면을 출력한다.
+         *
+         * 장바구니를 여는 함수가 지정되었다면 먼저 첫 줄의 단말기 식별자를 읽는다. 식별자가 아직
+         * 도착하지 않았으면 입력을 기다리도록 등록하고, 장바구니를 열 수 없으면 이유를 보낸 후
+         * 연결을 닫는다.
+         *
+         * @return 키오스크를 준비했으면 true, 입력을 기다리거나 연결을 닫았으면 false
+         */
+        private boolean begin() throws IOException {
+            if (cartProvider == null) {
+                pooledCart = sessionManager.acquireCart();
+                cart = pooledCart;
+            } else {
+                while (!tokenizer.pollLine()) {
+                    if (tokenizer.isEndOfInput()) {
+                        close();
+                        return false;
+                    }
+                    if (tokenizer.read(channel) == 0) {
+                        await(SelectionKey.OP_READ);
+                        return false;
+                    }
+                }
+                cart = sessionManager.openTerminalCart(cartProvider, tokenizer.toString(), output);
+                if (cart == null) {
+                    output.writeTo(channel);
+                    close();
+                    return false;
+                }
+            }
+            kiosk = sessionManager.createKiosk(cart, tokenizer, output);
+            kiosk.begin();
+            return true;
+        }
+
+        /**
+         * 주어진 이벤트가 발생하면 다시 작업 스레드에 넘겨지도록 셀렉터에 등록한다.
+         */
+        private void await(int interestOps) {
+            key.interestOps(interestOps);
+            selector.wakeup();
+        }
+
+        /**
+         * 연결을 닫고 장바구니를 돌려준다. `Closeable`인 장바구니는 함께 닫는다.
+         */
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            sessions.remove(this);
+            key.cancel();
+            closeQuietly(channel);
+            if (pooledCart != null) {
+                sessionManager.releaseCart(pooledCart);
+            } else if (cart instanceof Closeable closeableCart) {
+                closeQuietly(closeableCart);
+            }
+        }
+    }
+
+    /**
+     * 세션의 화면을 채널로 보낼 때까지 모아 두는 출력 스트림이다.
+     */
+    private static final class SessionOutput extends OutputStream {
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_OUTPUT_SIZE);
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            buffer.put(b, off, len);
+        }
+
+        /**
+         * 모아 둔 화면을 채널이 받을 수 있는 만큼 보낸다.
+         *
+         * @return 모두 보냈으면 true
+         */
+        private boolean writeTo(SocketChannel channel) throws IOException {
+            if (buffer.position() == 0) {
+                return true;
+            }
+
+            buffer.flip();
+            channel.write(buffer);
+            buffer.compact();
+            return buffer.position() == 0;
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.remaining() < length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+    }
+
+    /**
+     * 주어진 포트에서 연결을 받고, 주어진 수의 작업 스레드로 세션을 처리하는 `KioskEventLoopServer` 객체를 생성한다.
+     *
+     * @param sessionManager 세션의 키오스크를 만들고 장바구니를 빌려주는 객체
+     * @param port 연결을 받을 포트 번호
+     * @param workerCount 세션의 입력을 처리할 작업 스레드의 수
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public KioskEventLoopServer(KioskSessionManager sessionManager, int port, int workerCount) throws IOException {
+        this.sessionManager = sessionManager;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port));
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.workers = Executors.newFixedThreadPool(workerCount, workerThreadFactory());
+    }
+
+    /**
+     * 서버가 연결을 받고 있는 포트 번호를 반환한다.
+     *
+     * @return 포트 번호
+     * @throws IOException 포트 번호를 확인할 수 없는 경우
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * 세션에서 사용할 장바구니를 여는 함수를 지정한다.
+     *
+     * 지정하면 단말기는 연결 직후 첫 줄로 자신의 식별자를 보내야 하며, 함수에는 그 식별자가 전달된다.
+     * 함수는 작업 스레드에서 호출되고, 예외가 발생하면 해당 단말기의 연결만 닫는다. 만들어진 장바구니가
+     * `Closeable`이면 세션이 끝날 때 함께 닫는다.
+     *
+     * @param cartProvider 단말기 식별자로 장바구니를 여는 함수
+     */
+    public void setCartProvider(Function<String, Cart> cartProvider) {
+        this.cartProvider = cartProvider;
+    }
+
+    /**
+     * 연결된 세션의 수를 반환한다.
+     *
+     * @return 연결된 세션의 수
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 서버가 닫힐 때까지 단말기의 연결을 받고, 입출력이 가능해진 세션을 작업 스레드에 넘긴다.
+     *
+     * @throws IOException 연결을 받는 중 오류가 발생한 경우
+     */
+    public void start() throws IOException {
+        try {
+            while (selector.isOpen()) {
+                selector.select(this::dispatch);
+            }
+        } catch (ClosedSelectorException e) {
+            // close()로 서버가 닫힌 경우
+        }
+    }
+
+    /**
+     * 새로운 연결을 더 이상 받지 않고, 처리 중인 입력이 끝나면 모든 세션의 연결을 닫는다.
+     *
+     * @throws IOException 채널을 닫는 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        selector.close();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        sessions.forEach(Session::close);
+        sessionManager.close();
+    }
+
+    /**
+     * 셀렉터가 찾은 키를 처리한다. 연결 요청이면 세션을 만들고, 그 외에는 세션을 작업 스레드에 넘긴다.
+     */
+    private void dispatch(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        Session session = (Session) key.attachment();
+        key.interestOps(0); // 작업 스레드가 처리하는 동안에는 이벤트를 받지 않는다.
+        execute(session);
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Session session = new Session(channel);
+                session.key = channel.register(selector, 0, session);
+                sessions.add(session);
+                execute(session);
+            }
+        } catch (IOException e) {
+            System.err.println("단말기의 연결을 받지 못했습니다: " + e);
+        }
+    }
+
+    private void execute(Session session) {
+        try {
+            workers.execute(session);
+        } catch (RejectedExecutionException e) { // 서버가 닫히는 중인 경우
+            session.close();
+        }
+    }
+
+    private static void closeQuietly(Closeable resource) {
+        try {
+            resource.close();
+        } catch (IOException e) {
+            // 이미 끊어진 연결은 무시한다.
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "kiosk-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
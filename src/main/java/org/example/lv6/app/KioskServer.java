@@ -0,0 +1,107 @@
+package org.example.lv6.app;
+
+import org.example.lv6.domain.cart.Cart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.function.Function;
+
+/**
+ * 네트워크로 연결된 여러 주문 단말기에 키오스크 세션을 제공하는 서버 클래스이다.
+ *
+ * 단말기가 연결될 때마다 `KioskSessionManager`를 통해 새로운 세션을 시작하고,
+ * 소켓의 입출력 스트림으로 세션을 구동한다. 연결을 받는 스레드는 세션을 넘기기만 하며,
+ * 한 연결을 처리하다 실패해도 그 연결만 닫고 다음 연결을 계속 받는다.
+ *
+ * - `sessionManager`: 세션을 생성하고 실행하는 객체
+ * - `serverSocket`: 단말기의 연결을 받는 소켓
+ * - `cartProvider`: 단말기가 보낸 식별자로 세션에서 사용할 장바구니를 여는 함수, 없으면 세션 관리자의 장바구니 풀을 사용한다
+ */
+public class KioskServer implements Closeable {
+    private final KioskSessionManager sessionManager;
+    private final ServerSocket serverSocket;
+    private Function<String, Cart> cartProvider;
+
+    /**
+     * 주어진 포트에서 연결을 받는 `KioskServer` 객체를 생성한다.
+     *
+     * @param sessionManager 세션을 생성하고 실행하는 객체
+     * @param port 연결을 받을 포트 번호
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public KioskServer(KioskSessionManager sessionManager, int port) throws IOException {
+        this.sessionManager = sessionManager;
+        this.serverSocket = new ServerSocket(port);
+    }
+
+    /**
+     * 서버가 연결을 받고 있는 포트 번호를 반환한다.
+     *
+     * @return 포트 번호
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 세션에서 사용할 장바구니를 여는 함수를 지정한다.
+     *
+     * 지정하면 단말기는 연결 직후 첫 줄로 자신의 식별자를 보내야 하며, 함수에는 그 식별자가 전달된다.
+     * 함수는 세션 스레드에서 호출되고, 예외가 발생하면 해당 단말기의 연결만 닫는다.
+     * 만들어진 장바구니가 `Closeable`이면 세션이 끝날 때 함께 닫는다.
+     *
+     * @param cartProvider 단말기 식별자로 장바구니를 여는 함수
+     */
+    public void setCartProvider(Function<String, Cart> cartProvider) {
+        this.cartProvider = cartProvider;
+    }
+
+    /**
+     * 서버가 닫힐 때까지 단말기의 연결을 받아 세션을 시작한다.
+     *
+     * @throws IOException 연결을 받는 중 오류가 발생한 경우
+     */
+    public void start() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) { // close()로 서버가 닫힌 경우
+                break;
+            }
+            try {
+                socket.setTcpNoDelay(true);
+                if (cartProvider == null) {
+                    sessionManager.open(socket.getInputStream(), socket.getOutputStream(), socket);
+                } else {
+                    sessionManager.openTerminal(cartProvider, socket.getInputStream(), socket.getOutputStream(), socket);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("단말기의 세션을 시작하지 못했습니다: " + e);
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    /**
+     * 새로운 연결을 더 이상 받지 않고, 세션 관리자를 닫는다.
+     *
+     * @throws IOException 소켓을 닫는 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessionManager.close();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // 이미 끊어진 연결은 무시한다.
+        }
+    }
+}
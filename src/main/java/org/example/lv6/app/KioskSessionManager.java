@@ -0,0 +1,356 @@
+package org.example.lv6.app;
+
+import org.example.lv6.app.metrics.KioskMetrics;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.CartPool;
+import org.example.lv6.domain.cart.PrimitiveCart;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.pricing.PricingEngine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 여러 키오스크 세션을 하나의 JVM에서 동시에 실행하는 클래스이다.
+ *
+ * 모든 세션은 하나의 메뉴 카탈로그를 공유하고, 세션마다 장바구니와 화면 상태를
+ * 가진 `Kiosk` 객체를 새로 만들어 자신의 입출력 스트림(소켓, 파이프 등)으로 구동한다.
+ * 각 세션은 세션 전용 스레드에서 실행된다.
+ *
+ * - `catalog`: 모든 세션이 공유하는 메뉴 카탈로그
+ * - `charset`: 세션 입출력의 문자 인코딩
+ * - `executor`: 세션을 실행하는 스레드 풀
+ * - `activeSessions`: 실행 중인 세션의 수
+ * - `orderListeners`: 모든 세션의 주문 완료 알림을 받을 객체 리스트
+ * - `cartPool`: 세션이 끝난 장바구니를 다음 세션에 재사용하기 위한 풀
+ * - `pricingEngine`: 모든 세션이 공유하는 할인 규칙 엔진
+ * - `metrics`: 모든 세션의 측정값을 기록할 객체, 없으면 null
+ * - `backpressure`: 주방이 밀려 있는지 모든 세션에 알려주는 객체, 없으면 null
+ */
+public class KioskSessionManager implements Closeable {
+    private static final int CART_POOL_CAPACITY = 256; // 보관해 둘 빈 장바구니의 최대 개수
+
+    private final MenuCatalog catalog;
+    private final Charset charset;
+    private final ExecutorService executor;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final List<OrderListener> orderListeners = new CopyOnWriteArrayList<>();
+    private final CartPool cartPool = new CartPool(CART_POOL_CAPACITY);
+    private volatile PricingEngine pricingEngine = PricingEngine.standard();
+    private volatile KioskMetrics metrics;
+    private volatile Backpressure backpressure;
+
+    /**
+     * 주어진 메뉴 리스트를 공유하는 `KioskSessionManager` 객체를 생성한다.
+     *
+     * 세션 입출력은 UTF-8로 인코딩된다.
+     *
+     * @param menus 모든 세션이 공유할 메뉴 리스트
+     */
+    public KioskSessionManager(List<Menu> menus) {
+        this(menus, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 주어진 메뉴 리스트와 문자 인코딩으로 `KioskSessionManager` 객체를 생성한다.
+     *
+     * @param menus 모든 세션이 공유할 메뉴 리스트
+     * @param charset 세션 입출력의 문자 인코딩
+     */
+    public KioskSessionManager(List<Menu> menus, Charset charset) {
+        this(new MenuCatalog(menus), charset);
+    }
+
+    /**
+     * 주어진 메뉴 카탈로그를 공유하는 `KioskSessionManager` 객체를 생성한다.
+     *
+     * 카탈로그가 교체되면 실행 중인 세션에도 다음 메인 메뉴 화면부터 반영된다.
+     *
+     * @param catalog 모든 세션이 공유할 메뉴 카탈로그
+     * @param charset 세션 입출력의 문자 인코딩
+     */
+    public KioskSessionManager(MenuCatalog catalog, Charset charset) {
+        this.catalog = catalog;
+        this.charset = charset;
+        this.executor = Executors.newCachedThreadPool(sessionThreadFactory());
+    }
+
+    /**
+     * 모든 세션에서 주문이 완료될 때 알림을 받을 객체를 등록한다.
+     *
+     * 이후에 시작되는 세션부터 적용된다.
+     *
+     * @param orderListener 주문 완료 알림을 받을 객체
+     */
+    public void addOrderListener(OrderListener orderListener) {
+        orderListeners.add(orderListener);
+    }
+
+    /**
+     * 모든 세션의 측정값을 기록할 객체를 지정한다. 이후에 시작되는 세션부터 적용된다.
+     *
+     * @param metrics 측정값을 기록할 객체
+     */
+    public void setMetrics(KioskMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 주방이 밀려 있는지 모든 세션에 알려주는 객체를 지정한다. 이후에 시작되는 세션부터 적용된다.
+     *
+     * @param backpressure 주방이 밀려 있는지 알려주는 객체
+     */
+    public void setBackpressure(Backpressure backpressure) {
+        this.backpressure = backpressure;
+    }
+
+    /**
+     * 모든 세션이 결제 금액을 계산할 할인 규칙 엔진을 지정한다.
+     *
+     * 이후에 시작되는 세션부터 적용되며, 지정하지 않으면 사용자 유형별 할인만 적용한다.
+     * 실행 중인 세션에도 새 규칙을 적용하려면 `PricingEngine.setRules()`를 사용한다.
+     *
+     * @param pricingEngine 할인 규칙 엔진
+     */
+    public void setPricingEngine(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    /**
+     * 새로운 세션을 시작한다.
+     *
+     * 세션은 입력이 끝나거나 사용자가 프로그램을 종료하면 끝나며,
+     * 이때 `resource`가 주어졌다면 함께 닫는다.
+     * 장바구니는 풀에서 빌려 사용하고, 세션이 끝나면 비워서 돌려준다.
+     *
+     * @param in 세션의 사용자 입력 스트림
+     * @param out 세션의 화면 출력 스트림
+     * @param resource 세션이 끝날 때 닫을 자원(소켓 등), 없으면 null
+     * @return 세션의 종료를 기다릴 수 있는 Future
+     */
+    public Future<?> open(InputStream in, OutputStream out, Closeable resource) {
+        PrimitiveCart cart = cartPool.acquire();
+        try {
+            return executor.submit(() -> {
+                try {
+                    runSession(cart, new InputTokenizer(in, charset), out, resource);
+                } finally {
+                    cartPool.release(cart);
+                }
+            });
+        } catch (RuntimeException e) { // 세션 관리자가 닫힌 경우
+            cartPool.release(cart);
+            throw e;
+        }
+    }
+
+    /**
+     * 주어진 장바구니를 사용하는 새로운 세션을 시작한다.
+     *
+     * 여러 세션에 같은 `ConcurrentCart`를 전달하면 단체 주문을 함께 담을 수 있다.
+     *
+     * @param cart 세션에서 사용할 장바구니
+     * @param in 세션의 사용자 입력 스트림
+     * @param out 세션의 화면 출력 스트림
+     * @param resource 세션이 끝날 때 닫을 자원(소켓 등), 없으면 null
+     * @return 세션의 종료를 기다릴 수 있는 Future
+     */
+    public Future<?> open(Cart cart, InputStream in, OutputStream out, Closeable resource) {
+        return executor.submit(() -> runSession(cart, new InputTokenizer(in, charset), out, resource));
+    }
+
+    /**
+     * 단말기가 보낸 식별자로 장바구니를 열어 사용하는 새로운 세션을 시작한다.
+     *
+     * 단말기는 연결 직후 첫 줄로 자신의 식별자를 보낸다. 식별자를 읽고 장바구니를 여는 작업은
+     * 세션 스레드에서 수행되며, 장바구니를 열 수 없으면(기록이 손상되었거나 같은 식별자의 세션이
+     * 이미 실행 중인 경우 등) 단말기에 알린 후 세션을 끝낸다. 장바구니가 `Closeable`이면 세션이
+     * 끝날 때 함께 닫는다.
+     *
+     * @param cartProvider 단말기 식별자로 장바구니를 여는 함수
+     * @param in 세션의 사용자 입력 스트림
+     * @param out 세션의 화면 출력 스트림
+     * @param resource 세션이 끝날 때 닫을 자원(소켓 등), 없으면 null
+     * @return 세션의 종료를 기다릴 수 있는 Future
+     */
+    public Future<?> openTerminal(Function<String, Cart> cartProvider, InputStream in, OutputStream out,
+                                  Closeable resource) {
+        return executor.submit(() -> {
+            InputTokenizer tokenizer = new InputTokenizer(in, charset);
+            Cart cart = tokenizer.nextLine() ? openTerminalCart(cartProvider, tokenizer.toString(), out) : null;
+            if (cart == null) {
+                closeQuietly(resource);
+                return;
+            }
+
+            try {
+                runSession(cart, tokenizer, out, resource);
+            } finally {
+                if (cart instanceof Closeable closeableCart) {
+                    closeQuietly(closeableCart);
+                }
+            }
+        });
+    }
+
+    /**
+     * 실행 중인 세션의 수를 반환한다.
+     *
+     * @return 실행 중인 세션의 수
+     */
+    public int getActiveSessionCount() {
+        return activeSessions.get();
+    }
+
+    /**
+     * 새로운 세션을 받지 않고, 실행 중인 세션이 끝날 때까지 잠시 기다린다.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * 세션 하나를 실행한다.
+     *
+     * @param cart 세션에서 사용할 장바구니
+     * @param tokenizer 세션의 사용자 입력을 읽는 객체
+     * @param out 세션의 화면 출력 스트림
+     * @param resource 세션이 끝날 때 닫을 자원, 없으면 null
+     */
+    private void runSession(Cart cart, InputTokenizer tokenizer, OutputStream out, Closeable resource) {
+        activeSessions.incrementAndGet();
+        try {
+            createKiosk(cart, tokenizer, out).start();
+        } catch (RuntimeException e) {
+            System.err.println("세션이 비정상 종료되었습니다: " + e);
+        } finally {
+            activeSessions.decrementAndGet();
+            closeQuietly(resource);
+        }
+    }
+
+    /**
+     * 등록된 주문 완료 알림, 할인 규칙 엔진, 측정값 등을 적용한 세션의 `Kiosk` 객체를 만든다.
+     *
+     * @param cart 세션에서 사용할 장바구니
+     * @param tokenizer 세션의 사용자 입력을 읽는 객체
+     * @param out 세션의 화면 출력 스트림
+     * @return 세션의 키오스크
+     */
+    Kiosk createKiosk(Cart cart, InputTokenizer tokenizer, OutputStream out) {
+        Kiosk kiosk = new Kiosk(catalog, cart, tokenizer, out, charset);
+        orderListeners.forEach(kiosk::addOrderListener);
+        kiosk.setPricingEngine(pricingEngine);
+        KioskMetrics sessionMetrics = metrics;
+        if (sessionMetrics != null) {
+            kiosk.setMetrics(sessionMetrics);
+        }
+        Backpressure sessionBackpressure = backpressure;
+        if (sessionBackpressure != null) {
+            kiosk.setBackpressure(sessionBackpressure);
+        }
+        return kiosk;
+    }
+
+    /**
+     * 단말기 식별자로 세션에서 사용할 장바구니를 연다.
+     *
+     * 식별자가 비어 있거나 장바구니를 열 수 없으면, 그 이유를 단말기에 출력하고 null을 반환한다.
+     * 한 단말기의 장바구니 기록이 손상되어도 다른 단말기의 연결에는 영향을 주지 않는다.
+     *
+     * @param cartProvider 단말기 식별자로 장바구니를 여는 함수
+     * @param terminalId 단말기가 보낸 식별자
+     * @param out 세션의 화면 출력 스트림
+     * @return 세션의 장바구니, 열 수 없으면 null
+     */
+    Cart openTerminalCart(Function<String, Cart> cartProvider, String terminalId, OutputStream out) {
+        String message;
+        if (terminalId.isBlank()) {
+            message = "단말기 식별자가 없습니다.";
+        } else {
+            try {
+                return cartProvider.apply(terminalId);
+            } catch (RuntimeException e) {
+                System.err.println("단말기 " + terminalId + "의 장바구니를 열 수 없습니다: " + e);
+                message = "장바구니를 열 수 없습니다. (" + (e.getCause() != null ? e.getCause() : e).getMessage() + ")";
+            }
+        }
+
+        try {
+            out.write((message + "\n").getBytes(charset));
+            out.flush();
+        } catch (IOException e) {
+            // 이미 끊어진 연결은 무시한다.
+        }
+        return null;
+    }
+
+    /**
+     * 세션에서 사용할 장바구니를 풀에서 빌린다.
+     *
+     * @return 빈 장바구니
+     */
+    PrimitiveCart acquireCart() {
+        return cartPool.acquire();
+    }
+
+    /**
+     * 세션이 끝난 장바구니를 비워서 풀에 돌려준다.
+     *
+     * @param cart 돌려줄 장바구니
+     */
+    void releaseCart(PrimitiveCart cart) {
+        cartPool.release(cart);
+    }
+
+    /**
+     * 세션 입출력의 문자 인코딩을 반환한다.
+     *
+     * @return 세션 입출력의 문자 인코딩
+     */
+    Charset getCharset() {
+        return charset;
+    }
+
+    private static void closeQuietly(Closeable resource) {
+        if (resource == null) {
+            return;
+        }
+
+        try {
+            resource.close();
+        } catch (IOException e) {
+            // 이미 끊어진 연결은 무시한다.
+        }
+    }
+
+    private static ThreadFactory sessionThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "kiosk-session-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
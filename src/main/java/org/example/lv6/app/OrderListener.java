@@ -0,0 +1,23 @@
+package org.example.lv6.app;
+
+import org.example.lv6.domain.order.Order;
+
+/**
+ * 키오스크에서 주문이 완료될 때 알림을 받는 인터페이스이다.
+ *
+ * 주문 기록, 집계 등 주문 완료 후의 처리는 이 인터페이스를 구현하여 키오스크에 등록한다.
+ * 알림은 주문을 완료한 세션의 스레드에서 호출되므로, 오래 걸리거나 기약 없이 기다리는 작업은
+ * 피해야 한다. 주문을 처리하지 못했다면 예외를 던지며, 키오스크는 안내 문구를 출력하고
+ * 나머지 객체들에 계속 알린다. 고객에게 안내할 사유가 있다면 {@link OrderRejectedException}을 던진다.
+ */
+@FunctionalInterface
+public interface OrderListener {
+
+    /**
+     * 주문이 완료되었을 때 호출된다.
+     *
+     * @param order 완료된 주문
+     * @throws OrderRejectedException 고객에게 안내할 사유로 주문을 처리하지 못한 경우
+     */
+    void onOrder(Order order);
+}
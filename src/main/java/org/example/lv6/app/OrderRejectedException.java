@@ -0,0 +1,20 @@
+package org.example.lv6.app;
+
+/**
+ * 주문 완료 후의 처리를 지금 할 수 없어 주문이 전달되지 못했음을 알리는 예외이다.
+ *
+ * 메시지는 고객에게 그대로 안내되므로, 내부 정보(파일 경로, 예외 종류 등)를 담지 않고
+ * 고객이 이해할 수 있는 문장으로 작성한다. 그 밖의 예외는 키오스크가 정해진 안내 문구로 대신한다.
+ */
+public class OrderRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 고객에게 안내할 메시지로 예외를 생성한다.
+     *
+     * @param message 고객에게 안내할 메시지
+     */
+    public OrderRejectedException(String message) {
+        super(message);
+    }
+}
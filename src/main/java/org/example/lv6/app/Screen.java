@@ -0,0 +1,257 @@
+package org.example.lv6.app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 키오스크 화면 하나를 버퍼에 모아 한 번에 출력하는 클래스이다.
+ *
+ * 화면을 구성하는 각 줄은 `getPrinter()`가 반환하는 스트림을 통해 버퍼에 기록되고,
+ * `flush()`를 호출할 때 한 번의 쓰기로 출력 스트림에 전달된다.
+ * 버퍼는 출력 후 비워져 다음 화면에 재사용된다.
+ *
+ * `PrintStream`은 출력할 때마다 내부에서 문자 버퍼 객체를 만들므로, `getPrinter()`는 문자열, 객체,
+ * 정수, 줄바꿈을 재사용하는 인코더로 화면 버퍼에 직접 인코딩하는 `PrintStream`을 반환한다.
+ * 따라서 화면을 출력할 때 객체를 만들지 않는다. 이 방식은 ASCII와 호환되는 문자 인코딩에서만
+ * 사용하며, 그 외의 문자 인코딩에서는 `PrintStream`의 기본 동작을 따른다.
+ *
+ * - `buffer`: 현재 화면의 내용을 모으는 버퍼
+ * - `printer`: 버퍼에 문자열을 기록하는 스트림
+ * - `out`: 화면을 출력할 스트림
+ * - `charset`: 화면의 문자 인코딩
+ */
+public class Screen {
+    private static final int INITIAL_BUFFER_SIZE = 4096; // 한 화면을 담기에 충분한 초기 버퍼 크기
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private final PrintStream printer;
+    private final OutputStream out;
+    private final Charset charset;
+
+    /**
+     * 주어진 출력 스트림과 문자 인코딩으로 `Screen` 객체를 생성한다.
+     *
+     * @param out 화면을 출력할 스트림
+     * @param charset 화면의 문자 인코딩
+     */
+    public Screen(OutputStream out, Charset charset) {
+        this.out = out;
+        this.charset = charset;
+        this.printer = isAsciiCompatible(charset) ? new ScreenPrinter(buffer, charset) : new PrintStream(buffer, false, charset);
+    }
+
+    /**
+     * 화면의 문자 인코딩을 반환한다.
+     *
+     * @return 화면의 문자 인코딩
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * 화면 버퍼에 내용을 기록하는 스트림을 반환한다.
+     *
+     * @return 화면 버퍼에 기록하는 스트림
+     */
+    public PrintStream getPrinter() {
+        return printer;
+    }
+
+    /**
+     * 미리 인코딩된 화면 조각을 화면 버퍼에 기록한다.
+     *
+     * @param frame 화면의 문자 인코딩으로 인코딩된 화면 조각
+     */
+    public void write(byte[] frame) {
+        printer.write(frame, 0, frame.length);
+    }
+
+    /**
+     * 주어진 출력 작업의 결과를 화면의 문자 인코딩으로 인코딩하여 반환한다.
+     *
+     * 결과는 화면 버퍼에 기록되지 않으며, 캐시해 두었다가 `write()`로 출력할 수 있다.
+     *
+     * @param printer 스트림에 화면 조각을 출력하는 작업
+     * @return 인코딩된 화면 조각
+     */
+    public byte[] render(Consumer<PrintStream> printer) {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        PrintStream framePrinter = new PrintStream(frame, false, charset);
+        printer.accept(framePrinter);
+        framePrinter.flush();
+        return frame.toByteArray();
+    }
+
+    /**
+     * 버퍼에 모인 화면을 한 번에 출력하고 버퍼를 비운다.
+     *
+     * 출력할 내용이 없으면 아무것도 하지 않는다.
+     */
+    public void flush() {
+        if (buffer.size() == 0) {
+            return;
+        }
+
+        try {
+            buffer.writeTo(out);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * 주어진 문자 인코딩이 ASCII 문자를 ASCII와 같은 1바이트로 인코딩하는지 확인한다.
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        if (!charset.canEncode()) {
+            return false;
+        }
+
+        byte[] ascii = new byte[0x80];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        return Arrays.equals(new String(ascii, StandardCharsets.US_ASCII).getBytes(charset), ascii);
+    }
+
+    /**
+     * 문자열을 재사용하는 인코더로 화면 버퍼에 직접 인코딩하는 `PrintStream`이다.
+     *
+     * ASCII 문자로만 이루어진 문자열은 인코더를 거치지 않고 바로 기록한다.
+     * 재정의하지 않은 출력(`printf()` 등)은 `PrintStream`의 기본 동작을 따른다.
+     * 여러 스레드에서 동시에 사용할 수 없다.
+     *
+     * - `buffer`: 화면의 내용을 모으는 버퍼
+     * - `encoder`: ASCII가 아닌 문자가 포함된 문자열을 인코딩하는 객체
+     * - `chars`, `charBuffer`: 인코딩할 문자열의 문자
+     * - `bytes`, `byteBuffer`: 인코딩된 바이트를 버퍼에 기록하기 전에 모으는 배열
+     */
+    private static final class ScreenPrinter extends PrintStream {
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+        private static final int CHUNK_SIZE = 256;
+
+        private final ByteArrayOutputStream buffer;
+        private final CharsetEncoder encoder;
+        private char[] chars = new char[CHUNK_SIZE];
+        private CharBuffer charBuffer = CharBuffer.wrap(chars);
+        private final byte[] bytes = new byte[CHUNK_SIZE * 4];
+        private final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+        private ScreenPrinter(ByteArrayOutputStream buffer, Charset charset) {
+            super(buffer, false, charset);
+            this.buffer = buffer;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public void print(String s) {
+            encode(String.valueOf(s));
+        }
+
+        @Override
+        public void print(Object obj) {
+            encode(String.valueOf(obj));
+        }
+
+        @Override
+        public void print(int i) {
+            if (i == Integer.MIN_VALUE) {
+                super.print(i);
+                return;
+            }
+
+            int position = bytes.length;
+            int value = Math.abs(i);
+            do {
+                bytes[--position] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            if (i < 0) {
+                bytes[--position] = '-';
+            }
+            buffer.write(bytes, position, bytes.length - position);
+        }
+
+        @Override
+        public void println() {
+            encode(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void println(String x) {
+            print(x);
+            println();
+        }
+
+        @Override
+        public void println(Object x) {
+            print(x);
+            println();
+        }
+
+        @Override
+        public void println(int x) {
+            print(x);
+            println();
+        }
+
+        private void encode(String s) {
+            int length = s.length();
+            int ascii = 0; // 앞에서부터 ASCII 문자로 이루어진 부분의 길이
+            while (ascii < length && s.charAt(ascii) < 0x80) {
+                ascii++;
+            }
+            for (int start = 0; start < ascii; start += bytes.length) {
+                int end = Math.min(ascii, start + bytes.length);
+                for (int i = start; i < end; i++) {
+                    bytes[i - start] = (byte) s.charAt(i);
+                }
+                buffer.write(bytes, 0, end - start);
+            }
+            if (ascii < length) {
+                encodeChars(s, ascii, length);
+            }
+        }
+
+        private void encodeChars(String s, int start, int end) {
+            int length = end - start;
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+                charBuffer = CharBuffer.wrap(chars);
+            }
+            s.getChars(start, end, chars, 0);
+            charBuffer.clear().limit(length);
+
+            encoder.reset();
+            CoderResult result;
+            do {
+                byteBuffer.clear();
+                result = encoder.encode(charBuffer, byteBuffer, true);
+                buffer.write(bytes, 0, byteBuffer.position());
+            } while (result.isOverflow());
+            do {
+                byteBuffer.clear();
+                result = encoder.flush(byteBuffer);
+                buffer.write(bytes, 0, byteBuffer.position());
+            } while (result.isOverflow());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.lv6.app.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 0 이상의 정수 값(지연 시간, 수량 등)의 분포를 기록하는 잠금 없는 히스토그램이다.
+ *
+ * 값의 범위를 2의 거듭제곱 단위로 나누고, 각 범위를 다시 16개의 구간으로 나누어
+ * 구간별 개수를 센다(HDR 히스토그램과 같은 방식). 따라서 값의 크기와 관계없이
+ * 상대 오차가 약 6% 이내로 유지되며, 기록은 배열 원소 하나의 원자적 증가로 끝난다.
+ *
+ * - `buckets`: 구간별 기록된 값의 개수
+ * - `count`, `sum`, `max`: 기록된 값의 개수, 합계, 최댓값
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 값 하나를 기록한다. 음수는 0으로 기록한다.
+     *
+     * @param value 기록할 값
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * 기록된 값의 개수를 반환한다.
+     *
+     * @return 기록된 값의 개수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 기록된 값의 합계를 반환한다.
+     *
+     * @return 기록된 값의 합계
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * 기록된 값 중 가장 큰 값을 반환한다.
+     *
+     * @return 최댓값, 기록된 값이 없으면 0
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 주어진 분위수에 해당하는 값을 반환한다.
+     *
+     * 값이 속한 구간의 상한을 반환하므로, 실제 값보다 약간(최대 약 6%) 클 수 있다.
+     *
+     * @param quantile 분위수 (0.0 ~ 1.0)
+     * @return 분위수에 해당하는 값, 기록된 값이 없으면 0
+     */
+    public long getValueAtQuantile(double quantile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long top = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+}
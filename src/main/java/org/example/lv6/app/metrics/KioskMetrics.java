@@ -0,0 +1,155 @@
+package org.example.lv6.app.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키오스크의 주문 흐름에 대한 측정값을 모으고, Prometheus 텍스트 형식으로 내보내는 클래스이다.
+ *
+ * 여러 키오스크 세션이 하나의 객체를 공유하며, 모든 기록은 잠금 없이 수행된다.
+ *
+ * - `steps`: 단계 이름별 측정값
+ * - `orders`: 완료된 주문 수
+ * - `cancellations`: 취소된 주문 수
+ * - `invalidInputs`: 잘못된 입력 수
+ * - `orderItems`: 주문당 메뉴 항목 수량의 분포
+ * - `pricingNanos`: 결제 금액 계산 시간(나노초)의 분포
+ */
+public class KioskMetrics implements MetricsSource {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 1.0};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Map<String, StepMetrics> steps = new ConcurrentHashMap<>();
+    private final LongAdder orders = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder invalidInputs = new LongAdder();
+    private final Histogram orderItems = new Histogram();
+    private final Histogram pricingNanos = new Histogram();
+
+    /**
+     * 주어진 이름의 단계에 대한 측정값을 반환한다. 처음 요청된 단계이면 새로 만든다.
+     *
+     * 반환된 객체를 보관해 두고 사용하면 기록할 때마다 이름으로 찾지 않아도 된다.
+     *
+     * @param step 단계의 이름
+     * @return 단계의 측정값
+     */
+    public StepMetrics step(String step) {
+        return steps.computeIfAbsent(step.toLowerCase(Locale.ROOT), StepMetrics::new);
+    }
+
+    /**
+     * 완료된 주문 하나를 기록한다.
+     *
+     * @param itemCount 주문한 메뉴 항목의 총 수량
+     * @param pricingNanos 결제 금액 계산에 걸린 시간(나노초)
+     */
+    public void recordOrder(int itemCount, long pricingNanos) {
+        orders.increment();
+        orderItems.record(itemCount);
+        this.pricingNanos.record(pricingNanos);
+    }
+
+    /**
+     * 주문 취소 하나를 기록한다.
+     */
+    public void recordCancellation() {
+        cancellations.increment();
+    }
+
+    /**
+     * 잘못된 입력 하나를 기록한다.
+     */
+    public void recordInvalidInput() {
+        invalidInputs.increment();
+    }
+
+    /**
+     * 완료된 주문 수를 반환한다.
+     *
+     * @return 완료된 주문 수
+     */
+    public long getOrderCount() {
+        return orders.sum();
+    }
+
+    /**
+     * 모든 측정값을 Prometheus 텍스트 형식으로 기록한다.
+     *
+     * 카운터는 누적 값으로, 분포는 분위수(summary)로 내보낸다. 분당 주문 수 등의 비율은
+     * 카운터로부터 Prometheus에서 계산한다(예: `rate(kiosk_orders_total[1m]) * 60`).
+     *
+     * @param writer 측정값을 기록할 Writer
+     * @throws IOException 기록하는 중 오류가 발생한 경우
+     */
+    @Override
+    public void writePrometheus(Writer writer) throws IOException {
+        writeCounter(writer, "kiosk_orders_total", "완료된 주문 수", orders.sum());
+        writeCounter(writer, "kiosk_cancellations_total", "취소된 주문 수", cancellations.sum());
+        writeCounter(writer, "kiosk_invalid_inputs_total", "메뉴판에 없는 번호 등 잘못된 입력 수", invalidInputs.sum());
+
+        writeHeader(writer, "kiosk_order_items", "주문당 메뉴 항목 수량", "summary");
+        writeSummary(writer, "kiosk_order_items", "", orderItems, 1);
+        writeHeader(writer, "kiosk_pricing_seconds", "결제 금액 계산 시간", "summary");
+        writeSummary(writer, "kiosk_pricing_seconds", "", pricingNanos, NANOS_PER_SECOND);
+
+        writeHeader(writer, "kiosk_step_dwell_seconds", "화면이 출력된 후 사용자가 입력하기까지 걸린 시간", "summary");
+        for (StepMetrics step : steps.values()) {
+            writeSummary(writer, "kiosk_step_dwell_seconds", "step=\"" + step.getStep() + "\"", step.getDwellNanos(), NANOS_PER_SECOND);
+        }
+        writeHeader(writer, "kiosk_step_processing_seconds", "입력을 처리하고 다음 화면을 출력하기까지 걸린 시간", "summary");
+        for (StepMetrics step : steps.values()) {
+            writeSummary(writer, "kiosk_step_processing_seconds", "step=\"" + step.getStep() + "\"", step.getProcessingNanos(), NANOS_PER_SECOND);
+        }
+        writer.flush();
+    }
+
+    /**
+     * 모든 측정값을 Prometheus 텍스트 형식으로 파일에 기록한다.
+     *
+     * 임시 파일에 기록한 후 교체하므로, 파일을 읽는 쪽은 항상 완전한 내용을 본다.
+     *
+     * @param path 기록할 파일의 경로
+     * @throws IOException 파일에 기록하는 중 오류가 발생한 경우
+     */
+    public void dump(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writePrometheus(writer);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeCounter(Writer writer, String name, String help, long value) throws IOException {
+        writeHeader(writer, name, help, "counter");
+        writer.write(name + " " + value + "\n");
+    }
+
+    private static void writeHeader(Writer writer, String name, String help, String type) throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void writeSummary(Writer writer, String name, String labels, Histogram histogram, double scale) throws IOException {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        for (double quantile : QUANTILES) {
+            writer.write(name + "{" + prefix + "quantile=\"" + quantile + "\"} "
+                    + format(histogram.getValueAtQuantile(quantile) / scale) + "\n");
+        }
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        writer.write(name + "_sum" + suffix + " " + format(histogram.getSum() / scale) + "\n");
+        writer.write(name + "_count" + suffix + " " + histogram.getCount() + "\n");
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.lv6.app.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 측정값을 HTTP(`/metrics`)로 제공하는 서버 클래스이다.
+ *
+ * Prometheus가 주기적으로 수집할 수 있도록 `KioskMetrics` 등 등록된 측정값의 내용을
+ * 텍스트 형식으로 이어 붙여 응답한다.
+ *
+ * - `server`: JDK에 포함된 HTTP 서버
+ */
+public class MetricsHttpServer implements Closeable {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+
+    /**
+     * 주어진 포트에서 측정값을 제공하는 서버를 시작한다.
+     *
+     * @param port 연결을 받을 포트 번호
+     * @param sources 제공할 측정값
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public MetricsHttpServer(int port, MetricsSource... sources) throws IOException {
+        List<MetricsSource> registered = List.of(sources);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext("/metrics", exchange -> respond(exchange, registered));
+        this.server.start();
+    }
+
+    /**
+     * 서버가 연결을 받고 있는 포트 번호를 반환한다.
+     *
+     * @return 포트 번호
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * 서버를 멈춘다.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, List<MetricsSource> sources) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(body, StandardCharsets.UTF_8)) {
+            for (MetricsSource source : sources) {
+                source.writePrometheus(writer);
+            }
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.lv6.app.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Prometheus 텍스트 형식으로 측정값을 내보낼 수 있는 객체를 나타내는 인터페이스이다.
+ *
+ * `MetricsHttpServer`는 등록된 모든 객체의 측정값을 이어 붙여 하나의 응답으로 제공한다.
+ */
+@FunctionalInterface
+public interface MetricsSource {
+
+    /**
+     * 측정값을 Prometheus 텍스트 형식으로 기록한다.
+     *
+     * @param writer 측정값을 기록할 Writer
+     * @throws IOException 기록하는 중 오류가 발생한 경우
+     */
+    void writePrometheus(Writer writer) throws IOException;
+}
@@ -0,0 +1,56 @@
+package org.example.lv6.app.metrics;
+
+/**
+ * 키오스크 화면 하나(단계)에 대한 측정값을 모아 둔 클래스이다.
+ *
+ * - `step`: 단계의 이름
+ * - `dwellNanos`: 화면이 출력된 후 사용자가 입력하기까지 걸린 시간(나노초)
+ * - `processingNanos`: 입력을 처리하고 다음 화면을 출력하기까지 걸린 시간(나노초)
+ */
+public final class StepMetrics {
+    private final String step;
+    private final Histogram dwellNanos = new Histogram();
+    private final Histogram processingNanos = new Histogram();
+
+    StepMetrics(String step) {
+        this.step = step;
+    }
+
+    /**
+     * 입력 하나에 대한 측정값을 기록한다.
+     *
+     * @param dwellNanos 화면이 출력된 후 입력이 들어오기까지 걸린 시간(나노초)
+     * @param processingNanos 입력을 처리하는 데 걸린 시간(나노초)
+     */
+    public void record(long dwellNanos, long processingNanos) {
+        this.dwellNanos.record(dwellNanos);
+        this.processingNanos.record(processingNanos);
+    }
+
+    /**
+     * 단계의 이름을 반환한다.
+     *
+     * @return 단계의 이름
+     */
+    public String getStep() {
+        return step;
+    }
+
+    /**
+     * 사용자가 화면에 머문 시간의 히스토그램을 반환한다.
+     *
+     * @return 화면에 머문 시간(나노초)의 히스토그램
+     */
+    public Histogram getDwellNanos() {
+        return dwellNanos;
+    }
+
+    /**
+     * 입력 처리 시간의 히스토그램을 반환한다.
+     *
+     * @return 입력 처리 시간(나노초)의 히스토그램
+     */
+    public Histogram getProcessingNanos() {
+        return processingNanos;
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.lv6.catalog;
+
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 메뉴 카탈로그를 미리 변환해 둔 바이너리 스냅샷 파일을 쓰고 읽는 클래스이다.
+ *
+ * 텍스트를 해석할 필요 없이 길이가 붙은 값들을 순서대로 읽기만 하면 되므로,
+ * 파일을 메모리에 매핑하여 수만 개의 메뉴 항목도 빠르게 불러올 수 있다.
+ *
+ * 머리글에는 스냅샷을 만든 원본 CSV 파일의 크기와 내용의 CRC32를 기록해 두어, 원본이 바뀌었는지
+ * 파일의 수정 시각과 관계없이 확인할 수 있다.
+ *
+ * 파일 형식은 다음과 같다:
+ * - 머리글: 매직 넘버(int), 버전(int), 원본 크기(long), 원본 CRC32(int), 메뉴 수(int)
+ * - 메뉴마다: 카테고리(문자열), 메뉴 항목 수(int)
+ * - 메뉴 항목마다: 이름(문자열), 가격(long, 최소 단위), 설명(문자열)
+ * - 마지막에 앞선 모든 바이트의 CRC32(int)
+ *
+ * 문자열은 바이트 길이(unsigned short)와 UTF-8 바이트로 기록한다.
+ */
+final class CatalogSnapshot {
+    private static final int MAGIC = 0x4B434154; // "KCAT"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+    private static final int BUFFER_SIZE = 128 * 1024; // 가장 긴 문자열도 한 번에 담을 수 있는 크기
+
+    /**
+     * 스냅샷을 만든 원본 CSV 파일을 구별하는 값이다.
+     *
+     * @param size 원본 파일의 크기(바이트)
+     * @param checksum 원본 파일 내용의 CRC32
+     */
+    record Source(long size, int checksum) {
+        /**
+         * 주어진 파일의 크기와 내용의 CRC32를 계산한다.
+         *
+         * @param path 원본 CSV 파일의 경로
+         * @return 원본 파일을 구별하는 값
+         * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+         */
+        static Source of(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                CRC32 crc = new CRC32();
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                return new Source(size, (int) crc.getValue());
+            }
+        }
+    }
+
+    private CatalogSnapshot() {
+    }
+
+    /**
+     * 메뉴 리스트를 스냅샷 파일로 기록한다.
+     *
+     * 임시 파일에 기록한 후 원자적으로 교체하므로, 기록 도중 중단되어도
+     * 기존 스냅샷 파일은 손상되지 않는다. 기록에 실패하면 임시 파일을 지운다.
+     *
+     * @param menus 기록할 메뉴 리스트
+     * @param source 메뉴 리스트를 읽은 원본 CSV 파일을 구별하는 값
+     * @param path 스냅샷 파일의 경로
+     * @throws IOException 파일에 기록하는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException 스냅샷에 기록할 수 없는 길이의 문자열이 있는 경우
+     */
+    static void write(List<Menu> menus, Source source, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        boolean written = false;
+        try {
+            writeTo(temp, menus, source);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written = true;
+        } finally {
+            if (!written) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private static void writeTo(Path temp, List<Menu> menus, Source source) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        CRC32 crc = new CRC32();
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(source.size()).putInt(source.checksum()).putInt(menus.size());
+            for (Menu menu : menus) {
+                List<MenuItem> menuItems = menu.getMenuItems();
+                putString(channel, crc, buffer, menu.getCategory());
+                ensureRemaining(channel, crc, buffer, Integer.BYTES);
+                buffer.putInt(menuItems.size());
+                for (MenuItem menuItem : menuItems) {
+                    putString(channel, crc, buffer, menuItem.getName());
+                    ensureRemaining(channel, crc, buffer, Long.BYTES);
+                    buffer.putLong(menuItem.getPrice().toMinor());
+                    putString(channel, crc, buffer, menuItem.getDescription());
+                }
+            }
+            drain(channel, crc, buffer);
+            buffer.putInt((int) crc.getValue()).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 메모리에 매핑하여 메뉴 리스트로 읽는다.
+     *
+     * @param path 스냅샷 파일의 경로
+     * @return 메뉴 리스트
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    static List<Menu> read(Path path) throws IOException {
+        return read(path, null);
+    }
+
+    /**
+     * 스냅샷 파일이 주어진 원본 파일로 만들어졌다면, 메모리에 매핑하여 메뉴 리스트로 읽는다.
+     *
+     * @param path 스냅샷 파일의 경로
+     * @param expected 스냅샷을 만든 원본 파일이어야 하는 값, 확인하지 않으려면 null
+     * @return 메뉴 리스트, 다른 원본 파일로 만든 스냅샷이면 null
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    static List<Menu> read(Path path, Source expected) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + Integer.BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("카탈로그 스냅샷의 크기가 올바르지 않습니다: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int bodyLength = buffer.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, bodyLength));
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt(bodyLength) != (int) crc.getValue()) {
+            throw new IOException("카탈로그 스냅샷이 손상되었거나 버전이 다릅니다: " + path);
+        }
+        Source source = new Source(buffer.getLong(), buffer.getInt());
+        if (expected != null && !expected.equals(source)) {
+            return null;
+        }
+
+        byte[] bytes = new byte[MAX_STRING_LENGTH];
+        int menuCount = buffer.getInt();
+        List<Menu> menus = new ArrayList<>(menuCount);
+        for (int i = 0; i < menuCount; i++) {
+            Menu menu = new Menu(getString(buffer, bytes));
+            int itemCount = buffer.getInt();
+            for (int j = 0; j < itemCount; j++) {
+                String name = getString(buffer, bytes);
+                Money price = Money.ofMinor(buffer.getLong());
+                menu.addMenuItem(MenuItem.of(name, price, getString(buffer, bytes)));
+            }
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    private static void putString(FileChannel channel, CRC32 crc, ByteBuffer buffer, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("카탈로그 스냅샷에 기록할 수 없는 길이의 문자열입니다: " + value.substring(0, 32) + "...");
+        }
+
+        ensureRemaining(channel, crc, buffer, Short.BYTES + bytes.length);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    /**
+     * 버퍼에 주어진 크기만큼의 공간이 없으면 버퍼의 내용을 파일에 기록하고 비운다.
+     */
+    private static void ensureRemaining(FileChannel channel, CRC32 crc, ByteBuffer buffer, int size) throws IOException {
+        if (buffer.remaining() < size) {
+            drain(channel, crc, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, CRC32 crc, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 다음에 기록할 때 덮어쓴다.
+        }
+    }
+
+    private static String getString(ByteBuffer buffer, byte[] bytes) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.lv6.catalog;
+
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 형식의 메뉴 카탈로그 파일을 읽어 메뉴 리스트로 변환하는 클래스이다.
+ *
+ * 각 줄은 `카테고리,이름,가격,설명` 형식이며, 설명에는 쉼표가 포함될 수 있다.
+ * 빈 줄과 '#'으로 시작하는 줄은 무시하고, 첫 줄이 `category,name,price,description`
+ * 머리글이면 건너뛴다. 카테고리는 파일에 처음 등장한 순서대로 메뉴판에 표시된다.
+ */
+final class CsvCatalogParser {
+    private static final String HEADER = "category,name,price,description";
+
+    private CsvCatalogParser() {
+    }
+
+    /**
+     * CSV 파일을 읽어 메뉴 리스트를 반환한다.
+     *
+     * @param path CSV 파일의 경로
+     * @return 메뉴 리스트
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException 형식이 올바르지 않은 줄이 있는 경우
+     */
+    static List<Menu> parse(Path path) throws IOException {
+        Map<String, Menu> menus = new LinkedHashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")
+                        || (lineNumber == 1 && trimmed.replace(" ", "").equalsIgnoreCase(HEADER))) {
+                    continue;
+                }
+
+                String[] fields = trimmed.split(",", 4);
+                if (fields.length < 4) {
+                    throw invalidLine(path, lineNumber, "항목이 부족합니다");
+                }
+
+                String category = fields[0].strip();
+                String name = fields[1].strip();
+                if (category.isEmpty() || name.isEmpty()) {
+                    throw invalidLine(path, lineNumber, "카테고리와 이름은 비어 있을 수 없습니다");
+                }
+
+                Money price;
+                try {
+                    price = Money.parse(fields[2].strip());
+                } catch (IllegalArgumentException e) {
+                    throw invalidLine(path, lineNumber, "가격 형식이 올바르지 않습니다");
+                }
+
+                menus.computeIfAbsent(category, Menu::new)
+                        .addMenuItem(MenuItem.of(name, price, fields[3].strip()));
+            }
+        }
+        return new ArrayList<>(menus.values());
+    }
+
+    private static IllegalArgumentException invalidLine(Path path, int lineNumber, String reason) {
+        return new IllegalArgumentException(path + " " + lineNumber + "번째 줄: " + reason);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.lv6.catalog;
+
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.menu.MenuSearchIndex;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 키오스크들이 공유하는 현재 메뉴 리스트를 보관하는 클래스이다.
+ *
+ * 메뉴 리스트는 불변 리스트로 보관하며, 새로운 메뉴 리스트로 바꿀 때는 참조만 교체한다.
+ * 따라서 메뉴를 읽는 쪽은 잠금 없이 항상 완전한 메뉴 리스트 하나를 보게 되고,
+ * 교체 중에도 기다리지 않는다. 교체된 후에 공개된 `Menu` 객체는 수정하지 않아야 한다.
+ *
+ * 메뉴 항목의 검색 색인은 처음 검색할 때 만들어 두고, 메뉴 리스트가 교체될 때 새로 만든다.
+ *
+ * - `menus`: 현재 메뉴 리스트
+ * - `searchIndex`: 메뉴 리스트와 그 리스트로 만든 검색 색인
+ */
+public class MenuCatalog {
+    private volatile List<Menu> menus;
+    private volatile IndexedMenus searchIndex;
+
+    /**
+     * 검색 색인과, 색인을 만들 때 사용한 메뉴 리스트이다.
+     *
+     * @param menus 색인을 만들 때 사용한 메뉴 리스트
+     * @param index 검색 색인
+     */
+    private record IndexedMenus(List<Menu> menus, MenuSearchIndex index) {
+    }
+
+    /**
+     * 주어진 메뉴 리스트로 `MenuCatalog` 객체를 생성한다.
+     *
+     * @param menus 처음 사용할 메뉴 리스트
+     */
+    public MenuCatalog(List<Menu> menus) {
+        this.menus = List.copyOf(menus);
+    }
+
+    /**
+     * 현재 메뉴 리스트를 반환한다.
+     *
+     * @return 현재 메뉴의 불변 리스트
+     */
+    public List<Menu> getMenus() {
+        return menus;
+    }
+
+    /**
+     * 메뉴 리스트를 새로운 메뉴 리스트로 교체한다.
+     *
+     * 검색 색인을 사용 중이라면, 키오스크가 검색할 때 기다리지 않도록 교체하기 전에 새로 만든다.
+     *
+     * @param menus 새로운 메뉴 리스트
+     */
+    public void replace(List<Menu> menus) {
+        List<Menu> copy = List.copyOf(menus);
+        if (searchIndex != null) {
+            searchIndex = new IndexedMenus(copy, MenuSearchIndex.of(copy));
+        }
+        this.menus = copy;
+    }
+
+    /**
+     * 현재 메뉴 리스트의 검색 색인을 반환한다.
+     *
+     * 색인이 없거나 메뉴 리스트가 교체된 후라면 새로 만든다.
+     *
+     * @return 현재 메뉴 리스트의 검색 색인
+     */
+    public MenuSearchIndex getSearchIndex() {
+        List<Menu> current = menus;
+        IndexedMenus indexed = searchIndex;
+        if (indexed == null || indexed.menus() != current) {
+            indexed = new IndexedMenus(current, MenuSearchIndex.of(current));
+            searchIndex = indexed;
+        }
+        return indexed.index();
+    }
+
+    /**
+     * 현재 메뉴 리스트의 모든 메뉴에서 이름이 일치하는 메뉴 항목을 찾는다.
+     *
+     * @param itemName 찾을 메뉴 항목의 이름
+     * @return 찾은 메뉴 항목, 없으면 빈 Optional
+     */
+    public Optional<MenuItem> findMenuItem(String itemName) {
+        for (Menu menu : menus) {
+            Optional<MenuItem> menuItem = menu.findMenuItem(itemName);
+            if (menuItem.isPresent()) {
+                return menuItem;
+            }
+        }
+        return Optional.empty();
+    }
+}
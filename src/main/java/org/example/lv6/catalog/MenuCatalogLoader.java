@@ -0,0 +1,75 @@
+package org.example.lv6.catalog;
+
+import org.example.lv6.domain.menu.Menu;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 파일에서 메뉴 카탈로그를 불러오는 클래스이다.
+ *
+ * CSV 파일(`카테고리,이름,가격,설명`)을 처음 읽을 때 같은 디렉터리에 바이너리 스냅샷
+ * (`{파일 이름}.bin`)을 만들어 두고, 이후에는 CSV 파일이 바뀌지 않은 한 스냅샷을
+ * 메모리에 매핑하여 불러온다. CSV 파일이 바뀌었는지는 수정 시각이 아니라 스냅샷에 기록해 둔
+ * CSV 파일의 크기와 내용의 CRC32로 확인하므로, 수정 시각이 과거로 돌아간 파일(`git checkout`,
+ * `cp -p` 등)도 다시 읽는다. 스냅샷이 손상되었거나 만들 수 없는 경우에는 CSV 파일을 사용한다.
+ */
+public final class MenuCatalogLoader {
+    public static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private MenuCatalogLoader() {
+    }
+
+    /**
+     * 주어진 파일에서 메뉴 리스트를 불러온다.
+     *
+     * 파일 이름이 `.bin`으로 끝나면 스냅샷 파일로, 그렇지 않으면 CSV 파일로 간주한다.
+     *
+     * @param source 메뉴 카탈로그 파일의 경로
+     * @return 메뉴 리스트
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException CSV 파일의 형식이 올바르지 않은 경우
+     */
+    public static List<Menu> load(Path source) throws IOException {
+        if (source.getFileName().toString().endsWith(SNAPSHOT_SUFFIX)) {
+            return CatalogSnapshot.read(source);
+        }
+
+        // 파싱 도중 CSV 파일이 바뀌어도 다음에 다시 읽도록, 파싱하기 전의 내용으로 확인 값을 계산한다.
+        CatalogSnapshot.Source csv = CatalogSnapshot.Source.of(source);
+        Path snapshot = source.resolveSibling(source.getFileName() + SNAPSHOT_SUFFIX);
+        if (Files.exists(snapshot)) {
+            try {
+                List<Menu> menus = CatalogSnapshot.read(snapshot, csv);
+                if (menus != null) {
+                    return menus;
+                }
+            } catch (IOException e) {
+                System.err.println("카탈로그 스냅샷을 사용할 수 없어 CSV 파일을 읽습니다: " + e.getMessage());
+            }
+        }
+
+        List<Menu> menus = CsvCatalogParser.parse(source);
+        try {
+            CatalogSnapshot.write(menus, csv, snapshot);
+        } catch (IOException | RuntimeException e) { // 스냅샷은 없어도 CSV 파일로 불러올 수 있다.
+            System.err.println("카탈로그 스냅샷을 만들 수 없습니다: " + e.getMessage());
+        }
+        return menus;
+    }
+
+    /**
+     * CSV 파일을 읽어 바이너리 스냅샷 파일로 변환한다.
+     *
+     * @param source CSV 파일의 경로
+     * @param snapshot 스냅샷 파일의 경로
+     * @throws IOException 파일을 읽거나 쓰는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException CSV 파일의 형식이 올바르지 않거나, 스냅샷에 기록할 수 없는 길이의 문자열이 있는 경우
+     */
+    public static void compile(Path source, Path snapshot) throws IOException {
+        CatalogSnapshot.Source csv = CatalogSnapshot.Source.of(source);
+        CatalogSnapshot.write(CsvCatalogParser.parse(source), csv, snapshot);
+    }
+}
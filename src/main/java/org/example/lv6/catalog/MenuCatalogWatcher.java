@@ -0,0 +1,117 @@
+package org.example.lv6.catalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 카탈로그 파일이 바뀌면 다시 불러와 `MenuCatalog`를 교체하는 클래스이다.
+ *
+ * 파일 감시와 메뉴 불러오기는 전용 스레드에서 수행하므로, 키오스크 세션은 메뉴를
+ * 다시 불러오는 동안에도 기다리지 않는다. 파일을 여러 번에 나누어 저장하는 경우를 위해
+ * 마지막 변경 후 잠시 기다렸다가 불러오며, 불러오지 못하면 기존 메뉴를 그대로 사용한다.
+ *
+ * 파일을 새로 쓰기보다 임시 파일에 작성한 후 이름을 바꾸는 방식으로 교체하는 것이 안전하다.
+ *
+ * - `catalog`: 불러온 메뉴로 교체할 카탈로그
+ * - `source`: 감시할 메뉴 카탈로그 파일
+ * - `watchService`: 파일 변경을 감시하는 객체
+ * - `thread`: 파일 변경을 기다리는 스레드
+ */
+public class MenuCatalogWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 200; // 마지막 변경 후 기다리는 시간
+
+    private final MenuCatalog catalog;
+    private final Path source;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * 주어진 파일을 감시하는 `MenuCatalogWatcher` 객체를 생성한다.
+     *
+     * @param catalog 불러온 메뉴로 교체할 카탈로그
+     * @param source 감시할 메뉴 카탈로그 파일
+     * @throws IOException 파일 감시를 시작할 수 없는 경우
+     */
+    public MenuCatalogWatcher(MenuCatalog catalog, Path source) throws IOException {
+        this.catalog = catalog;
+        this.source = source.toAbsolutePath();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.source.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "menu-catalog-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 파일 감시를 시작한다.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * 메뉴 카탈로그 파일을 다시 불러와 카탈로그를 교체한다.
+     *
+     * @return 교체에 성공하면 true
+     */
+    public boolean reload() {
+        try {
+            catalog.replace(MenuCatalogLoader.load(source));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("메뉴 카탈로그를 다시 불러오지 못해 기존 메뉴를 사용합니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 파일 감시를 멈춘다.
+     *
+     * @throws IOException 감시를 멈추는 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!isSourceChanged(watchService.take())) {
+                    continue;
+                }
+
+                // 파일 저장이 끝날 때까지 이어지는 변경을 모은다.
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isSourceChanged(key);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // close()로 감시가 끝난 경우
+        }
+    }
+
+    /**
+     * 감시 키의 이벤트를 모두 꺼내고, 그중 메뉴 카탈로그 파일의 변경이 있었는지 확인한다.
+     */
+    private boolean isSourceChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (source.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
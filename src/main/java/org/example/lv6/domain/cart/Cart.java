@@ -1,18 +1,23 @@
 package org.example.lv6.domain.cart;
 
 import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
 
-import java.util.ArrayList;
+import java.io.PrintStream;
 import java.util.List;
 
 /**
- * 장바구니을 나타내는 클래스이다.
+ * 장바구니를 나타내는 인터페이스이다.
  *
- * - `cartItems`: 장바구니 항목의 리스트
+ * 장바구니는 메뉴 항목과 수량을 추가된 순서대로 관리하며, 메뉴 항목은
+ * 대소문자 구분 없는 이름과 가격으로 구별된다.
+ *
+ * 구현 클래스는 다음과 같다:
+ * - `SimpleCart`: 한 명의 사용자가 사용하는 장바구니
+ * - `ConcurrentCart`: 여러 단말기가 함께 사용하는 단체 주문용 장바구니
+ * - `PrimitiveCart`: 항목을 기본형 배열에 보관하여 객체 생성을 줄인 장바구니
  */
-public class Cart {
-
-    private final List<CartItem> cartItems = new ArrayList<>();
+public interface Cart {
 
     /**
      * 메뉴 항목을 장바구니에 추가한다.
@@ -22,58 +27,85 @@ public class Cart {
      *
      * @param menuItem 장바구니에 추가할 메뉴 항목
      */
-    public void addCartItem(MenuItem menuItem) {
-        cartItems.stream()
-                .filter(c -> c.getMenuItem().getName().equals(menuItem.getName()))
-                .findFirst()
-                .ifPresentOrElse(
-                        CartItem::countUp,
-                        () -> cartItems.add(new CartItem(menuItem))
-                );
-    }
+    void addCartItem(MenuItem menuItem);
+
+    /**
+     * 주어진 문자열과 대소문자 구분 없이 동일한 이름을 가진 항목을
+     * 장바구니에서 제거한다.
+     *
+     * @param itemName 제거할 메뉴 항목의 이름
+     * @return 제거 성공 시 true, 실패 시 false
+     */
+    boolean removeItemByName(String itemName);
 
     /**
      * 장바구니에 담긴 모든 항목을 순서대로 출력한다.
+     *
+     * @param out 장바구니 항목을 출력할 스트림
      */
-    public void printCartItems() {
-        cartItems.forEach(System.out::println);
-    }
+    void printCartItems(PrintStream out);
 
     /**
-     * 장바구니에 담긴 모든 항목들의 총 금액을 계산하여 반환한다.
+     * 장바구니에 담긴 모든 항목들의 총 금액을 반환한다.
      *
      * @return 장바구니 항목들의 총 금액
      */
-    public float getTotalPrice() {
-        return (float) cartItems.stream()
-                .mapToDouble(CartItem::getPrice)
-                .sum();
-    }
+    Money getTotalPrice();
 
     /**
-     * 주어진 문자열과 대소문자 구분 없이 동일한 이름을 가진 항목을
-     * 장바구니에서 제거한다.
+     * 장바구니에 담긴 메뉴 항목의 총 수량을 반환한다.
      *
-     * @param itemName 제거할 메뉴 항목의 이름
-     * @return 제거 성공 시 true, 실패 시 false
+     * @return 장바구니 항목들의 수량 합계
      */
-    public boolean removeItemByName(String itemName) {
-        return cartItems.removeIf(c -> c.getMenuItem().getName().equalsIgnoreCase(itemName));
-    }
+    int getItemCount();
+
+    /**
+     * 장바구니에 담긴 항목들을 추가된 순서대로 복사하여 반환한다.
+     *
+     * 반환된 리스트는 장바구니가 이후에 변경되어도 바뀌지 않으므로,
+     * 주문을 확정할 때의 장바구니 내용으로 사용할 수 있다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    List<CartItem> getCartItems();
+
+    /**
+     * 장바구니에 담긴 항목들을 추가된 순서대로 담은 리스트를 반환한다.
+     *
+     * `getCartItems()`와 달리 구현 클래스가 리스트와 항목 객체를 재사용할 수 있으므로,
+     * 주문할 때마다 항목 객체를 새로 만들지 않는다. 대신 반환된 리스트는 장바구니가 변경되거나
+     * 이 메서드를 다시 호출하기 전까지만 사용해야 한다. 주문 금액 계산과 같이 바로 사용하고
+     * 버리는 경우에 사용한다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    List<CartItem> viewCartItems();
 
     /**
      * 장바구니가 비었는지 확인한다.
      *
      * @return 장바구니가 비었으면 true, 그렇지 않으면 false
      */
-    public boolean isEmpty() {
-        return cartItems.isEmpty();
-    }
+    boolean isEmpty();
 
     /**
      * 장바구니를 비운다.
      */
-    public void clear() {
-        cartItems.clear();
+    void clear();
+
+    /**
+     * 장바구니에 담긴 항목들을 추가된 순서대로 반환하고 장바구니를 비운다.
+     *
+     * 주문을 확정할 때 사용한다. 반환된 항목과 비워진 항목은 항상 같으므로, 여러 단말기가 함께
+     * 사용하는 장바구니에서도 금액 계산, 주문 기록, 알림에 같은 내용을 사용할 수 있다.
+     * `viewCartItems()`와 같이 구현 클래스가 리스트를 재사용할 수 있으므로, 반환된 리스트는
+     * 장바구니의 항목을 다시 조회하거나 이 메서드를 다시 호출하기 전까지만 사용해야 한다.
+     *
+     * @return 비우기 전 장바구니 항목 리스트
+     */
+    default List<CartItem> drain() {
+        List<CartItem> cartItems = viewCartItems();
+        clear();
+        return cartItems;
     }
 }
@@ -1,16 +1,19 @@
 package org.example.lv6.domain.cart;
 
 import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
 
 /**
  * 장바구니에 담긴 메뉴 항목을 나타내는 클래스이다.
  *
+ * 장바구니 구현 클래스는 다 쓴 객체의 내용을 바꾸어 다음 주문에 재사용할 수 있다.
+ *
  * - `menuItem`: 장바구니에 담긴 메뉴 항목
  * - `count`: 해당 메뉴 항목의 수량
  */
 public class CartItem {
-    private final MenuItem menuItem;
-    private int count = 1;
+    private MenuItem menuItem;
+    private int count;
 
     /**
      * 주어진 메뉴 항목으로 `CartItem` 객체를 생성한다.
@@ -18,7 +21,18 @@ public class CartItem {
      * @param menuItem 장바구니에 담을 메뉴 항목
      */
     public CartItem(MenuItem menuItem) {
+        this(menuItem, 1);
+    }
+
+    /**
+     * 주어진 메뉴 항목과 수량으로 `CartItem` 객체를 생성한다.
+     *
+     * @param menuItem 장바구니에 담을 메뉴 항목
+     * @param count 메뉴 항목의 수량
+     */
+    public CartItem(MenuItem menuItem, int count) {
         this.menuItem = menuItem;
+        this.count = count;
     }
 
     /**
@@ -30,13 +44,22 @@ public class CartItem {
         return menuItem;
     }
 
+    /**
+     * 장바구니에 담긴 메뉴 항목의 수량을 반환한다.
+     *
+     * @return 메뉴 항목의 수량
+     */
+    public int getCount() {
+        return count;
+    }
+
     /**
      * 장바구니에 담긴 메뉴 항목의 총 가격을 계산하여 반환한다.
      *
      * @return 메뉴 항목의 총 가격
      */
-    public float getPrice() {
-        return menuItem.getPrice() * count;
+    public Money getPrice() {
+        return menuItem.getPrice().times(count);
     }
 
     /**
@@ -46,6 +69,17 @@ public class CartItem {
         count++;
     }
 
+    /**
+     * 다 쓴 객체를 재사용할 수 있도록 메뉴 항목과 수량을 바꾼다.
+     *
+     * @param menuItem 장바구니에 담을 메뉴 항목
+     * @param count 메뉴 항목의 수량
+     */
+    void reset(MenuItem menuItem, int count) {
+        this.menuItem = menuItem;
+        this.count = count;
+    }
+
     /**
      * 장바구니 항목의 정보를 문자열 형식으로 반환한다.
      *
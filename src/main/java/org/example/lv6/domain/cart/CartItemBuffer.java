@@ -0,0 +1,65 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.domain.menu.MenuItem;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 장바구니가 `viewCartItems()`로 반환하기 위해 주문마다 다시 채우는 장바구니 항목 리스트이다.
+ *
+ * 비울 때 항목 객체를 버리지 않고 보관해 두었다가, 다시 채울 때 내용을 바꾸어 재사용한다.
+ * 따라서 장바구니가 풀에서 재사용되는 동안 항목 객체는 처음 몇 번의 주문에서만 생성된다.
+ * 외부에서는 읽기 전용 리스트로 사용된다.
+ *
+ * - `cartItems`: 재사용하는 장바구니 항목 객체(앞의 `size`개만 리스트에 포함된다)
+ * - `size`: 리스트에 포함된 항목의 수
+ */
+final class CartItemBuffer extends AbstractList<CartItem> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private CartItem[] cartItems = new CartItem[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public CartItem get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return cartItems[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 리스트를 비운다. 항목 객체는 다음에 채울 때 재사용하기 위해 보관한다.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 리스트 끝에 장바구니 항목을 추가한다. 보관 중인 항목 객체가 있으면 재사용한다.
+     *
+     * @param menuItem 장바구니에 담긴 메뉴 항목
+     * @param count 메뉴 항목의 수량
+     */
+    void add(MenuItem menuItem, int count) {
+        if (size == cartItems.length) {
+            cartItems = Arrays.copyOf(cartItems, size * 2);
+        }
+
+        CartItem cartItem = cartItems[size];
+        if (cartItem == null) {
+            cartItems[size] = new CartItem(menuItem, count);
+        } else {
+            cartItem.reset(menuItem, count);
+        }
+        size++;
+    }
+}
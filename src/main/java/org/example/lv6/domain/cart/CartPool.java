@@ -0,0 +1,54 @@
+package org.example.lv6.domain.cart;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 다 쓴 `PrimitiveCart`를 비워서 보관해 두었다가 다음 세션에 다시 빌려주는 클래스이다.
+ *
+ * 세션마다 장바구니와 그 배열을 새로 만들지 않도록 한다. 보관 개수를 넘는 장바구니는
+ * 보관하지 않고 버린다. 여러 스레드에서 동시에 사용할 수 있다.
+ *
+ * - `carts`: 보관 중인 빈 장바구니
+ */
+public class CartPool {
+    private final BlockingQueue<PrimitiveCart> carts;
+
+    /**
+     * 최대 `capacity`개의 장바구니를 보관하는 `CartPool` 객체를 생성한다.
+     *
+     * @param capacity 보관할 장바구니의 최대 개수
+     */
+    public CartPool(int capacity) {
+        this.carts = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 빈 장바구니를 빌린다. 보관 중인 장바구니가 없으면 새로 만든다.
+     *
+     * @return 빈 장바구니
+     */
+    public PrimitiveCart acquire() {
+        PrimitiveCart cart = carts.poll();
+        return cart != null ? cart : new PrimitiveCart();
+    }
+
+    /**
+     * 다 쓴 장바구니를 비워서 돌려준다. 돌려준 장바구니는 더 이상 사용하지 않아야 한다.
+     *
+     * @param cart 다 쓴 장바구니
+     */
+    public void release(PrimitiveCart cart) {
+        cart.clear();
+        carts.offer(cart);
+    }
+
+    /**
+     * 보관 중인 장바구니의 수를 반환한다.
+     *
+     * @return 보관 중인 장바구니의 수
+     */
+    public int getIdleCount() {
+        return carts.size();
+    }
+}
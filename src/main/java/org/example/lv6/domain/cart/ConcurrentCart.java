@@ -0,0 +1,227 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여러 단말기가 동시에 항목을 추가, 제거할 수 있는 단체 주문용 장바구니 클래스이다.
+ *
+ * 항목의 추가와 제거는 `ConcurrentHashMap`의 키 단위 잠금으로 처리되어, 서로 다른 항목에 대한
+ * 변경은 서로를 기다리지 않는다. 항목은 정규화된 이름별로 묶고 그 안에서 가격별로 나누어 보관하므로,
+ * 메뉴가 교체되어 가격이 바뀌어도 담을 때의 가격이 유지되고, 이름으로 제거할 때는 묶음 하나만 꺼낸다. `getCartItems()`,
+ * `clear()`와 주문 확정에 사용하는 `drain()`은 진행 중인 변경이 끝나기를 기다린 후 수행되므로,
+ * 항상 일관된 장바구니 내용을 얻을 수 있다. 특히 `drain()`은 하나의 잠금 안에서 항목을 복사하고
+ * 비우므로, 다른 단말기가 그 사이에 담은 항목이 결제되지 않고 사라지는 일이 없다.
+ *
+ * `getTotalPrice()`와 `getItemCount()`는 잠금 없이 조회되며, 다른 스레드가 변경하는
+ * 도중에는 변경 직전 또는 직후의 값을 반환할 수 있다.
+ *
+ * - `lines`: 정규화된 메뉴 항목 이름을 키로 하는, 가격별 장바구니 항목 묶음의 맵
+ * - `sequence`: 항목이 추가된 순서를 기록하기 위한 번호
+ * - `totalPrice`: 장바구니 항목들의 총 금액(최소 단위)
+ * - `itemCount`: 장바구니에 담긴 메뉴 항목의 총 수량
+ * - `snapshotLock`: 변경(공유 잠금)과 스냅샷(배타 잠금)을 구분하는 잠금
+ */
+public class ConcurrentCart implements Cart {
+
+    private final ConcurrentHashMap<String, List<Line>> lines = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder totalPrice = new LongAdder();
+    private final LongAdder itemCount = new LongAdder();
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    /**
+     * 장바구니에 담긴 메뉴 항목 하나와 그 수량을 나타내는 클래스이다.
+     *
+     * - `menuItem`: 장바구니에 담긴 메뉴 항목
+     * - `sequence`: 항목이 추가된 순서
+     * - `price`: 메뉴 항목 하나의 가격(최소 단위)
+     * - `count`: 메뉴 항목의 수량(맵의 키 단위 잠금 안에서만 변경된다)
+     */
+    private static final class Line {
+        private final MenuItem menuItem;
+        private final long sequence;
+        private final long price;
+        private int count = 1;
+
+        private Line(MenuItem menuItem, long sequence) {
+            this.menuItem = menuItem;
+            this.sequence = sequence;
+            this.price = menuItem.getPrice().toMinor();
+        }
+    }
+
+    /**
+     * 메뉴 항목을 장바구니에 추가한다.
+     *
+     * 같은 이름과 가격의 항목이 있으면 수량을 1 증가시키고, 이름이 같아도 가격이 다르면
+     * 같은 묶음 안에 별도의 항목으로 추가한다.
+     *
+     * @param menuItem 장바구니에 추가할 메뉴 항목
+     */
+    @Override
+    public void addCartItem(MenuItem menuItem) {
+        long price = menuItem.getPrice().toMinor();
+        Lock lock = snapshotLock.readLock();
+        lock.lock();
+        try {
+            lines.compute(toKey(menuItem.getName()), (name, group) -> {
+                if (group == null) {
+                    group = new ArrayList<>(1);
+                }
+                for (Line line : group) {
+                    if (line.price == price) {
+                        line.count++;
+                        return group;
+                    }
+                }
+                group.add(new Line(menuItem, sequence.getAndIncrement()));
+                return group;
+            });
+            totalPrice.add(price);
+            itemCount.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeItemByName(String itemName) {
+        Lock lock = snapshotLock.readLock();
+        lock.lock();
+        try {
+            List<Line> group = lines.remove(toKey(itemName));
+            if (group == null) {
+                return false;
+            }
+
+            for (Line line : group) {
+                totalPrice.add(-line.price * line.count);
+                itemCount.add(-line.count);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void printCartItems(PrintStream out) {
+        getCartItems().forEach(out::println);
+    }
+
+    @Override
+    public Money getTotalPrice() {
+        return Money.ofMinor(totalPrice.sum());
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount.intValue();
+    }
+
+    /**
+     * 진행 중인 변경이 끝나기를 기다린 후, 장바구니에 담긴 항목들을
+     * 추가된 순서대로 복사하여 반환한다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    @Override
+    public List<CartItem> getCartItems() {
+        Lock lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            return copyCartItems();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 단말기가 함께 사용하므로 항목 객체를 재사용하지 않고, `getCartItems()`와 같이 복사하여 반환한다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    @Override
+    public List<CartItem> viewCartItems() {
+        return getCartItems();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * 진행 중인 변경이 끝나기를 기다린 후 장바구니를 비운다.
+     */
+    @Override
+    public void clear() {
+        Lock lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            clearLines();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 변경이 끝나기를 기다린 후, 하나의 잠금 안에서 장바구니에 담긴 항목들을
+     * 복사하고 장바구니를 비운다.
+     *
+     * @return 비우기 전 장바구니 항목 리스트
+     */
+    @Override
+    public List<CartItem> drain() {
+        Lock lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            List<CartItem> cartItems = copyCartItems();
+            clearLines();
+            return cartItems;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 장바구니에 담긴 항목들을 추가된 순서대로 복사한다. 배타 잠금을 가진 상태에서 호출한다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    private List<CartItem> copyCartItems() {
+        List<Line> snapshot = new ArrayList<>(lines.size());
+        lines.values().forEach(snapshot::addAll);
+        snapshot.sort(Comparator.comparingLong(line -> line.sequence));
+
+        List<CartItem> cartItems = new ArrayList<>(snapshot.size());
+        snapshot.forEach(line -> cartItems.add(new CartItem(line.menuItem, line.count)));
+        return cartItems;
+    }
+
+    /**
+     * 장바구니를 비운다. 배타 잠금을 가진 상태에서 호출한다.
+     */
+    private void clearLines() {
+        lines.clear();
+        totalPrice.reset();
+        itemCount.reset();
+    }
+
+    private static String toKey(String itemName) {
+        return itemName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장바구니 항목을 기본형 배열에 보관하는 장바구니 클래스이다.
+ *
+ * 항목마다 객체를 만드는 대신 메뉴 항목, 수량, 가격을 같은 인덱스의 배열에 나란히
+ * 보관하고, 메뉴 항목 id와 가격을 키로 하는 작은 개방 주소법 해시 테이블로 배열의 위치를 찾는다.
+ * 해시 테이블의 크기는 장바구니에 담긴 항목의 종류 수에 비례하므로, 메뉴의 크기나 메뉴를 다시
+ * 불러온 횟수와 상관없다. 배열의 크기가 충분하면 항목의 추가, 제거, 총 금액 계산 중에 객체를
+ * 생성하지 않으며, `clear()` 후 다시 사용할 때도 배열을 그대로 재사용한다. `CartPool`과 함께
+ * 사용하여 세션마다 장바구니를 새로 만들지 않을 수 있다.
+ * 주문 금액 계산에 사용하는 `viewCartItems()`도 장바구니 항목 객체를 재사용하므로, 풀에서 재사용되는
+ * 장바구니는 주문을 반복해도 항목 객체를 새로 만들지 않는다.
+ *
+ * 메뉴 항목은 id와 가격으로 구별되므로, 이름이 같아도 가격이 다르면 별도의 항목이 된다.
+ * 비울 때는 메뉴 항목의 참조도 지우므로, 풀에 보관된 장바구니가 교체된 메뉴를 붙잡아 두지 않는다.
+ * 여러 스레드에서 동시에 사용할 수 없다.
+ *
+ * - `menuItems`: 추가된 순서대로 나열한 메뉴 항목
+ * - `itemIds`: 각 항목의 메뉴 항목 id
+ * - `counts`: 각 항목의 수량
+ * - `unitPrices`: 각 항목 하나의 가격(최소 단위)
+ * - `size`: 장바구니에 담긴 항목의 종류 수
+ * - `slots`: 메뉴 항목 id와 가격으로 찾는 배열 위치(+1, 0이면 빈 칸)의 해시 테이블
+ * - `totalPrice`: 장바구니 항목들의 총 금액(최소 단위)
+ * - `itemCount`: 장바구니에 담긴 메뉴 항목의 총 수량
+ * - `totalPriceMoney`: 마지막으로 반환한 총 금액 객체(장바구니가 변경되면 다시 만든다)
+ * - `cartItemView`: `viewCartItems()`가 반환하는, 항목 객체를 재사용하는 리스트
+ */
+public class PrimitiveCart implements Cart {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private MenuItem[] menuItems = new MenuItem[INITIAL_CAPACITY];
+    private int[] itemIds = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private long[] unitPrices = new long[INITIAL_CAPACITY];
+    private int size;
+    private int[] slots = new int[INITIAL_CAPACITY * 2]; // 채움률을 1/2 이하로 유지한다.
+    private long totalPrice;
+    private int itemCount;
+    private Money totalPriceMoney = Money.ZERO;
+    private final CartItemBuffer cartItemView = new CartItemBuffer();
+
+    @Override
+    public void addCartItem(MenuItem menuItem) {
+        int id = menuItem.getId();
+        long unitPrice = menuItem.getPrice().toMinor();
+        int bucket = findBucket(id, unitPrice);
+        int slot = slots[bucket] - 1;
+        if (slot < 0) {
+            if (size == itemIds.length) {
+                grow();
+                bucket = findBucket(id, unitPrice);
+            }
+            slot = size++;
+            menuItems[slot] = menuItem;
+            itemIds[slot] = id;
+            counts[slot] = 0;
+            unitPrices[slot] = unitPrice;
+            slots[bucket] = slot + 1;
+        }
+        counts[slot]++;
+        totalPrice += unitPrices[slot];
+        itemCount++;
+        totalPriceMoney = null;
+    }
+
+    /**
+     * 주어진 문자열과 대소문자 구분 없이 동일한 이름을 가진 항목을 장바구니에서 제거한다.
+     * 가격이 다른 같은 이름의 항목들도 모두 제거하며, 남은 항목들의 순서는 유지된다.
+     *
+     * @param itemName 제거할 메뉴 항목의 이름
+     * @return 제거 성공 시 true, 실패 시 false
+     */
+    @Override
+    public boolean removeItemByName(String itemName) {
+        int kept = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (menuItems[slot].getName().equalsIgnoreCase(itemName)) {
+                totalPrice -= unitPrices[slot] * counts[slot];
+                itemCount -= counts[slot];
+                continue;
+            }
+
+            if (kept != slot) { // 제거된 자리를 채우도록 앞으로 옮긴다.
+                menuItems[kept] = menuItems[slot];
+                itemIds[kept] = itemIds[slot];
+                counts[kept] = counts[slot];
+                unitPrices[kept] = unitPrices[slot];
+            }
+            kept++;
+        }
+
+        boolean removed = kept != size;
+        if (removed) {
+            Arrays.fill(menuItems, kept, size, null);
+            size = kept;
+            rehash();
+            totalPriceMoney = null;
+        }
+        return removed;
+    }
+
+    @Override
+    public void printCartItems(PrintStream out) {
+        for (int slot = 0; slot < size; slot++) {
+            out.print(menuItems[slot]);
+            out.print(" (");
+            out.print(counts[slot]);
+            out.println("개)");
+        }
+    }
+
+    /**
+     * 장바구니에 담긴 모든 항목들의 총 금액을 반환한다.
+     *
+     * 장바구니가 변경되지 않았다면 이전에 반환한 객체를 다시 반환한다.
+     *
+     * @return 장바구니 항목들의 총 금액
+     */
+    @Override
+    public Money getTotalPrice() {
+        Money money = totalPriceMoney;
+        if (money == null) {
+            money = Money.ofMinor(totalPrice);
+            totalPriceMoney = money;
+        }
+        return money;
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    @Override
+    public List<CartItem> getCartItems() {
+        List<CartItem> cartItems = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++) {
+            cartItems.add(new CartItem(menuItems[slot], counts[slot]));
+        }
+        return cartItems;
+    }
+
+    @Override
+    public List<CartItem> viewCartItems() {
+        cartItemView.clear();
+        for (int slot = 0; slot < size; slot++) {
+            cartItemView.add(menuItems[slot], counts[slot]);
+        }
+        return cartItemView;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 장바구니를 비운다. 배열은 다음 사용을 위해 그대로 유지한다.
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(menuItems, 0, size, null);
+            Arrays.fill(slots, 0);
+        }
+        size = 0;
+        totalPrice = 0;
+        itemCount = 0;
+        totalPriceMoney = Money.ZERO;
+    }
+
+    /**
+     * 메뉴 항목 id와 가격이 일치하는 항목이 있는 해시 테이블의 칸을 반환한다.
+     * 없으면 그 항목을 넣을 빈 칸을 반환한다.
+     */
+    private int findBucket(int id, long unitPrice) {
+        int mask = slots.length - 1;
+        int bucket = hash(id, unitPrice) & mask;
+        while (true) {
+            int slot = slots[bucket] - 1;
+            if (slot < 0 || itemIds[slot] == id && unitPrices[slot] == unitPrice) {
+                return bucket;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+    }
+
+    private static int hash(int id, long unitPrice) {
+        int h = id * 31 + Long.hashCode(unitPrice);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 현재 항목들로 해시 테이블을 다시 채운다. 항목이 제거되어 배열 위치가 바뀐 후에 호출한다.
+     */
+    private void rehash() {
+        Arrays.fill(slots, 0);
+        for (int slot = 0; slot < size; slot++) {
+            slots[findBucket(itemIds[slot], unitPrices[slot])] = slot + 1;
+        }
+    }
+
+    private void grow() {
+        int capacity = itemIds.length * 2;
+        menuItems = Arrays.copyOf(menuItems, capacity);
+        itemIds = Arrays.copyOf(itemIds, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        unitPrices = Arrays.copyOf(unitPrices, capacity);
+        slots = new int[capacity * 2];
+        rehash();
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한 명의 사용자가 사용하는 장바구니를 구현한 클래스이다.
+ *
+ * 여러 스레드에서 동시에 사용하는 경우에는 `ConcurrentCart`를 사용한다.
+ *
+ * 제거되거나 장바구니를 비울 때 빠진 장바구니 항목 객체는 보관해 두었다가 새 항목을 추가할 때 재사용한다.
+ *
+ * - `cartItems`: 정규화된 메뉴 항목 이름과 가격을 키로 하는 장바구니 항목의 맵(추가된 순서를 유지한다)
+ * - `linesByName`: 정규화된 메뉴 항목 이름별로, 그 이름으로 담긴 가격별 항목의 키(이름으로 제거할 때 사용한다)
+ * - `totalPrice`: 장바구니 항목들의 총 금액(최소 단위, 항목이 변경될 때마다 갱신된다)
+ * - `itemCount`: 장바구니에 담긴 메뉴 항목의 총 수량
+ * - `freeItems`: 재사용하기 위해 보관 중인 장바구니 항목 객체
+ * - `cartItemView`: `viewCartItems()`가 반환하는, 항목 객체를 재사용하는 리스트
+ */
+public class SimpleCart implements Cart {
+
+    private final Map<LineKey, CartItem> cartItems = new LinkedHashMap<>();
+    private final Map<String, List<LineKey>> linesByName = new HashMap<>();
+    private long totalPrice;
+    private int itemCount;
+    private final List<CartItem> freeItems = new ArrayList<>();
+    private final CartItemBuffer cartItemView = new CartItemBuffer();
+
+    /**
+     * 메뉴 항목을 장바구니에 추가한다.
+     *
+     * 동일한 메뉴 항목이 이미 장바구니에 존재하면, 해당 항목의 수량을
+     * 1 증가시키고, 그렇지 않으면 새로운 항목을 장바구니에 추가한다.
+     * 메뉴가 교체되어 가격이 바뀐 경우에는 이미 담긴 항목의 가격을 유지하고,
+     * 새 가격의 항목을 따로 추가한다.
+     *
+     * @param menuItem 장바구니에 추가할 메뉴 항목
+     */
+    @Override
+    public void addCartItem(MenuItem menuItem) {
+        LineKey key = LineKey.of(menuItem);
+        CartItem cartItem = cartItems.get(key);
+        if (cartItem != null) {
+            cartItem.countUp();
+        } else {
+            cartItems.put(key, newCartItem(menuItem));
+            linesByName.computeIfAbsent(key.name(), name -> new ArrayList<>(1)).add(key);
+        }
+        totalPrice += menuItem.getPrice().toMinor();
+        itemCount++;
+    }
+
+    /**
+     * 장바구니에 담긴 모든 항목을 순서대로 출력한다.
+     *
+     * @param out 장바구니 항목을 출력할 스트림
+     */
+    @Override
+    public void printCartItems(PrintStream out) {
+        cartItems.values().forEach(out::println);
+    }
+
+    /**
+     * 장바구니에 담긴 모든 항목들의 총 금액을 반환한다.
+     *
+     * 총 금액은 항목이 추가, 제거될 때마다 갱신되므로 다시 계산하지 않는다.
+     *
+     * @return 장바구니 항목들의 총 금액
+     */
+    @Override
+    public Money getTotalPrice() {
+        return Money.ofMinor(totalPrice);
+    }
+
+    /**
+     * 장바구니에 담긴 메뉴 항목의 총 수량을 반환한다.
+     *
+     * @return 장바구니 항목들의 수량 합계
+     */
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * 주어진 문자열과 대소문자 구분 없이 동일한 이름을 가진 항목을
+     * 장바구니에서 제거한다. 가격이 다른 같은 이름의 항목들도 모두 제거한다.
+     *
+     * 이름별 색인으로 제거할 항목을 바로 찾으므로, 장바구니에 담긴 다른 항목의 수와 관계없다.
+     *
+     * @param itemName 제거할 메뉴 항목의 이름
+     * @return 제거 성공 시 true, 실패 시 false
+     */
+    @Override
+    public boolean removeItemByName(String itemName) {
+        List<LineKey> keys = linesByName.remove(toKey(itemName));
+        if (keys == null) {
+            return false;
+        }
+
+        for (LineKey key : keys) {
+            CartItem cartItem = cartItems.remove(key);
+            totalPrice -= cartItem.getPrice().toMinor();
+            itemCount -= cartItem.getCount();
+            freeItems.add(cartItem);
+        }
+        return true;
+    }
+
+    /**
+     * 장바구니에 담긴 항목들을 추가된 순서대로 복사하여 반환한다.
+     *
+     * @return 장바구니 항목 리스트
+     */
+    @Override
+    public List<CartItem> getCartItems() {
+        List<CartItem> snapshot = new ArrayList<>(cartItems.size());
+        cartItems.values().forEach(c -> snapshot.add(new CartItem(c.getMenuItem(), c.getCount())));
+        return snapshot;
+    }
+
+    @Override
+    public List<CartItem> viewCartItems() {
+        cartItemView.clear();
+        for (CartItem cartItem : cartItems.values()) {
+            cartItemView.add(cartItem.getMenuItem(), cartItem.getCount());
+        }
+        return cartItemView;
+    }
+
+    /**
+     * 장바구니가 비었는지 확인한다.
+     *
+     * @return 장바구니가 비었으면 true, 그렇지 않으면 false
+     */
+    @Override
+    public boolean isEmpty() {
+        return cartItems.isEmpty();
+    }
+
+    /**
+     * 장바구니를 비운다.
+     */
+    @Override
+    public void clear() {
+        freeItems.addAll(cartItems.values());
+        cartItems.clear();
+        linesByName.clear();
+        totalPrice = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * 수량이 1인 장바구니 항목을 만든다. 보관 중인 항목 객체가 있으면 재사용한다.
+     *
+     * @param menuItem 장바구니에 담을 메뉴 항목
+     * @return 장바구니 항목
+     */
+    private CartItem newCartItem(MenuItem menuItem) {
+        if (freeItems.isEmpty()) {
+            return new CartItem(menuItem);
+        }
+
+        CartItem cartItem = freeItems.remove(freeItems.size() - 1);
+        cartItem.reset(menuItem, 1);
+        return cartItem;
+    }
+
+    /**
+     * 메뉴 항목 이름을 대소문자 구분 없이 비교할 수 있도록 정규화한다.
+     *
+     * @param itemName 메뉴 항목의 이름
+     * @return 장바구니 맵의 키로 사용할 정규화된 이름
+     */
+    private static String toKey(String itemName) {
+        return itemName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 장바구니 맵의 키로, 정규화된 메뉴 항목 이름과 가격(최소 단위)으로 이루어진다.
+     *
+     * @param name 정규화된 메뉴 항목 이름
+     * @param price 메뉴 항목의 가격
+     */
+    private record LineKey(String name, long price) {
+        private static LineKey of(MenuItem menuItem) {
+            return new LineKey(toKey(menuItem.getName()), menuItem.getPrice().toMinor());
+        }
+    }
+}
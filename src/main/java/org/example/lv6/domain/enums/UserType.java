@@ -1,5 +1,7 @@
 package org.example.lv6.domain.enums;
 
+import java.io.PrintStream;
+
 /**
  * 키오스의 사용자 유형을 정의한 Enum 클래스이다.
  *
@@ -42,12 +44,14 @@ public enum UserType {
     }
 
     /**
+     * 모든 사용자 유형을 번호와 함께 순서대로 출력한다.
      *
+     * @param out 사용자 유형을 출력할 스트림
      */
-    public static void printAllTypes() {
+    public static void printAllTypes(PrintStream out) {
         UserType[] userTypes = values();
         for (int i = 1; i <= userTypes.length; i++) {
-            System.out.println(i + ". " + userTypes[i - 1]);
+            out.println(i + ". " + userTypes[i - 1]);
         }
     }
 
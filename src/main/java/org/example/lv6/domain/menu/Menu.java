@@ -1,17 +1,22 @@
 package org.example.lv6.domain.menu;
 
+import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 특정 카테고리에 속하는 메뉴 항목의 집합을 나타내는 클래스이다.
  *
  * - `category`: 메뉴의 카테고리
  * - `menuItems`: 해당 카테고리에 속하는 `MenuItem`(메뉴 항목)의 리스트
+ * - `snapshot`: 메뉴 항목의 불변 스냅샷(메뉴 항목이 추가되면 무효화된다)
  */
 public class Menu {
     private final String category;
     private final List<MenuItem> menuItems = new ArrayList<>();
+    private volatile MenuSnapshot snapshot;
 
     /**
      * 주어진 카테고리를 사용하여 `Menu` 객체를 생성한다.
@@ -32,12 +37,49 @@ public class Menu {
     }
 
     /**
-     * 메뉴에 포함된 모든 메뉴 항목의 리스트를 반환한다.
+     * 메뉴에 포함된 모든 메뉴 항목의 불변 리스트를 반환한다.
      *
      * @return 메뉴 항목 리스트
      */
     public List<MenuItem> getMenuItems() {
-        return menuItems;
+        return getSnapshot().getMenuItems();
+    }
+
+    /**
+     * 메뉴 항목의 현재 스냅샷을 반환한다.
+     *
+     * 스냅샷은 메뉴 항목이 추가될 때까지 재사용되므로, 화면에 출력한 번호와
+     * 사용자가 선택한 번호가 같은 스냅샷을 기준으로 해석된다.
+     *
+     * @return 메뉴 항목의 불변 스냅샷
+     */
+    public MenuSnapshot getSnapshot() {
+        MenuSnapshot current = snapshot;
+        if (current == null) {
+            current = new MenuSnapshot(menuItems);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * 메뉴판에 표시되는 번호에 해당하는 메뉴 항목을 반환한다.
+     *
+     * @param number 메뉴 항목의 번호 (1부터 시작)
+     * @return 해당 번호의 메뉴 항목
+     */
+    public MenuItem getMenuItem(int number) {
+        return getSnapshot().getMenuItem(number);
+    }
+
+    /**
+     * 대소문자 구분 없이 주어진 이름을 가진 메뉴 항목을 찾는다.
+     *
+     * @param name 메뉴 항목의 이름
+     * @return 해당 이름의 메뉴 항목, 없으면 빈 Optional
+     */
+    public Optional<MenuItem> findMenuItem(String name) {
+        return getSnapshot().findMenuItem(name);
     }
 
     /**
@@ -47,14 +89,30 @@ public class Menu {
      */
     public void addMenuItem(MenuItem menuItem) {
         menuItems.add(menuItem);
+        snapshot = null;
     }
 
     /**
      * 메뉴에 포함된 모든 메뉴 항목을 순서대로 출력한다.
      *
      * 각 메뉴 항목은 번호와 함께 출력되며, 번호는 1부터 시작한다.
+     *
+     * @param out 메뉴 항목을 출력할 스트림
+     */
+    public void printMenuItems(PrintStream out) {
+        out.print(getSnapshot().toText());
+    }
+
+    /**
+     * 메뉴에 포함된 모든 메뉴 항목을 번호와 함께 출력한 화면을 인코딩하여 반환한다.
+     *
+     * 인코딩된 화면은 스냅샷에 캐시되며, 메뉴 항목이 추가되거나 다른 문자 인코딩이
+     * 요청될 때만 다시 만들어진다. 반환된 배열은 수정하지 않아야 한다.
+     *
+     * @param charset 화면의 문자 인코딩
+     * @return 인코딩된 메뉴 항목 화면
      */
-    public void printMenuItems() {
-        menuItems.forEach(i -> System.out.println((menuItems.indexOf(i) + 1) + ". " + i));
+    public byte[] renderMenuItems(Charset charset) {
+        return getSnapshot().render(charset);
     }
 }
@@ -1,28 +1,62 @@
 package org.example.lv6.domain.menu;
 
+import org.example.lv6.domain.money.Money;
+
 /**
  * 메뉴 항목을 나타내는 클래스이다.
  *
+ * 메뉴 항목은 `of()`로 생성하며, `MenuItemRegistry`에서 이름에 해당하는 정수 id를 부여받는다.
+ *
+ * - `id`: 메뉴 항목의 id(`MenuItemRegistry`가 이름마다 부여한다)
  * - `name`: 메뉴 항목의 이름
  * - `price`: 메뉴 항목의 가격
  * - `description`: 메뉴 항목에 대한 설명
+ * - `displayText`: 메뉴판에 출력할 세부 정보 문자열(생성 시 한 번만 만든다)
  */
 public class MenuItem {
+    private final int id;
     private final String name;
-    private final Float price;
+    private final Money price;
     private final String description;
+    private final String displayText;
 
     /**
-     * 주어진 이름, 가격, 설명을 사용하여 `MenuItem` 객체를 생성한다.
+     * 주어진 id, 이름, 가격, 설명을 사용하여 `MenuItem` 객체를 생성한다.
      *
+     * @param id 메뉴 항목의 id
      * @param name 메뉴 항목의 이름
      * @param price 메뉴 항목의 가격
      * @param description 메뉴 항목에 대한 설명
      */
-    public MenuItem(String name, Float price, String description) {
+    MenuItem(int id, String name, Money price, String description) {
+        this.id = id;
         this.name = name;
         this.price = price;
         this.description = description;
+        this.displayText = name + " ".repeat(Math.max(0, 13 - name.length())) + " | W " + price + " | " + description;
+    }
+
+    /**
+     * 주어진 이름, 가격, 설명을 가진 메뉴 항목을 생성한다.
+     *
+     * 이름이 같은 메뉴 항목은 가격이나 설명이 달라도 같은 id를 가진다.
+     *
+     * @param name 메뉴 항목의 이름
+     * @param price 메뉴 항목의 가격
+     * @param description 메뉴 항목에 대한 설명
+     * @return 메뉴 항목
+     */
+    public static MenuItem of(String name, Money price, String description) {
+        return new MenuItem(MenuItemRegistry.idOf(name), name, price, description);
+    }
+
+    /**
+     * 메뉴 항목의 id를 반환한다.
+     *
+     * @return 메뉴 항목의 id
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -39,10 +73,19 @@ public class MenuItem {
      *
      * @return 메뉴 항목의 가격
      */
-    public Float getPrice() {
+    public Money getPrice() {
         return price;
     }
 
+    /**
+     * 메뉴 항목에 대한 설명을 반환한다.
+     *
+     * @return 메뉴 항목에 대한 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+
     /**
      * 메뉴 항목의 세부 정보를 문자열 형식으로 반환한다.
      * - 이름, 가격, 설명을 포함하며, 일정한 형식으로 출력된다.
@@ -51,6 +94,6 @@ public class MenuItem {
      */
     @Override
     public String toString() {
-        return name + " ".repeat(13 - name.length()) + " | W " + price + " | " + description;
+        return displayText;
     }
 }
@@ -0,0 +1,42 @@
+package org.example.lv6.domain.menu;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 메뉴 항목의 이름마다 정수 식별자(id)를 부여하는 클래스이다.
+ *
+ * id는 대소문자 구분 없이 같은 이름에 하나씩 부여되므로, 메뉴를 다시 불러와 가격이나 설명이
+ * 바뀌어도 같은 이름의 메뉴 항목은 같은 id를 가진다. 따라서 id로 메뉴 항목을 구별하는 할인 규칙,
+ * 판매 실적, 주방 스테이션은 메뉴가 교체된 후에도 그대로 사용할 수 있다.
+ * id는 0부터 차례로 부여되므로 배열의 인덱스로 사용할 수 있다.
+ *
+ * 이름과 id만 보관하고 메뉴 항목 객체는 보관하지 않으므로, 교체된 메뉴의 항목들은 다른 곳에서
+ * 참조하지 않으면 가비지 컬렉션된다. 등록된 이름의 수는 지금까지 불러온 서로 다른 메뉴 이름의
+ * 수를 넘지 않으므로, 메뉴를 여러 번 다시 불러와도 늘어나지 않는다.
+ *
+ * id는 프로세스 안에서만 유효하며, 등록 순서에 따라 정해지므로 파일에 저장하는 용도로는
+ * 사용하지 않는다. 등록은 메뉴를 불러올 때만 일어나므로 잠금으로 보호한다.
+ *
+ * - `ids`: 소문자로 바꾼 이름을 키로 하는 id의 맵
+ */
+public final class MenuItemRegistry {
+    private static final Map<String, Integer> ids = new HashMap<>();
+
+    private MenuItemRegistry() {
+    }
+
+    /**
+     * 주어진 이름의 id를 반환한다. 처음 보는 이름이면 새로운 id를 부여한다.
+     *
+     * @param name 메뉴 항목의 이름
+     * @return 이름의 id
+     */
+    static int idOf(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        synchronized (ids) {
+            return ids.computeIfAbsent(key, k -> ids.size());
+        }
+    }
+}
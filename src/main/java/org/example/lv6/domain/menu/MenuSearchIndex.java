@@ -0,0 +1,321 @@
+package org.example.lv6.domain.menu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 항목의 이름으로 메뉴 항목을 찾는 검색 색인 클래스이다.
+ *
+ * 메뉴 항목의 이름을 정규화(소문자로 바꾸고 글자와 숫자만 남김)하여 트라이(trie)에 등록한다.
+ * 이름 전체뿐만 아니라 이름 안의 각 단어로 시작하는 부분("Vanilla Shake"의 "shake",
+ * "SmokeShack"의 "shack")도 등록하므로, 이름 중간의 단어로도 찾을 수 있다.
+ *
+ * 검색 결과는 다음 순서로 정렬된다.
+ * 1. 이름 전체가 일치하는 항목
+ * 2. 이름 안의 단어부터 끝까지 일치하는 항목
+ * 3. 이름이 검색어로 시작하는 항목
+ * 4. 이름 안의 단어가 검색어로 시작하는 항목
+ * 5. 오타를 허용하여 일치하는 항목(글자 하나의 추가, 삭제, 변경, 인접한 두 글자의 교환을 1회로 센다)
+ *
+ * 오타를 허용하는 검색은 일치하거나 검색어로 시작하는 항목이 하나도 없을 때만 수행한다.
+ *
+ * 검색은 트라이에서 검색어 길이만큼만 내려가므로, 메뉴 항목 수와 관계없이 빠르게 끝난다.
+ * 오타를 허용하는 검색도 허용 횟수를 넘는 가지는 더 내려가지 않는다.
+ * 색인은 생성된 후 변경되지 않으므로 여러 스레드가 함께 사용할 수 있다.
+ *
+ * - `root`: 트라이의 루트 노드
+ */
+public final class MenuSearchIndex {
+    private static final int MIN_FUZZY_LENGTH = 4; // 오타를 허용하는 검색어의 최소 길이
+    private static final int MIN_TWO_TYPO_LENGTH = 8; // 오타를 두 번까지 허용하는 검색어의 최소 길이
+    private static final int MAX_COLLECTED_ENTRIES = 256; // 접두사 검색 한 번에 확인할 최대 등록 수
+
+    private static final int EXACT = 0;
+    private static final int WORD_EXACT = 1;
+    private static final int PREFIX = 2;
+    private static final int WORD_PREFIX = 3;
+    private static final int FUZZY = 4;
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    /**
+     * 트라이의 노드 하나를 나타내는 클래스이다.
+     *
+     * - `keys`, `children`: 정렬된 다음 글자와 그에 해당하는 자식 노드
+     * - `entries`: 이 노드에서 끝나는 등록
+     */
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private List<Entry> entries = List.of();
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        private void addEntry(Entry entry) {
+            if (entries.isEmpty()) {
+                entries = new ArrayList<>(1);
+            }
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * 트라이에 등록된 메뉴 항목 하나를 나타낸다.
+     *
+     * @param menuItem 메뉴 항목
+     * @param order 메뉴판에 나오는 순서(같은 순위의 결과를 정렬하는 데 사용한다)
+     * @param fullName 이름 전체로 등록되었으면 true, 이름 안의 단어부터 등록되었으면 false
+     */
+    private record Entry(MenuItem menuItem, int order, boolean fullName) {
+    }
+
+    /**
+     * 검색 결과 후보 하나와 그 순위를 나타낸다.
+     */
+    private record Match(Entry entry, int rank) {
+    }
+
+    private MenuSearchIndex() {
+    }
+
+    /**
+     * 주어진 메뉴 리스트의 모든 메뉴 항목으로 검색 색인을 만든다.
+     *
+     * @param menus 메뉴 리스트
+     * @return 검색 색인
+     */
+    public static MenuSearchIndex of(List<Menu> menus) {
+        MenuSearchIndex index = new MenuSearchIndex();
+        int order = 0;
+        for (Menu menu : menus) {
+            for (MenuItem menuItem : menu.getMenuItems()) {
+                index.add(menuItem, order++);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 이름이 검색어와 일치하거나 비슷한 메뉴 항목을 찾는다.
+     *
+     * 대소문자, 공백, 기호는 구분하지 않는다.
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 결과 수
+     * @return 일치하는 순서로 정렬된 메뉴 항목 리스트, 없으면 빈 리스트
+     */
+    public List<MenuItem> search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<MenuItem, Match> matches = new LinkedHashMap<>();
+        Node node = find(key);
+        if (node != null) {
+            for (Entry entry : node.entries) {
+                offer(matches, entry, entry.fullName() ? EXACT : WORD_EXACT);
+            }
+            collect(node, matches, PREFIX, new int[] {MAX_COLLECTED_ENTRIES});
+        }
+
+        int maxTypos = maxTypos(key.length());
+        if (matches.isEmpty() && maxTypos > 0) {
+            int[][] rows = new int[key.length() + maxTypos + 2][key.length() + 1];
+            for (int i = 0; i <= key.length(); i++) {
+                rows[0][i] = i;
+            }
+            for (int i = 0; i < root.keys.length; i++) {
+                searchFuzzy(root.children[i], root.keys[i], (char) 0, key, rows, 1, maxTypos, matches);
+            }
+        }
+
+        List<Match> sorted = new ArrayList<>(matches.values());
+        sorted.sort(Comparator.comparingInt(Match::rank).thenComparingInt(match -> match.entry().order()));
+        List<MenuItem> result = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (int i = 0; i < sorted.size() && i < limit; i++) {
+            result.add(sorted.get(i).entry().menuItem());
+        }
+        return result;
+    }
+
+    /**
+     * 이름을 검색에 사용하는 형태로 정규화한다.
+     *
+     * 글자와 숫자만 남기고, 모두 소문자로 바꾼다. (예: "Vanilla Shake" → "vanillashake")
+     *
+     * @param name 이름 또는 검색어
+     * @return 정규화된 문자열
+     */
+    public static String normalize(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    private void add(MenuItem menuItem, int order) {
+        String name = menuItem.getName();
+        String key = normalize(name);
+        insert(key, 0, new Entry(menuItem, order, true));
+
+        int offset = 0; // name의 i번째 글자 앞까지 정규화된 글자 수
+        for (int i = 0; i < name.length(); i++) {
+            if (i > 0 && isWordStart(name, i)) {
+                insert(key, offset, new Entry(menuItem, order, false));
+            }
+            if (Character.isLetterOrDigit(name.charAt(i))) {
+                offset++;
+            }
+        }
+    }
+
+    private void insert(String key, int from, Entry entry) {
+        if (from >= key.length()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = from; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+        node.addEntry(entry);
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * 주어진 노드 아래의 모든 등록을 후보에 추가한다.
+     *
+     * 검색어가 짧으면 아래의 등록이 매우 많을 수 있으므로, `budget`만큼만 확인한다.
+     */
+    private static void collect(Node node, Map<MenuItem, Match> matches, int rank, int[] budget) {
+        for (Node child : node.children) {
+            for (Entry entry : child.entries) {
+                if (budget[0]-- <= 0) {
+                    return;
+                }
+                offer(matches, entry, entry.fullName() ? rank : rank + 1);
+            }
+            collect(child, matches, rank, budget);
+            if (budget[0] <= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 트라이를 내려가며 검색어와의 편집 거리(인접 교환 포함)를 한 행씩 계산한다.
+     *
+     * 행의 최솟값이 허용 횟수를 넘으면 그 아래에는 일치하는 이름이 없으므로 더 내려가지 않는다.
+     * 검색어 전체가 허용 횟수 안에서 일치하면, 그 노드 아래의 이름은 모두 후보가 된다.
+     *
+     * 행의 최솟값은 깊이가 깊어질수록 줄어들지 않으므로, 검색어 길이와 허용 횟수를 더한
+     * 깊이보다 깊이 내려가지 않는다. 따라서 깊이별 행을 미리 만들어 두고 재사용한다.
+     *
+     * @param node 현재 노드
+     * @param c 현재 노드로 내려온 글자
+     * @param previous 부모 노드로 내려온 글자(루트의 자식이면 0)
+     * @param key 정규화된 검색어
+     * @param rows 깊이별 거리 행(`rows[depth - 1]`이 부모 노드까지의 거리 행)
+     * @param depth 현재 노드의 깊이
+     */
+    private static void searchFuzzy(Node node, char c, char previous, String key, int[][] rows, int depth,
+                                    int maxTypos, Map<MenuItem, Match> matches) {
+        int[] row = rows[depth - 1];
+        int[] previousRow = depth > 1 ? rows[depth - 2] : null;
+        int[] current = rows[depth];
+        current[0] = row[0] + 1;
+        int min = current[0];
+        for (int i = 1; i < row.length; i++) {
+            int cost = key.charAt(i - 1) == c ? 0 : 1;
+            int distance = Math.min(Math.min(current[i - 1] + 1, row[i] + 1), row[i - 1] + cost);
+            if (previousRow != null && i > 1 && key.charAt(i - 1) == previous && key.charAt(i - 2) == c) {
+                distance = Math.min(distance, previousRow[i - 2] + 1);
+            }
+            current[i] = distance;
+            min = Math.min(min, distance);
+        }
+
+        if (current[row.length - 1] <= maxTypos) {
+            for (Entry entry : node.entries) {
+                offer(matches, entry, FUZZY);
+            }
+            collect(node, matches, FUZZY, new int[] {MAX_COLLECTED_ENTRIES});
+            return;
+        }
+        if (min > maxTypos) {
+            return;
+        }
+
+        for (int i = 0; i < node.keys.length; i++) {
+            searchFuzzy(node.children[i], node.keys[i], c, key, rows, depth + 1, maxTypos, matches);
+        }
+    }
+
+    private static void offer(Map<MenuItem, Match> matches, Entry entry, int rank) {
+        int bounded = Math.min(rank, FUZZY);
+        matches.merge(entry.menuItem(), new Match(entry, bounded),
+                (existing, candidate) -> candidate.rank() < existing.rank() ? candidate : existing);
+    }
+
+    private static int maxTypos(int length) {
+        if (length >= MIN_TWO_TYPO_LENGTH) {
+            return 2;
+        }
+        return length >= MIN_FUZZY_LENGTH ? 1 : 0;
+    }
+
+    /**
+     * 이름의 주어진 위치가 새로운 단어의 시작인지 확인한다.
+     * 공백 등 구분 문자 다음의 글자, 또는 소문자 다음의 대문자("SmokeShack"의 "S")를 단어의 시작으로 본다.
+     */
+    private static boolean isWordStart(String name, int index) {
+        char c = name.charAt(index);
+        char before = name.charAt(index - 1);
+        if (!Character.isLetterOrDigit(c)) {
+            return false;
+        }
+        return !Character.isLetterOrDigit(before) || (Character.isUpperCase(c) && Character.isLowerCase(before));
+    }
+}
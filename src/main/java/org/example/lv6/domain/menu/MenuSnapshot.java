@@ -0,0 +1,126 @@
+package org.example.lv6.domain.menu;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 특정 시점의 메뉴 항목들을 번호 순서대로 담은 불변 클래스이다.
+ *
+ * 메뉴판에 표시되는 번호(1부터 시작)와 이름으로 메뉴 항목을 바로 찾을 수 있도록
+ * 색인과 번호 라벨을 미리 만들어 둔다.
+ *
+ * - `menuItems`: 메뉴 항목의 불변 리스트
+ * - `labels`: 각 메뉴 항목의 번호 라벨 (예: "1. ")
+ * - `menuItemsByName`: 대소문자 구분 없는 이름으로 메뉴 항목을 찾기 위한 맵
+ * - `renderedFrame`: 출력용으로 미리 인코딩해 둔 메뉴 항목 화면
+ */
+public final class MenuSnapshot {
+    private final List<MenuItem> menuItems;
+    private final String[] labels;
+    private final Map<String, MenuItem> menuItemsByName;
+    private volatile RenderedFrame renderedFrame;
+
+    /**
+     * 특정 문자 인코딩으로 인코딩된 메뉴 항목 화면이다.
+     *
+     * @param charset 화면의 문자 인코딩
+     * @param bytes 인코딩된 화면
+     */
+    private record RenderedFrame(Charset charset, byte[] bytes) {
+    }
+
+    /**
+     * 주어진 메뉴 항목들로 `MenuSnapshot` 객체를 생성한다.
+     *
+     * @param menuItems 메뉴 항목 리스트
+     */
+    MenuSnapshot(List<MenuItem> menuItems) {
+        this.menuItems = List.copyOf(menuItems);
+        this.labels = new String[this.menuItems.size()];
+        this.menuItemsByName = new HashMap<>();
+        for (int i = 0; i < labels.length; i++) {
+            MenuItem menuItem = this.menuItems.get(i);
+            labels[i] = (i + 1) + ". ";
+            menuItemsByName.putIfAbsent(toKey(menuItem.getName()), menuItem);
+        }
+    }
+
+    /**
+     * 메뉴 항목의 개수를 반환한다.
+     *
+     * @return 메뉴 항목의 개수
+     */
+    public int size() {
+        return labels.length;
+    }
+
+    /**
+     * 메뉴 항목들을 불변 리스트로 반환한다.
+     *
+     * @return 메뉴 항목의 불변 리스트
+     */
+    public List<MenuItem> getMenuItems() {
+        return menuItems;
+    }
+
+    /**
+     * 메뉴판에 표시되는 번호에 해당하는 메뉴 항목을 반환한다.
+     *
+     * @param number 메뉴 항목의 번호 (1부터 시작)
+     * @return 해당 번호의 메뉴 항목
+     */
+    public MenuItem getMenuItem(int number) {
+        return menuItems.get(number - 1);
+    }
+
+    /**
+     * 대소문자 구분 없이 주어진 이름을 가진 메뉴 항목을 찾는다.
+     *
+     * 같은 이름의 항목이 여러 개라면 번호가 가장 작은 항목을 반환한다.
+     *
+     * @param name 메뉴 항목의 이름
+     * @return 해당 이름의 메뉴 항목, 없으면 빈 Optional
+     */
+    public Optional<MenuItem> findMenuItem(String name) {
+        return Optional.ofNullable(menuItemsByName.get(toKey(name)));
+    }
+
+    /**
+     * 메뉴 항목들을 번호와 함께 출력한 화면을 인코딩하여 반환한다.
+     *
+     * 인코딩된 화면은 캐시되며, 다른 문자 인코딩이 요청될 때만 다시 만들어진다.
+     * 반환된 배열은 수정하지 않아야 한다.
+     *
+     * @param charset 화면의 문자 인코딩
+     * @return 인코딩된 메뉴 항목 화면
+     */
+    public byte[] render(Charset charset) {
+        RenderedFrame frame = renderedFrame;
+        if (frame == null || !frame.charset().equals(charset)) {
+            frame = new RenderedFrame(charset, toText().getBytes(charset));
+            renderedFrame = frame;
+        }
+        return frame.bytes();
+    }
+
+    /**
+     * 메뉴 항목들을 번호와 함께 한 줄씩 나열한 문자열을 만든다.
+     *
+     * @return 메뉴 항목 화면 문자열
+     */
+    String toText() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i++) {
+            sb.append(labels[i]).append(menuItems.get(i)).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
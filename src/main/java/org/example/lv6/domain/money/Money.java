@@ -0,0 +1,161 @@
+package org.example.lv6.domain.money;
+
+/**
+ * 금액을 나타내는 불변 값 클래스이다.
+ *
+ * 금액은 최소 단위(1/100)의 `long` 값으로 저장되므로, 부동소수점 연산에서
+ * 발생하는 반올림 오차 없이 더하고 곱할 수 있다.
+ *
+ * - `amount`: 최소 단위로 표현한 금액 (예: W 6.9 → 690)
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 100; // 기본 단위 1에 해당하는 최소 단위의 수
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * 최소 단위로 표현한 금액으로 `Money` 객체를 생성한다.
+     *
+     * @param amount 최소 단위의 금액
+     * @return 해당 금액의 `Money` 객체
+     */
+    public static Money ofMinor(long amount) {
+        return amount == 0 ? ZERO : new Money(amount);
+    }
+
+    /**
+     * "6.9", "12.34"와 같은 10진수 문자열을 `Money` 객체로 변환한다.
+     *
+     * 소수점 이하는 최대 두 자리까지 허용한다.
+     *
+     * @param value 금액 문자열
+     * @return 해당 금액의 `Money` 객체
+     * @throws IllegalArgumentException 금액 형식이 올바르지 않은 경우
+     */
+    public static Money parse(String value) {
+        String trimmed = value.trim();
+        int dot = trimmed.indexOf('.');
+        String major = dot < 0 ? trimmed : trimmed.substring(0, dot);
+        String minor = dot < 0 ? "" : trimmed.substring(dot + 1);
+        if (major.isEmpty() || minor.length() > 2 || !isDigits(major) || !isDigits(minor)) {
+            throw new IllegalArgumentException("올바르지 않은 금액 형식입니다: " + value);
+        }
+
+        long minorAmount = minor.isEmpty() ? 0 : Long.parseLong(minor) * (minor.length() == 1 ? 10 : 1);
+        return ofMinor(Math.addExact(Math.multiplyExact(Long.parseLong(major), SCALE), minorAmount));
+    }
+
+    /**
+     * 최소 단위로 표현한 금액을 반환한다.
+     *
+     * @return 최소 단위의 금액
+     */
+    public long toMinor() {
+        return amount;
+    }
+
+    /**
+     * 두 금액을 더한 결과를 반환한다.
+     *
+     * @param other 더할 금액
+     * @return 합계 금액
+     */
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(amount, other.amount));
+    }
+
+    /**
+     * 금액에 수량을 곱한 결과를 반환한다.
+     *
+     * @param count 수량
+     * @return 수량만큼 곱한 금액
+     */
+    public Money times(int count) {
+        return ofMinor(Math.multiplyExact(amount, count));
+    }
+
+    /**
+     * 할인율을 적용한 금액을 반환한다.
+     *
+     * @param discountRate 할인율(%)
+     * @return 할인이 적용된 금액
+     */
+    public Money discount(int discountRate) {
+        return ofMinor(discount(amount, discountRate));
+    }
+
+    /**
+     * 최소 단위의 금액에 할인율을 적용한다.
+     *
+     * 최소 단위 미만의 값은 반올림(0.5 이상 올림)하므로, 같은 입력에 대해 항상
+     * 같은 결과를 얻는다. 객체를 생성하지 않으므로 반복 계산에 사용할 수 있다.
+     *
+     * @param amount 최소 단위의 금액
+     * @param discountRate 할인율(%)
+     * @return 할인이 적용된 최소 단위의 금액
+     */
+    public static long discount(long amount, int discountRate) {
+        return Math.floorDiv(Math.multiplyExact(amount, 100 - discountRate) + 50, 100);
+    }
+
+    /**
+     * 소수점 이하 두 자리까지 표시한 문자열을 반환한다. (예: 8.90)
+     *
+     * @return 소수점 이하 두 자리의 금액 문자열
+     */
+    public String format() {
+        return sign() + Math.abs(amount / SCALE) + "." + twoDigits(Math.abs(amount % SCALE));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && amount == other.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    /**
+     * 금액을 메뉴판 형식의 문자열로 반환한다.
+     * - 소수점 이하의 0은 한 자리만 남긴다. (예: 6.9, 5.0, 12.34)
+     *
+     * @return 금액 문자열
+     */
+    @Override
+    public String toString() {
+        long minor = Math.abs(amount % SCALE);
+        String fraction = minor % 10 == 0 ? String.valueOf(minor / 10) : twoDigits(minor);
+        return sign() + Math.abs(amount / SCALE) + "." + fraction;
+    }
+
+    private String sign() {
+        return amount < 0 ? "-" : "";
+    }
+
+    private static String twoDigits(long minor) {
+        return minor < 10 ? "0" + minor : String.valueOf(minor);
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.lv6.domain.order;
+
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 완료된 주문을 나타내는 불변 클래스이다.
+ *
+ * - `orderedAt`: 주문이 완료된 시각(epoch 밀리초)
+ * - `orderLines`: 주문에 포함된 항목의 리스트
+ * - `userType`: 주문한 사용자의 유형
+ * - `totalPrice`: 할인 전 총 금액
+ * - `paymentPrice`: 할인이 적용된 최종 결제 금액
+ */
+public class Order {
+    private final long orderedAt;
+    private final List<OrderLine> orderLines;
+    private final UserType userType;
+    private final Money totalPrice;
+    private final Money paymentPrice;
+
+    /**
+     * 주어진 주문 정보로 `Order` 객체를 생성한다.
+     *
+     * @param orderedAt 주문이 완료된 시각(epoch 밀리초)
+     * @param orderLines 주문에 포함된 항목의 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param totalPrice 할인 전 총 금액
+     * @param paymentPrice 할인이 적용된 최종 결제 금액
+     */
+    public Order(long orderedAt, List<OrderLine> orderLines, UserType userType, Money totalPrice, Money paymentPrice) {
+        this.orderedAt = orderedAt;
+        this.orderLines = List.copyOf(orderLines);
+        this.userType = userType;
+        this.totalPrice = totalPrice;
+        this.paymentPrice = paymentPrice;
+    }
+
+    /**
+     * 장바구니 항목들로 `Order` 객체를 생성한다.
+     *
+     * @param orderedAt 주문이 완료된 시각(epoch 밀리초)
+     * @param cartItems 주문할 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param paymentPrice 할인이 적용된 최종 결제 금액
+     * @return 생성된 주문
+     */
+    public static Order of(long orderedAt, List<CartItem> cartItems, UserType userType, Money paymentPrice) {
+        List<OrderLine> orderLines = new ArrayList<>(cartItems.size());
+        Money totalPrice = Money.ZERO;
+        for (CartItem cartItem : cartItems) {
+            MenuItem menuItem = cartItem.getMenuItem();
+            orderLines.add(new OrderLine(menuItem.getId(), menuItem.getName(), menuItem.getPrice(), cartItem.getCount()));
+            totalPrice = totalPrice.plus(cartItem.getPrice());
+        }
+        return new Order(orderedAt, orderLines, userType, totalPrice, paymentPrice);
+    }
+
+    /**
+     * 주문이 완료된 시각을 반환한다.
+     *
+     * @return 주문이 완료된 시각(epoch 밀리초)
+     */
+    public long getOrderedAt() {
+        return orderedAt;
+    }
+
+    /**
+     * 주문에 포함된 항목의 불변 리스트를 반환한다.
+     *
+     * @return 주문 항목 리스트
+     */
+    public List<OrderLine> getOrderLines() {
+        return orderLines;
+    }
+
+    /**
+     * 주문한 사용자의 유형을 반환한다.
+     *
+     * @return 사용자 유형
+     */
+    public UserType getUserType() {
+        return userType;
+    }
+
+    /**
+     * 할인 전 총 금액을 반환한다.
+     *
+     * @return 할인 전 총 금액
+     */
+    public Money getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * 할인된 금액을 반환한다.
+     *
+     * @return 할인 전 총 금액과 최종 결제 금액의 차이
+     */
+    public Money getDiscountPrice() {
+        return Money.ofMinor(totalPrice.toMinor() - paymentPrice.toMinor());
+    }
+
+    /**
+     * 할인이 적용된 최종 결제 금액을 반환한다.
+     *
+     * @return 최종 결제 금액
+     */
+    public Money getPaymentPrice() {
+        return paymentPrice;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.lv6.domain.order;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 완료된 주문에 포함된 메뉴 항목 하나를 나타내는 클래스이다.
+ *
+ * 주문 시점의 이름과 가격을 그대로 보관하므로, 이후 메뉴가 바뀌어도 주문 내역은 변하지 않는다.
+ *
+ * - `itemId`: 메뉴 항목의 id(`MenuItemRegistry` 참고), 주문 기록 파일에서 읽은 경우 `UNKNOWN_ITEM_ID`
+ * - `name`: 메뉴 항목의 이름
+ * - `unitPrice`: 메뉴 항목 하나의 가격
+ * - `count`: 주문한 수량
+ */
+public class OrderLine {
+    public static final int UNKNOWN_ITEM_ID = -1; // 현재 프로세스에서 id를 알 수 없는 메뉴 항목
+
+    private final int itemId;
+    private final String name;
+    private final Money unitPrice;
+    private final int count;
+
+    /**
+     * 주어진 메뉴 항목 id, 이름, 가격, 수량으로 `OrderLine` 객체를 생성한다.
+     *
+     * @param itemId 메뉴 항목의 id, 알 수 없으면 `UNKNOWN_ITEM_ID`
+     * @param name 메뉴 항목의 이름
+     * @param unitPrice 메뉴 항목 하나의 가격
+     * @param count 주문한 수량
+     */
+    public OrderLine(int itemId, String name, Money unitPrice, int count) {
+        this.itemId = itemId;
+        this.name = name;
+        this.unitPrice = unitPrice;
+        this.count = count;
+    }
+
+    /**
+     * 메뉴 항목의 id를 반환한다.
+     *
+     * @return 메뉴 항목의 id, 알 수 없으면 `UNKNOWN_ITEM_ID`
+     */
+    public int getItemId() {
+        return itemId;
+    }
+
+    /**
+     * 메뉴 항목의 이름을 반환한다.
+     *
+     * @return 메뉴 항목의 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 메뉴 항목 하나의 가격을 반환한다.
+     *
+     * @return 메뉴 항목 하나의 가격
+     */
+    public Money getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * 주문한 수량을 반환한다.
+     *
+     * @return 주문한 수량
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 주문 항목의 총 가격(가격 × 수량)을 반환한다.
+     *
+     * @return 주문 항목의 총 가격
+     */
+    public Money getPrice() {
+        return unitPrice.times(count);
+    }
+
+    /**
+     * 주문 항목의 정보를 문자열 형식으로 반환한다.
+     *
+     * @return 이름, 가격, 수량을 포함한 문자열
+     */
+    @Override
+    public String toString() {
+        return name + " | W " + unitPrice + " (" + count + "개)";
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 그룹에서 항목을 하나씩 골라 함께 주문하면, 세트마다 정해진 금액을 할인하는 규칙이다.
+ * (예: 버거 하나와 음료 하나를 함께 주문하면 W 1.0 할인)
+ *
+ * 세트의 수는 각 그룹에서 주문한 수량 중 가장 작은 값이다.
+ *
+ * - `groups`: 세트를 구성하는 메뉴 항목 그룹
+ * - `discountPerCombo`: 세트 하나당 할인 금액(최소 단위)
+ * - `triggerItemIds`: 모든 그룹의 메뉴 항목 id
+ */
+public class ComboRule implements PricingRule {
+    private final ItemSet[] groups;
+    private final long discountPerCombo;
+    private final int[] triggerItemIds;
+
+    /**
+     * 주어진 그룹들과 세트 하나당 할인 금액으로 `ComboRule` 객체를 생성한다.
+     *
+     * @param groups 세트를 구성하는 메뉴 항목 그룹 리스트
+     * @param discountPerCombo 세트 하나당 할인 금액
+     */
+    public ComboRule(List<? extends Collection<MenuItem>> groups, Money discountPerCombo) {
+        this.groups = groups.stream().map(ItemSet::new).toArray(ItemSet[]::new);
+        this.discountPerCombo = discountPerCombo.toMinor();
+
+        BitSet triggers = new BitSet();
+        groups.forEach(group -> group.forEach(menuItem -> triggers.set(menuItem.getId())));
+        this.triggerItemIds = triggers.stream().toArray();
+    }
+
+    @Override
+    public Stage getStage() {
+        return Stage.ITEM;
+    }
+
+    @Override
+    public int[] getTriggerItemIds() {
+        return triggerItemIds;
+    }
+
+    @Override
+    public long apply(PricingContext context) {
+        int combos = Integer.MAX_VALUE;
+        for (ItemSet group : groups) {
+            combos = Math.min(combos, group.countIn(context));
+            if (combos == 0) {
+                return 0;
+            }
+        }
+        return combos * discountPerCombo;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 쿠폰 코드가 입력되면 주문 금액을 할인하는 규칙이다.
+ *
+ * - `code`: 쿠폰 코드
+ * - `discountRate`: 할인율(%)
+ */
+public class CouponRule implements PricingRule {
+    private final String code;
+    private final int discountRate;
+
+    /**
+     * 주어진 쿠폰 코드와 할인율로 `CouponRule` 객체를 생성한다.
+     *
+     * @param code 쿠폰 코드
+     * @param discountRate 할인율(%)
+     */
+    public CouponRule(String code, int discountRate) {
+        this.code = code;
+        this.discountRate = discountRate;
+    }
+
+    @Override
+    public Stage getStage() {
+        return Stage.ORDER;
+    }
+
+    @Override
+    public int[] getTriggerItemIds() {
+        return NO_TRIGGER;
+    }
+
+    @Override
+    public long apply(PricingContext context) {
+        if (!context.hasCoupon(code)) {
+            return 0;
+        }
+
+        long subtotal = context.getSubtotal();
+        return subtotal - Money.discount(subtotal, discountRate);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.menu.MenuItem;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 할인 규칙이 대상으로 하는 메뉴 항목들의 집합을 메뉴 항목 id의 비트 집합으로 나타내는 클래스이다.
+ *
+ * 장바구니 항목이 대상인지 배열 조회 한 번으로 확인할 수 있다. id는 메뉴 항목의 이름마다 정해지므로,
+ * 메뉴를 다시 불러와 가격이 바뀐 항목도 같은 대상으로 인식한다.
+ *
+ * - `ids`: 대상 메뉴 항목 id의 비트 집합
+ */
+final class ItemSet {
+    private final BitSet ids = new BitSet();
+
+    ItemSet(Collection<MenuItem> menuItems) {
+        menuItems.forEach(menuItem -> ids.set(menuItem.getId()));
+    }
+
+    boolean contains(int itemId) {
+        return ids.get(itemId);
+    }
+
+    /**
+     * 장바구니에서 대상 항목들의 수량 합계를 반환한다.
+     */
+    int countIn(PricingContext context) {
+        int count = 0;
+        for (int line = 0; line < context.getLineCount(); line++) {
+            if (contains(context.getItemId(line))) {
+                count += context.getCount(line);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 장바구니에서 대상 항목들의 가격 합계를 반환한다.
+     */
+    long priceIn(PricingContext context) {
+        long price = 0;
+        for (int line = 0; line < context.getLineCount(); line++) {
+            if (contains(context.getItemId(line))) {
+                price += context.getLinePrice(line);
+            }
+        }
+        return price;
+    }
+
+    int[] toArray() {
+        return ids.stream().toArray();
+    }
+}
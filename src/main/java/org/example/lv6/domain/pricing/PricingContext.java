@@ -0,0 +1,179 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.MenuItem;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 할인 규칙을 평가할 때 사용하는 장바구니 내용과 주문 조건을 나타내는 클래스이다.
+ *
+ * 장바구니 항목은 메뉴 항목 id, 수량, 가격을 같은 인덱스의 배열로 보관한다.
+ *
+ * 한 세션이 하나의 객체를 만들어 `PricingEngine.price()`에 전달하면, 주문마다 배열을 새로 만들지 않고
+ * 내용만 바꾸어 재사용한다. 배열은 장바구니 항목 수나 규칙 수보다 작을 때만 새로 만든다.
+ * 여러 스레드에서 동시에 사용할 수 없다.
+ *
+ * - `itemIds`, `counts`, `unitPrices`: 장바구니 항목의 메뉴 항목 id, 수량, 가격(최소 단위)
+ * - `lineCount`: 장바구니 항목의 수
+ * - `userType`: 주문한 사용자의 유형
+ * - `time`: 주문 시각
+ * - `coupons`: 입력된 쿠폰 코드
+ * - `subtotal`: 지금까지 적용된 할인을 뺀 금액(최소 단위)
+ * - `selectedRules`: 평가 계획의 규칙 중 이번 주문에 평가할 규칙
+ */
+public final class PricingContext {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] itemIds = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private long[] unitPrices = new long[INITIAL_CAPACITY];
+    private int lineCount;
+    private UserType userType;
+    private LocalTime time;
+    private Set<String> coupons;
+    private long subtotal;
+    private boolean[] selectedRules = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * 주문 금액을 계산할 때마다 재사용할 빈 `PricingContext` 객체를 생성한다.
+     */
+    public PricingContext() {
+    }
+
+    /**
+     * 새로운 주문의 장바구니 항목과 주문 조건으로 내용을 바꾼다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @param coupons 입력된 쿠폰 코드
+     * @param ruleCount 평가 계획의 규칙 수
+     */
+    void reset(List<CartItem> cartItems, UserType userType, LocalTime time, Set<String> coupons, int ruleCount) {
+        int size = cartItems.size();
+        if (itemIds.length < size) {
+            int capacity = Math.max(size, itemIds.length * 2);
+            itemIds = new int[capacity];
+            counts = new int[capacity];
+            unitPrices = new long[capacity];
+        }
+        if (selectedRules.length < ruleCount) {
+            selectedRules = new boolean[Math.max(ruleCount, selectedRules.length * 2)];
+        } else {
+            Arrays.fill(selectedRules, 0, ruleCount, false);
+        }
+
+        long total = 0;
+        for (int line = 0; line < size; line++) {
+            CartItem cartItem = cartItems.get(line);
+            MenuItem menuItem = cartItem.getMenuItem();
+            itemIds[line] = menuItem.getId();
+            counts[line] = cartItem.getCount();
+            unitPrices[line] = menuItem.getPrice().toMinor();
+            total += unitPrices[line] * counts[line];
+        }
+
+        this.lineCount = size;
+        this.subtotal = total;
+        this.userType = userType;
+        this.time = time;
+        this.coupons = coupons;
+    }
+
+    /**
+     * 장바구니 항목의 수를 반환한다.
+     *
+     * @return 장바구니 항목의 수
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * 주어진 장바구니 항목의 메뉴 항목 id를 반환한다.
+     *
+     * @param line 장바구니 항목의 인덱스
+     * @return 메뉴 항목 id
+     */
+    public int getItemId(int line) {
+        return itemIds[line];
+    }
+
+    /**
+     * 주어진 장바구니 항목의 수량을 반환한다.
+     *
+     * @param line 장바구니 항목의 인덱스
+     * @return 수량
+     */
+    public int getCount(int line) {
+        return counts[line];
+    }
+
+    /**
+     * 주어진 장바구니 항목의 총 가격(가격 × 수량)을 반환한다.
+     *
+     * @param line 장바구니 항목의 인덱스
+     * @return 총 가격(최소 단위)
+     */
+    public long getLinePrice(int line) {
+        return unitPrices[line] * counts[line];
+    }
+
+    /**
+     * 주문한 사용자의 유형을 반환한다.
+     *
+     * @return 사용자 유형
+     */
+    public UserType getUserType() {
+        return userType;
+    }
+
+    /**
+     * 주문 시각을 반환한다.
+     *
+     * @return 주문 시각
+     */
+    public LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * 주어진 쿠폰 코드가 입력되었는지 확인한다.
+     *
+     * @param code 쿠폰 코드
+     * @return 입력되었으면 true
+     */
+    public boolean hasCoupon(String code) {
+        return coupons.contains(code);
+    }
+
+    /**
+     * 지금까지 적용된 할인을 뺀 금액을 반환한다.
+     *
+     * @return 할인 후 금액(최소 단위)
+     */
+    public long getSubtotal() {
+        return subtotal;
+    }
+
+    /**
+     * 이번 주문에 평가할 규칙을 표시하는 배열을 반환한다. 인덱스는 평가 계획의 규칙 번호이다.
+     */
+    boolean[] getSelectedRules() {
+        return selectedRules;
+    }
+
+    /**
+     * 할인 금액을 빼고, 실제로 뺀 금액을 반환한다. 금액은 0보다 작아지지 않는다.
+     */
+    long reduce(long discount) {
+        long applied = Math.min(Math.max(discount, 0), subtotal);
+        subtotal -= applied;
+        return applied;
+    }
+}
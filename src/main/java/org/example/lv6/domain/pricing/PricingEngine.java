@@ -0,0 +1,88 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.money.Money;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 등록된 할인 규칙으로 주문의 결제 금액을 계산하는 클래스이다.
+ *
+ * 규칙이 바뀌면 새로운 평가 계획(`PricingPlan`)을 만들어 참조만 교체하므로,
+ * 결제 금액 계산은 잠금 없이 수행되고 여러 키오스크가 함께 사용할 수 있다.
+ *
+ * - `plan`: 현재 규칙으로 만든 평가 계획
+ */
+public class PricingEngine {
+    private volatile PricingPlan plan;
+
+    /**
+     * 주어진 할인 규칙들을 사용하는 `PricingEngine` 객체를 생성한다.
+     *
+     * @param rules 할인 규칙 리스트
+     */
+    public PricingEngine(List<PricingRule> rules) {
+        this.plan = PricingPlan.compile(rules);
+    }
+
+    /**
+     * 사용자 유형별 할인만 적용하는 기본 `PricingEngine` 객체를 생성한다.
+     *
+     * @return 기본 `PricingEngine` 객체
+     */
+    public static PricingEngine standard() {
+        return new PricingEngine(List.of(new UserTypeDiscountRule()));
+    }
+
+    /**
+     * 할인 규칙들을 교체한다. 이후에 계산하는 결제 금액부터 적용된다.
+     *
+     * @param rules 새로운 할인 규칙 리스트
+     */
+    public void setRules(List<PricingRule> rules) {
+        this.plan = PricingPlan.compile(rules);
+    }
+
+    /**
+     * 장바구니 항목들에 할인 규칙을 적용한 결제 금액을 계산한다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @return 할인이 적용된 결제 금액
+     */
+    public Money price(List<CartItem> cartItems, UserType userType, LocalTime time) {
+        return price(cartItems, userType, time, Set.of());
+    }
+
+    /**
+     * 장바구니 항목들에 쿠폰을 포함한 할인 규칙을 적용한 결제 금액을 계산한다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @param coupons 입력된 쿠폰 코드
+     * @return 할인이 적용된 결제 금액
+     */
+    public Money price(List<CartItem> cartItems, UserType userType, LocalTime time, Set<String> coupons) {
+        return plan.price(cartItems, userType, time, coupons);
+    }
+
+    /**
+     * 주어진 `PricingContext` 객체를 재사용하여 장바구니 항목들에 할인 규칙을 적용한 결제 금액을 계산한다.
+     *
+     * 세션마다 하나의 `PricingContext` 객체를 두고 주문마다 전달하면, 계산 중에 배열을 새로 만들지 않는다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @param context 계산에 재사용할 객체
+     * @return 할인이 적용된 결제 금액
+     */
+    public Money price(List<CartItem> cartItems, UserType userType, LocalTime time, PricingContext context) {
+        return plan.price(cartItems, userType, time, Set.of(), context);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.money.Money;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 할인 규칙들을 미리 분석하여, 장바구니에 필요한 규칙만 평가하도록 만든 불변 평가 계획이다.
+ *
+ * 규칙마다 관심 있는 메뉴 항목 id를 모아 "메뉴 항목 id → 규칙 번호" 색인을 만들어 두므로,
+ * 주문 금액을 계산할 때는 장바구니에 담긴 항목과 관련된 규칙과 항상 평가하는 규칙만
+ * 평가한다. 따라서 등록된 규칙이 수백 개여도 계산 시간은 장바구니 크기와 관련 규칙 수에만 비례한다.
+ *
+ * 메뉴 항목 id는 이름마다 정해지므로(`MenuItemRegistry` 참고), 메뉴가 다시 불러와져 가격이나 설명이
+ * 바뀌어도 같은 이름의 항목에는 계속 같은 규칙이 적용된다. 따라서 메뉴를 교체할 때 평가 계획을 다시
+ * 만들 필요가 없으며, 할인 금액은 항상 장바구니에 담긴 항목의 현재 가격으로 계산한다.
+ *
+ * 항목 단계의 규칙은 서로 독립적으로 평가되어 할인 금액이 합산되고, 주문 단계의 규칙은
+ * 등록된 순서대로 남은 금액에 적용된다.
+ *
+ * - `rules`: 단계 순서(항목 → 주문)로 정렬된 규칙 배열
+ * - `alwaysRules`: 항상 평가하는 규칙의 번호
+ * - `rulesByItemId`: 메뉴 항목 id를 인덱스로 하는, 해당 항목과 관련된 규칙의 번호
+ */
+public final class PricingPlan {
+    private static final int[] NO_RULES = new int[0];
+
+    private final PricingRule[] rules;
+    private final int[] alwaysRules;
+    private final int[][] rulesByItemId;
+
+    private PricingPlan(PricingRule[] rules, int[] alwaysRules, int[][] rulesByItemId) {
+        this.rules = rules;
+        this.alwaysRules = alwaysRules;
+        this.rulesByItemId = rulesByItemId;
+    }
+
+    /**
+     * 주어진 할인 규칙들로 평가 계획을 만든다.
+     *
+     * @param rules 할인 규칙 리스트
+     * @return 평가 계획
+     */
+    public static PricingPlan compile(List<PricingRule> rules) {
+        PricingRule[] sorted = rules.stream()
+                .sorted(Comparator.comparing(PricingRule::getStage))
+                .toArray(PricingRule[]::new);
+
+        List<Integer> always = new ArrayList<>();
+        int maxItemId = -1;
+        for (int i = 0; i < sorted.length; i++) {
+            int[] triggers = sorted[i].getTriggerItemIds();
+            if (triggers.length == 0) {
+                always.add(i);
+            }
+            for (int itemId : triggers) {
+                maxItemId = Math.max(maxItemId, itemId);
+            }
+        }
+
+        int[][] rulesByItemId = new int[maxItemId + 1][];
+        Arrays.fill(rulesByItemId, NO_RULES);
+        for (int i = 0; i < sorted.length; i++) {
+            for (int itemId : sorted[i].getTriggerItemIds()) {
+                int[] current = rulesByItemId[itemId];
+                int[] next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = i;
+                rulesByItemId[itemId] = next;
+            }
+        }
+
+        return new PricingPlan(sorted, always.stream().mapToInt(Integer::intValue).toArray(), rulesByItemId);
+    }
+
+    /**
+     * 장바구니 항목들에 할인 규칙을 적용한 결제 금액을 계산한다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @param coupons 입력된 쿠폰 코드
+     * @return 할인이 적용된 결제 금액
+     */
+    public Money price(List<CartItem> cartItems, UserType userType, LocalTime time, Set<String> coupons) {
+        return price(cartItems, userType, time, coupons, new PricingContext());
+    }
+
+    /**
+     * 주어진 `PricingContext` 객체를 재사용하여 장바구니 항목들에 할인 규칙을 적용한 결제 금액을 계산한다.
+     *
+     * @param cartItems 장바구니 항목 리스트
+     * @param userType 주문한 사용자의 유형
+     * @param time 주문 시각
+     * @param coupons 입력된 쿠폰 코드
+     * @param context 계산에 재사용할 객체(이전 내용은 지워진다)
+     * @return 할인이 적용된 결제 금액
+     */
+    public Money price(List<CartItem> cartItems, UserType userType, LocalTime time, Set<String> coupons,
+                       PricingContext context) {
+        context.reset(cartItems, userType, time, coupons, rules.length);
+        boolean[] selected = context.getSelectedRules();
+        for (int line = 0; line < context.getLineCount(); line++) {
+            int itemId = context.getItemId(line);
+            if (itemId < rulesByItemId.length) {
+                for (int rule : rulesByItemId[itemId]) {
+                    selected[rule] = true;
+                }
+            }
+        }
+        for (int rule : alwaysRules) {
+            selected[rule] = true;
+        }
+
+        long itemDiscount = 0;
+        for (int i = 0; i < rules.length; i++) {
+            if (!selected[i]) {
+                continue;
+            }
+
+            if (rules[i].getStage() == PricingRule.Stage.ITEM) {
+                itemDiscount += rules[i].apply(context);
+            } else {
+                if (itemDiscount > 0) { // 주문 단계에 들어서기 전에 항목 할인을 반영한다.
+                    context.reduce(itemDiscount);
+                    itemDiscount = 0;
+                }
+                context.reduce(rules[i].apply(context));
+            }
+        }
+        context.reduce(itemDiscount);
+        return Money.ofMinor(context.getSubtotal());
+    }
+
+    /**
+     * 평가 계획에 포함된 규칙의 수를 반환한다.
+     *
+     * @return 규칙의 수
+     */
+    public int getRuleCount() {
+        return rules.length;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.lv6.domain.pricing;
+
+/**
+ * 장바구니에 적용되는 할인 규칙을 나타내는 인터페이스이다.
+ *
+ * 규칙은 자신이 관심 있는 메뉴 항목 id(`getTriggerItemIds()`)를 미리 알려 주며,
+ * `PricingPlan`은 장바구니에 해당 항목이 있을 때만 규칙을 평가한다.
+ * 관심 있는 항목이 없는 규칙은 항상 평가된다.
+ *
+ * 구현 클래스는 다음과 같다:
+ * - `UserTypeDiscountRule`: 사용자 유형별 할인율
+ * - `ComboRule`: 여러 그룹의 항목을 함께 주문하면 세트마다 정해진 금액 할인
+ * - `QuantityBreakRule`: 정해진 수량 이상 주문하면 해당 항목 할인
+ * - `TimeWindowRule`: 정해진 시간대에 해당 항목 할인
+ * - `CouponRule`: 쿠폰을 입력하면 주문 금액 할인
+ */
+public interface PricingRule {
+    int[] NO_TRIGGER = new int[0]; // 항상 평가하는 규칙의 관심 항목
+
+    /**
+     * 할인 규칙이 적용되는 단계를 정의한 Enum 클래스이다.
+     *
+     * 항목 단계의 규칙이 모두 적용된 후, 남은 금액에 주문 단계의 규칙이 차례로 적용된다.
+     */
+    enum Stage {
+        ITEM,  // 특정 항목에 대한 할인
+        ORDER  // 주문 금액 전체에 대한 할인
+    }
+
+    /**
+     * 규칙이 적용되는 단계를 반환한다.
+     *
+     * @return 규칙이 적용되는 단계
+     */
+    Stage getStage();
+
+    /**
+     * 규칙을 평가할 계기가 되는 메뉴 항목 id들을 반환한다.
+     *
+     * @return 메뉴 항목 id 배열, 항상 평가해야 하면 빈 배열
+     */
+    int[] getTriggerItemIds();
+
+    /**
+     * 규칙을 평가하여 할인 금액을 계산한다.
+     *
+     * @param context 장바구니 내용과 주문 조건
+     * @return 할인 금액(최소 단위, 0 이상)
+     */
+    long apply(PricingContext context);
+}
@@ -0,0 +1,53 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.util.Collection;
+
+/**
+ * 대상 항목을 정해진 수량 이상 주문하면, 대상 항목의 금액을 할인하는 규칙이다.
+ * (예: 음료를 3개 이상 주문하면 음료 10% 할인)
+ *
+ * - `items`: 할인 대상 메뉴 항목
+ * - `minQuantity`: 할인에 필요한 최소 수량
+ * - `discountRate`: 할인율(%)
+ */
+public class QuantityBreakRule implements PricingRule {
+    private final ItemSet items;
+    private final int minQuantity;
+    private final int discountRate;
+
+    /**
+     * 주어진 대상 항목, 최소 수량, 할인율로 `QuantityBreakRule` 객체를 생성한다.
+     *
+     * @param items 할인 대상 메뉴 항목
+     * @param minQuantity 할인에 필요한 최소 수량
+     * @param discountRate 할인율(%)
+     */
+    public QuantityBreakRule(Collection<MenuItem> items, int minQuantity, int discountRate) {
+        this.items = new ItemSet(items);
+        this.minQuantity = minQuantity;
+        this.discountRate = discountRate;
+    }
+
+    @Override
+    public Stage getStage() {
+        return Stage.ITEM;
+    }
+
+    @Override
+    public int[] getTriggerItemIds() {
+        return items.toArray();
+    }
+
+    @Override
+    public long apply(PricingContext context) {
+        if (items.countIn(context) < minQuantity) {
+            return 0;
+        }
+
+        long price = items.priceIn(context);
+        return price - Money.discount(price, discountRate);
+    }
+}
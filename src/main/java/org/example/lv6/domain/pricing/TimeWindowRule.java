@@ -0,0 +1,66 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * 정해진 시간대에 주문하면 대상 항목의 금액을 할인하는 규칙이다.
+ * (예: 14시부터 17시까지 디저트 20% 할인)
+ *
+ * 시작 시각이 종료 시각보다 늦으면 자정을 넘는 시간대로 간주한다.
+ *
+ * - `from`, `to`: 할인 시간대의 시작(포함)과 종료(제외) 시각
+ * - `items`: 할인 대상 메뉴 항목
+ * - `discountRate`: 할인율(%)
+ */
+public class TimeWindowRule implements PricingRule {
+    private final LocalTime from;
+    private final LocalTime to;
+    private final ItemSet items;
+    private final int discountRate;
+
+    /**
+     * 주어진 시간대, 대상 항목, 할인율로 `TimeWindowRule` 객체를 생성한다.
+     *
+     * @param from 할인 시간대의 시작 시각(포함)
+     * @param to 할인 시간대의 종료 시각(제외)
+     * @param items 할인 대상 메뉴 항목
+     * @param discountRate 할인율(%)
+     */
+    public TimeWindowRule(LocalTime from, LocalTime to, Collection<MenuItem> items, int discountRate) {
+        this.from = from;
+        this.to = to;
+        this.items = new ItemSet(items);
+        this.discountRate = discountRate;
+    }
+
+    @Override
+    public Stage getStage() {
+        return Stage.ITEM;
+    }
+
+    @Override
+    public int[] getTriggerItemIds() {
+        return items.toArray();
+    }
+
+    @Override
+    public long apply(PricingContext context) {
+        if (!isActive(context.getTime())) {
+            return 0;
+        }
+
+        long price = items.priceIn(context);
+        return price - Money.discount(price, discountRate);
+    }
+
+    private boolean isActive(LocalTime time) {
+        if (from.isBefore(to)) {
+            return !time.isBefore(from) && time.isBefore(to);
+        }
+        return !time.isBefore(from) || time.isBefore(to);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 사용자 유형(`UserType`)별 할인율을 주문 금액에 적용하는 규칙이다.
+ */
+public class UserTypeDiscountRule implements PricingRule {
+
+    @Override
+    public Stage getStage() {
+        return Stage.ORDER;
+    }
+
+    @Override
+    public int[] getTriggerItemIds() {
+        return NO_TRIGGER;
+    }
+
+    @Override
+    public long apply(PricingContext context) {
+        long subtotal = context.getSubtotal();
+        return subtotal - Money.discount(subtotal, context.getUserType().getDiscountRate());
+    }
+}
@@ -0,0 +1,388 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 세션 하나의 장바구니 변경 이벤트를 기록하는 선행 기록(write-ahead) 로그 클래스이다.
+ *
+ * 장바구니에 항목이 추가, 제거될 때마다 작은 이벤트 레코드를 로그 파일에 덧붙이고,
+ * 일정 개수의 이벤트가 쌓이면 장바구니 전체를 스냅샷 파일로 저장한 후 로그를 비운다(압축).
+ * 따라서 복구할 때 읽는 이벤트 수는 스냅샷 주기를 넘지 않으며, 실행 시간과 관계없이
+ * 복구 시간이 일정하게 유지된다.
+ *
+ * 이벤트는 운영체제의 파일 캐시에 기록되므로, JVM이 비정상 종료되어도 유실되지 않는다.
+ * 장바구니를 비울 때는 비우기(CLEAR) 이벤트를 디스크에 강제로 기록한 후 스냅샷과 로그를 정리하므로,
+ * 정리 도중 중단되어도 이미 주문되거나 취소된 장바구니가 다시 복원되지 않는다.
+ *
+ * 추가 이벤트와 스냅샷에는 항목을 담을 때의 가격을 함께 기록하므로, 복원된 장바구니의 항목은
+ * 그 사이 메뉴가 교체되어도 담을 때의 가격을 유지한다. 메뉴에서 이름과 가격이 일치하는 항목을
+ * 찾으면 그 항목을 사용하고, 가격이 바뀌었거나 메뉴에서 빠진 항목은 기록된 이름과 가격으로 다시 만든다.
+ *
+ * 로그 파일은 열려 있는 동안 잠기므로, 같은 세션 식별자의 로그를 다른 세션(다른 프로세스 포함)이
+ * 동시에 열 수 없다.
+ *
+ * 파일 형식은 다음과 같다:
+ * - 로그(`cart-{세션}.wal`): 레코드마다 길이(int), CRC32(int), 이벤트 번호(long), 종류(byte),
+ *   추가 이벤트라면 가격(long, 최소 단위), UTF-8 이름(비우기 이벤트는 이름이 비어 있다)
+ * - 스냅샷(`cart-{세션}.snapshot`): 형식 버전(int), 마지막 이벤트 번호(long), 항목 수(int),
+ *   항목마다 이름 길이(short)와 UTF-8 이름, 가격(long, 최소 단위), 수량(int), 마지막에 CRC32(int)
+ *
+ * - `logPath`, `snapshotPath`: 로그 파일과 스냅샷 파일의 경로
+ * - `log`: 이벤트를 덧붙이는 로그 파일 채널
+ * - `snapshotInterval`: 스냅샷을 저장할 이벤트 개수
+ * - `sequence`: 마지막으로 기록한 이벤트 번호
+ * - `eventsSinceSnapshot`: 마지막 스냅샷 이후 기록된 이벤트 개수
+ */
+public class CartEventLog implements Closeable {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+    private static final String FILE_PREFIX = "cart-";
+    private static final String LOG_SUFFIX = ".wal";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    static final int HEADER_SIZE = 8; // 본문 길이 + CRC32
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int MAX_NAME_LENGTH = 0xFFFF; // 이름 길이를 short로 기록한다.
+
+    // 1은 가격 없이 이름만 기록하던 이전 형식의 추가 이벤트로, 복원할 때 건너뛴다.
+    static final byte REMOVE = 2;
+    static final byte CLEAR = 3;
+    static final byte ADD = 4;
+
+    private final Path logPath;
+    private final Path snapshotPath;
+    private final FileChannel log;
+    private final int snapshotInterval;
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    private long sequence;
+    private int eventsSinceSnapshot;
+
+    /**
+     * 주어진 세션의 장바구니 로그를 열고 잠근다.
+     *
+     * @param directory 로그 파일을 저장할 디렉터리
+     * @param sessionId 세션 식별자
+     * @param snapshotInterval 스냅샷을 저장할 이벤트 개수
+     * @throws IOException 파일을 열 수 없거나, 다른 세션이 같은 로그를 사용 중인 경우
+     */
+    public CartEventLog(Path directory, String sessionId, int snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+        String fileName = FILE_PREFIX + sanitize(sessionId);
+        this.logPath = directory.resolve(fileName + LOG_SUFFIX);
+        this.snapshotPath = directory.resolve(fileName + SNAPSHOT_SUFFIX);
+        this.log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.snapshotInterval = snapshotInterval;
+        if (!tryLock(log)) {
+            log.close();
+            throw new IOException("다른 세션에서 사용 중인 장바구니입니다: " + sessionId);
+        }
+    }
+
+    /**
+     * 디렉터리에 장바구니 로그가 남아 있는 세션 식별자들을 반환한다.
+     *
+     * 파일 이름에 사용할 수 없는 문자는 '_'로 바뀐 형태로 반환된다.
+     *
+     * @param directory 로그 파일이 저장된 디렉터리
+     * @return 세션 식별자 리스트
+     * @throws IOException 디렉터리를 읽는 중 오류가 발생한 경우
+     */
+    public static List<String> listSessions(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(LOG_SUFFIX))
+                    .map(name -> name.substring(FILE_PREFIX.length(), name.length() - LOG_SUFFIX.length()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 스냅샷과 로그에 기록된 이벤트를 차례로 적용하여 장바구니를 복원한다.
+     *
+     * 항목은 기록된 가격으로 복원하며, 기록 도중 중단된 마지막 이벤트와 그 뒤의 내용은 버린다.
+     * 복원 후에는 이어서 이벤트를 기록할 수 있다.
+     *
+     * @param cart 복원할 장바구니 (비어 있어야 한다)
+     * @param menuItemResolver 이름으로 현재 메뉴의 항목을 찾는 함수
+     * @throws IOException 파일을 읽는 중 오류가 발생했거나 스냅샷이 손상된 경우
+     */
+    public void replay(Cart cart, Function<String, Optional<MenuItem>> menuItemResolver) throws IOException {
+        sequence = readSnapshot(cart, menuItemResolver);
+
+        ByteBuffer events = ByteBuffer.allocate((int) log.size());
+        log.read(events, 0);
+        events.flip();
+
+        int recordSize;
+        while ((recordSize = validRecordSize(events)) > 0) {
+            int start = events.position();
+            long eventSequence = events.getLong(start + HEADER_SIZE);
+            byte type = events.get(start + HEADER_SIZE + Long.BYTES);
+            int nameOffset = start + HEADER_SIZE + Long.BYTES + 1;
+            long price = 0;
+            if (type == ADD) {
+                price = events.getLong(nameOffset);
+                nameOffset += Long.BYTES;
+            }
+            String name = StandardCharsets.UTF_8.decode(events.slice(nameOffset, start + recordSize - nameOffset)).toString();
+            events.position(start + recordSize);
+
+            if (eventSequence <= sequence) { // 이미 스냅샷에 반영된 이벤트
+                continue;
+            }
+            if (type == ADD) {
+                cart.addCartItem(restore(name, price, menuItemResolver));
+            } else if (type == REMOVE) {
+                cart.removeItemByName(name);
+            } else if (type == CLEAR) {
+                cart.clear();
+            }
+            sequence = eventSequence;
+            eventsSinceSnapshot++;
+        }
+
+        log.truncate(events.position());
+        log.position(events.position());
+    }
+
+    /**
+     * 메뉴 항목 추가 이벤트를 추가된 항목의 가격과 함께 기록한다.
+     *
+     * @param menuItem 추가된 메뉴 항목
+     * @throws IOException 파일에 기록하는 중 오류가 발생한 경우
+     */
+    public void recordAdd(MenuItem menuItem) throws IOException {
+        append(ADD, menuItem.getPrice().toMinor(), menuItem.getName());
+    }
+
+    /**
+     * 메뉴 항목 제거 이벤트를 기록한다.
+     *
+     * @param itemName 제거된 메뉴 항목의 이름
+     * @throws IOException 파일에 기록하는 중 오류가 발생한 경우
+     */
+    public void recordRemove(String itemName) throws IOException {
+        append(REMOVE, 0, itemName);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 기록된 이벤트가 스냅샷 주기에 도달했는지 확인한다.
+     *
+     * @return 스냅샷을 저장해야 하면 true
+     */
+    public boolean needsSnapshot() {
+        return eventsSinceSnapshot >= snapshotInterval;
+    }
+
+    /**
+     * 장바구니 전체를 스냅샷으로 저장하고 로그를 비운다.
+     *
+     * 스냅샷은 임시 파일에 기록한 후 원자적으로 교체되므로, 저장 도중 중단되어도
+     * 이전 스냅샷과 로그로 복원할 수 있다.
+     *
+     * @param cartItems 저장할 장바구니 항목 리스트
+     * @throws IOException 파일에 기록하는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException 이름이 너무 길어 기록할 수 없는 항목이 있는 경우
+     */
+    public void writeSnapshot(List<CartItem> cartItems) throws IOException {
+        ensureCapacity(Integer.BYTES + Long.BYTES + Integer.BYTES * 2 + cartItems.stream()
+                .mapToInt(c -> Short.BYTES + c.getMenuItem().getName().length() * 3 + Long.BYTES + Integer.BYTES)
+                .sum());
+        buffer.clear();
+        buffer.putInt(SNAPSHOT_VERSION);
+        buffer.putLong(sequence);
+        buffer.putInt(cartItems.size());
+        for (CartItem cartItem : cartItems) {
+            MenuItem menuItem = cartItem.getMenuItem();
+            byte[] name = menuItem.getName().getBytes(StandardCharsets.UTF_8);
+            if (name.length > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("장바구니 스냅샷에 기록할 수 없는 길이의 이름입니다: " + name.length + " 바이트");
+            }
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            buffer.putLong(menuItem.getPrice().toMinor());
+            buffer.putInt(cartItem.getCount());
+        }
+        buffer.putInt(checksum(buffer, 0, buffer.position()));
+        buffer.flip();
+
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.truncate(0);
+        log.position(0);
+        eventsSinceSnapshot = 0;
+    }
+
+    /**
+     * 스냅샷과 로그를 모두 비운다. 장바구니가 비워졌을 때 사용한다.
+     *
+     * 먼저 비우기 이벤트를 디스크에 강제로 기록하므로, 이후 스냅샷을 지우거나 로그를 비우는
+     * 도중에 중단되어도 남은 스냅샷과 이벤트는 복원할 때 비우기 이벤트로 모두 지워진다.
+     *
+     * @throws IOException 파일을 정리하는 중 오류가 발생한 경우
+     */
+    public void reset() throws IOException {
+        append(CLEAR, 0, "");
+        log.force(false);
+        Files.deleteIfExists(snapshotPath);
+        log.truncate(0);
+        log.position(0);
+        eventsSinceSnapshot = 0;
+    }
+
+    /**
+     * 로그 파일을 닫는다.
+     *
+     * @throws IOException 파일을 닫는 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private void append(byte type, long price, String itemName) throws IOException {
+        byte[] name = itemName.getBytes(StandardCharsets.UTF_8);
+        int length = Long.BYTES + 1 + (type == ADD ? Long.BYTES : 0) + name.length;
+        ensureCapacity(HEADER_SIZE + length);
+
+        buffer.clear();
+        buffer.putInt(length);
+        buffer.putInt(0); // CRC32는 본문을 기록한 후 채운다.
+        buffer.putLong(++sequence);
+        buffer.put(type);
+        if (type == ADD) {
+            buffer.putLong(price);
+        }
+        buffer.put(name);
+        buffer.putInt(Integer.BYTES, checksum(buffer, HEADER_SIZE, length));
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        eventsSinceSnapshot++;
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 장바구니에 적용하고, 스냅샷에 반영된 마지막 이벤트 번호를 반환한다.
+     */
+    private long readSnapshot(Cart cart, Function<String, Optional<MenuItem>> menuItemResolver) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+        int bodyLength = snapshot.limit() - Integer.BYTES;
+        if (bodyLength < Integer.BYTES + Long.BYTES + Integer.BYTES || snapshot.getInt(bodyLength) != checksum(snapshot, 0, bodyLength)) {
+            throw new IOException("장바구니 스냅샷이 손상되었습니다: " + snapshotPath);
+        }
+        if (snapshot.getInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 형식의 장바구니 스냅샷입니다: " + snapshotPath);
+        }
+
+        long snapshotSequence = snapshot.getLong();
+        int lineCount = snapshot.getInt();
+        for (int i = 0; i < lineCount; i++) {
+            byte[] name = new byte[Short.toUnsignedInt(snapshot.getShort())];
+            snapshot.get(name);
+            long price = snapshot.getLong();
+            int count = snapshot.getInt();
+            MenuItem menuItem = restore(new String(name, StandardCharsets.UTF_8), price, menuItemResolver);
+            for (int c = 0; c < count; c++) {
+                cart.addCartItem(menuItem);
+            }
+        }
+        return snapshotSequence;
+    }
+
+    /**
+     * 기록된 이름과 가격의 메뉴 항목을 반환한다.
+     *
+     * 현재 메뉴에 이름과 가격이 같은 항목이 있으면 그 항목을 반환하고, 가격이 바뀌었거나 메뉴에서
+     * 빠진 항목은 기록된 이름과 가격으로 다시 만든다(설명은 현재 메뉴에 있으면 가져온다).
+     */
+    private static MenuItem restore(String name, long price, Function<String, Optional<MenuItem>> menuItemResolver) {
+        Optional<MenuItem> current = menuItemResolver.apply(name);
+        if (current.isPresent() && current.get().getPrice().toMinor() == price) {
+            return current.get();
+        }
+        return MenuItem.of(name, Money.ofMinor(price), current.map(MenuItem::getDescription).orElse(""));
+    }
+
+    private static int validRecordSize(ByteBuffer events) {
+        int start = events.position();
+        if (events.limit() - start < HEADER_SIZE) {
+            return 0;
+        }
+
+        int length = events.getInt(start);
+        if (length <= Long.BYTES || length > events.limit() - start - HEADER_SIZE) {
+            return 0;
+        }
+        if (events.getInt(start + Integer.BYTES) != checksum(events, start + HEADER_SIZE, length)) {
+            return 0;
+        }
+        return HEADER_SIZE + length;
+    }
+
+    private void ensureCapacity(int size) {
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(Math.max(size, buffer.capacity() * 2));
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 로그 파일을 잠근다. 잠금은 파일 채널을 닫을 때 함께 풀린다.
+     *
+     * @return 잠갔으면 true, 다른 프로세스나 이 JVM의 다른 세션이 이미 잠근 경우 false
+     */
+    private static boolean tryLock(FileChannel channel) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            return lock != null;
+        } catch (OverlappingFileLockException e) { // 이 JVM에서 이미 잠근 경우
+            return false;
+        }
+    }
+
+    private static String sanitize(String sessionId) {
+        return sessionId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
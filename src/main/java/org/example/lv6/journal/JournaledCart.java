@@ -0,0 +1,161 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 장바구니의 변경을 `CartEventLog`에 기록하는 장바구니 클래스이다.
+ *
+ * 실제 항목 관리는 감싸고 있는 장바구니에 맡기고, 항목이 추가, 제거될 때마다 이벤트를
+ * 기록한다. 키오스크가 비정상 종료된 후 같은 세션 식별자로 다시 열면, 진행 중이던
+ * 장바구니가 항목을 담을 때의 가격으로 복원된다.
+ *
+ * - `cart`: 실제 항목을 관리하는 장바구니
+ * - `eventLog`: 장바구니 변경 이벤트를 기록하는 로그
+ */
+public class JournaledCart implements Cart, Closeable {
+    private final Cart cart;
+    private final CartEventLog eventLog;
+
+    private JournaledCart(Cart cart, CartEventLog eventLog) {
+        this.cart = cart;
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * 주어진 세션의 장바구니 로그를 열고, 기록된 장바구니를 복원한다.
+     *
+     * @param directory 로그 파일을 저장할 디렉터리
+     * @param sessionId 세션 식별자
+     * @param cart 항목을 관리할 빈 장바구니
+     * @param menuItemResolver 이름으로 현재 메뉴의 항목을 찾는 함수
+     * @return 복원된 장바구니
+     * @throws IOException 파일을 열거나 읽는 중 오류가 발생한 경우, 다른 세션이 같은 세션 식별자로 사용 중인 경우
+     */
+    public static JournaledCart open(Path directory, String sessionId, Cart cart,
+                                     Function<String, Optional<MenuItem>> menuItemResolver) throws IOException {
+        CartEventLog eventLog = new CartEventLog(directory, sessionId, CartEventLog.DEFAULT_SNAPSHOT_INTERVAL);
+        try {
+            eventLog.replay(cart, menuItemResolver);
+        } catch (IOException | RuntimeException e) {
+            eventLog.close();
+            throw e;
+        }
+        return new JournaledCart(cart, eventLog);
+    }
+
+    @Override
+    public synchronized void addCartItem(MenuItem menuItem) {
+        cart.addCartItem(menuItem);
+        try {
+            eventLog.recordAdd(menuItem);
+            compactIfNeeded();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized boolean removeItemByName(String itemName) {
+        if (!cart.removeItemByName(itemName)) {
+            return false;
+        }
+
+        try {
+            eventLog.recordRemove(itemName);
+            compactIfNeeded();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void printCartItems(PrintStream out) {
+        cart.printCartItems(out);
+    }
+
+    @Override
+    public Money getTotalPrice() {
+        return cart.getTotalPrice();
+    }
+
+    @Override
+    public int getItemCount() {
+        return cart.getItemCount();
+    }
+
+    @Override
+    public List<CartItem> getCartItems() {
+        return cart.getCartItems();
+    }
+
+    @Override
+    public List<CartItem> viewCartItems() {
+        return cart.viewCartItems();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cart.isEmpty();
+    }
+
+    /**
+     * 장바구니를 비우고, 기록된 스냅샷과 로그도 함께 비운다.
+     */
+    @Override
+    public synchronized void clear() {
+        cart.clear();
+        try {
+            eventLog.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 장바구니의 항목을 반환하고 비운 후, 기록된 스냅샷과 로그도 함께 비운다.
+     *
+     * @return 비우기 전 장바구니 항목 리스트
+     */
+    @Override
+    public synchronized List<CartItem> drain() {
+        List<CartItem> cartItems = cart.drain();
+        try {
+            eventLog.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return cartItems;
+    }
+
+    /**
+     * 장바구니 로그를 닫는다. 장바구니의 내용은 다음에 다시 열 때 복원된다.
+     *
+     * @throws IOException 파일을 닫는 중 오류가 발생한 경우
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        eventLog.close();
+    }
+
+    /**
+     * 스냅샷 주기에 도달했다면 장바구니 전체를 스냅샷으로 저장하고 로그를 비운다.
+     */
+    private void compactIfNeeded() throws IOException {
+        if (eventLog.needsSnapshot()) {
+            eventLog.writeSnapshot(cart.getCartItems());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.app.OrderListener;
+import org.example.lv6.domain.order.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완료된 주문을 파일에 순서대로 덧붙여 기록하는 클래스이다.
+ *
+ * 주문은 메모리 맵으로 연 세그먼트 파일에 이진 레코드로 기록되며, 세그먼트가 가득 차면
+ * 다음 세그먼트 파일을 만든다. 기록은 메모리에 쓰는 것으로 끝나므로 주문 완료 화면이
+ * 디스크 동기화를 기다리지 않는다. 디스크 동기화는 백그라운드 스레드가 일정 주기마다
+ * 그동안 기록된 주문을 한꺼번에 동기화한다(그룹 커밋). 세그먼트를 바꿀 때 다 채운 세그먼트를
+ * 동기화하고 닫는 일도 같은 스레드에 넘기므로, 주문을 기록하는 세션의 스레드는 디스크 동기화를
+ * 기다리지 않는다.
+ *
+ * 기록된 주문은 `OrderJournalReader`로 읽을 수 있다.
+ *
+ * - `directory`: 세그먼트 파일을 저장할 디렉터리
+ * - `segmentSize`: 세그먼트 파일 하나의 크기(바이트)
+ * - `recordBuffer`: 레코드를 만들 때 재사용하는 버퍼
+ * - `channel`, `segment`: 현재 기록 중인 세그먼트 파일과 메모리 맵
+ * - `segmentSequence`: 현재 세그먼트의 번호
+ * - `dirty`: 마지막 동기화 이후 기록된 주문이 있는지 여부
+ * - `flusher`: 주기적인 디스크 동기화와 다 채운 세그먼트의 동기화를 수행하는 스레드
+ */
+public class OrderJournal implements OrderListener, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 10;
+
+    private final Path directory;
+    private final int segmentSize;
+    private ByteBuffer recordBuffer = ByteBuffer.allocate(1024);
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+    private boolean dirty;
+    private boolean closed;
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-journal-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 기본 세그먼트 크기와 동기화 주기로 주문 기록 파일을 연다.
+     *
+     * @param directory 세그먼트 파일을 저장할 디렉터리
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public OrderJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * 주어진 세그먼트 크기와 동기화 주기로 주문 기록 파일을 연다.
+     *
+     * 디렉터리에 세그먼트 파일이 있다면 마지막 세그먼트의 마지막 유효한 레코드
+     * 다음부터 이어서 기록한다.
+     *
+     * @param directory 세그먼트 파일을 저장할 디렉터리
+     * @param segmentSize 세그먼트 파일 하나의 크기(바이트)
+     * @param flushIntervalMillis 디스크 동기화 주기(밀리초)
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public OrderJournal(Path directory, int segmentSize, long flushIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        List<Path> segments = OrderJournalReader.listSegments(directory);
+        if (segments.isEmpty()) {
+            openSegment(1);
+        } else {
+            openSegment(OrderJournalReader.segmentSequence(segments.get(segments.size() - 1)));
+            skipValidRecords();
+        }
+
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 완료된 주문을 기록한다.
+     *
+     * @param order 완료된 주문
+     */
+    @Override
+    public void onOrder(Order order) {
+        append(order);
+    }
+
+    /**
+     * 주문 하나를 현재 세그먼트에 덧붙여 기록한다.
+     *
+     * 레코드가 현재 세그먼트에 들어가지 않으면 새로운 세그먼트를 만들어 기록한다.
+     * 디스크 동기화는 기다리지 않는다.
+     *
+     * @param order 기록할 주문
+     * @throws IllegalArgumentException 주문이 세그먼트 하나보다 크거나, 항목이 너무 많거나 이름이 너무 긴 경우
+     * @throws IllegalStateException 주문 기록 파일이 닫힌 경우
+     */
+    public synchronized void append(Order order) {
+        if (closed) {
+            throw new IllegalStateException("주문 기록 파일이 닫혔습니다.");
+        }
+
+        int maxRecordSize = OrderRecordCodec.maxRecordSize(order);
+        if (maxRecordSize > segmentSize) {
+            throw new IllegalArgumentException("주문이 너무 커서 기록할 수 없습니다: " + maxRecordSize + " 바이트");
+        }
+        if (recordBuffer.capacity() < maxRecordSize) {
+            recordBuffer = ByteBuffer.allocate(Math.max(maxRecordSize, recordBuffer.capacity() * 2));
+        }
+
+        recordBuffer.clear();
+        OrderRecordCodec.encode(order, recordBuffer);
+        recordBuffer.flip();
+
+        try {
+            if (segment.remaining() < recordBuffer.remaining()) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 헤더(길이)를 마지막에 기록하여, 기록 도중 중단된 레코드가 유효하게 보이지 않도록 한다.
+        int start = segment.position();
+        segment.position(start + OrderRecordCodec.HEADER_SIZE);
+        segment.put(recordBuffer.slice(OrderRecordCodec.HEADER_SIZE, recordBuffer.remaining() - OrderRecordCodec.HEADER_SIZE));
+        segment.putInt(start + Integer.BYTES, recordBuffer.getInt(Integer.BYTES));
+        segment.putInt(start, recordBuffer.getInt(0));
+        dirty = true;
+    }
+
+    /**
+     * 마지막 동기화 이후 기록된 주문들을 디스크에 동기화한다.
+     */
+    public void flush() {
+        MappedByteBuffer toForce;
+        synchronized (this) {
+            if (!dirty || closed) {
+                return;
+            }
+            dirty = false;
+            toForce = segment;
+        }
+        toForce.force();
+    }
+
+    /**
+     * 기록된 주문을 모두 동기화하고 주문 기록 파일을 닫는다.
+     *
+     * 백그라운드 스레드에 넘긴 세그먼트의 동기화가 끝날 때까지 기다린다.
+     *
+     * @throws IOException 파일을 닫는 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            segment.force();
+            channel.close();
+            closed = true;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("주문 기록 파일을 동기화하지 못했습니다: " + e);
+        }
+    }
+
+    /**
+     * 다음 번호의 세그먼트를 열고, 다 채운 세그먼트는 백그라운드 스레드에서 동기화하여 닫는다.
+     * 이미 종료 중이라 넘길 수 없으면 직접 동기화한다.
+     */
+    private void rollSegment() throws IOException {
+        FileChannel filledChannel = channel;
+        MappedByteBuffer filledSegment = segment;
+        openSegment(segmentSequence + 1);
+
+        Runnable retire = () -> closeSegment(filledChannel, filledSegment);
+        try {
+            flusher.execute(retire);
+        } catch (RejectedExecutionException e) {
+            retire.run();
+        }
+    }
+
+    private static void closeSegment(FileChannel channel, MappedByteBuffer segment) {
+        try {
+            segment.force();
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("다 채운 주문 기록 세그먼트를 동기화하지 못했습니다: " + e);
+        }
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        Path path = directory.resolve(OrderJournalReader.segmentName(sequence));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+        segmentSequence = sequence;
+    }
+
+    /**
+     * 이미 기록된 유효한 레코드들을 건너뛰어, 이어서 기록할 위치로 이동한다.
+     */
+    private void skipValidRecords() {
+        int recordSize;
+        while ((recordSize = OrderRecordCodec.validRecordSize(segment)) > 0) {
+            segment.position(segment.position() + recordSize);
+        }
+    }
+}
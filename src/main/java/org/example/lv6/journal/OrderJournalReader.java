@@ -0,0 +1,104 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.order.Order;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 주문 기록 파일에 기록된 주문을 순서대로 읽는 클래스이다.
+ *
+ * 정산 등을 위해 `OrderJournal`이 기록한 세그먼트 파일들을 오래된 순서대로 읽는다.
+ * 각 세그먼트는 유효한 레코드가 끝나는 지점까지 읽으며, 기록 도중 중단된 레코드는 무시한다.
+ */
+public final class OrderJournalReader {
+    static final String SEGMENT_PREFIX = "orders-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private OrderJournalReader() {
+    }
+
+    /**
+     * 주문 기록 디렉터리의 모든 주문을 기록된 순서대로 읽어 반환한다.
+     *
+     * @param directory 주문 기록 디렉터리
+     * @return 기록된 주문 리스트
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    public static List<Order> readAll(Path directory) throws IOException {
+        List<Order> orders = new ArrayList<>();
+        forEach(directory, orders::add);
+        return orders;
+    }
+
+    /**
+     * 주문 기록 디렉터리의 모든 주문을 기록된 순서대로 읽어 처리한다.
+     *
+     * @param directory 주문 기록 디렉터리
+     * @param consumer 읽은 주문을 처리할 작업
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    public static void forEach(Path directory, Consumer<Order> consumer) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (OrderRecordCodec.validRecordSize(buffer) > 0) {
+                    consumer.accept(OrderRecordCodec.decode(buffer));
+                }
+            }
+        }
+    }
+
+    /**
+     * 주문 기록 디렉터리의 세그먼트 파일들을 오래된 순서대로 반환한다.
+     *
+     * @param directory 주문 기록 디렉터리
+     * @return 세그먼트 파일 경로 리스트
+     * @throws IOException 디렉터리를 읽는 중 오류가 발생한 경우
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(OrderJournalReader::isSegment)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 세그먼트 번호에 해당하는 세그먼트 파일 이름을 반환한다.
+     *
+     * @param sequence 세그먼트 번호
+     * @return 세그먼트 파일 이름
+     */
+    static String segmentName(long sequence) {
+        return SEGMENT_PREFIX + String.format("%010d", sequence) + SEGMENT_SUFFIX;
+    }
+
+    /**
+     * 세그먼트 파일 이름에서 세그먼트 번호를 읽는다.
+     *
+     * @param segment 세그먼트 파일 경로
+     * @return 세그먼트 번호
+     */
+    static long segmentSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.example.lv6.domain.order.OrderLine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 주문을 주문 기록 파일의 이진 레코드로 변환하거나, 레코드를 주문으로 복원하는 클래스이다.
+ *
+ * 레코드는 다음과 같이 구성된다:
+ * - 헤더: 본문 길이(int), 본문의 CRC32(int)
+ * - 본문: 주문 시각(long), 사용자 유형(byte), 할인 전 금액(long), 결제 금액(long),
+ *         항목 수(short), 항목마다 이름 길이(short)와 UTF-8 이름, 수량(int), 가격(long)
+ *
+ * 본문 길이가 0이거나 CRC가 맞지 않는 레코드는 기록되지 않은 것으로 간주한다.
+ */
+final class OrderRecordCodec {
+    static final int HEADER_SIZE = 8; // 본문 길이 + CRC32
+    static final int MAX_SHORT_VALUE = 0xFFFF; // 항목 수와 이름 길이를 short로 기록한다.
+
+    private OrderRecordCodec() {
+    }
+
+    /**
+     * 주문을 레코드로 변환하여 버퍼에 기록한다.
+     *
+     * 버퍼의 위치는 레코드의 끝으로 이동한다.
+     *
+     * @param order 기록할 주문
+     * @param buffer 레코드를 기록할 버퍼
+     * @throws IllegalArgumentException 항목이 너무 많거나 이름이 너무 길어 기록할 수 없는 경우
+     */
+    static void encode(Order order, ByteBuffer buffer) {
+        if (order.getOrderLines().size() > MAX_SHORT_VALUE) {
+            throw new IllegalArgumentException("주문 기록 파일에 기록할 수 없는 항목 수입니다: " + order.getOrderLines().size());
+        }
+
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+
+        buffer.putLong(order.getOrderedAt());
+        buffer.put((byte) order.getUserType().ordinal());
+        buffer.putLong(order.getTotalPrice().toMinor());
+        buffer.putLong(order.getPaymentPrice().toMinor());
+        buffer.putShort((short) order.getOrderLines().size());
+        for (OrderLine orderLine : order.getOrderLines()) {
+            byte[] name = orderLine.getName().getBytes(StandardCharsets.UTF_8);
+            if (name.length > MAX_SHORT_VALUE) {
+                throw new IllegalArgumentException("주문 기록 파일에 기록할 수 없는 길이의 이름입니다: " + name.length + " 바이트");
+            }
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            buffer.putInt(orderLine.getCount());
+            buffer.putLong(orderLine.getUnitPrice().toMinor());
+        }
+
+        int end = buffer.position();
+        int length = end - start - HEADER_SIZE;
+        buffer.putInt(start, length);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, start + HEADER_SIZE, length));
+    }
+
+    /**
+     * 주문을 레코드로 변환했을 때의 최대 크기를 계산한다.
+     *
+     * @param order 기록할 주문
+     * @return 레코드의 최대 크기(바이트)
+     */
+    static int maxRecordSize(Order order) {
+        int size = HEADER_SIZE + Long.BYTES + 1 + Long.BYTES * 2 + Short.BYTES;
+        for (OrderLine orderLine : order.getOrderLines()) {
+            size += Short.BYTES + orderLine.getName().length() * 3 + Integer.BYTES + Long.BYTES;
+        }
+        return size;
+    }
+
+    /**
+     * 버퍼의 현재 위치에 있는 레코드의 전체 크기를 반환한다.
+     *
+     * 레코드가 없거나, 잘려 있거나, CRC가 맞지 않으면 0을 반환한다.
+     *
+     * @param buffer 레코드를 읽을 버퍼
+     * @return 헤더를 포함한 레코드의 크기, 유효한 레코드가 없으면 0
+     */
+    static int validRecordSize(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.limit() - start < HEADER_SIZE) {
+            return 0;
+        }
+
+        int length = buffer.getInt(start);
+        if (length <= 0 || length > buffer.limit() - start - HEADER_SIZE) {
+            return 0;
+        }
+        if (buffer.getInt(start + Integer.BYTES) != checksum(buffer, start + HEADER_SIZE, length)) {
+            return 0;
+        }
+        return HEADER_SIZE + length;
+    }
+
+    /**
+     * 버퍼의 현재 위치에 있는 유효한 레코드를 주문으로 복원한다.
+     *
+     * 버퍼의 위치는 레코드의 끝으로 이동한다.
+     *
+     * @param buffer 레코드를 읽을 버퍼
+     * @return 복원된 주문
+     */
+    static Order decode(ByteBuffer buffer) {
+        buffer.position(buffer.position() + HEADER_SIZE);
+
+        long orderedAt = buffer.getLong();
+        UserType userType = UserType.values()[buffer.get()];
+        Money totalPrice = Money.ofMinor(buffer.getLong());
+        Money paymentPrice = Money.ofMinor(buffer.getLong());
+        int lineCount = Short.toUnsignedInt(buffer.getShort());
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(name);
+            int count = buffer.getInt();
+            Money unitPrice = Money.ofMinor(buffer.getLong());
+            orderLines.add(new OrderLine(OrderLine.UNKNOWN_ITEM_ID, new String(name, StandardCharsets.UTF_8), unitPrice, count));
+        }
+        return new Order(orderedAt, orderLines, userType, totalPrice, paymentPrice);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
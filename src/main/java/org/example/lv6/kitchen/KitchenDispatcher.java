@@ -0,0 +1,593 @@
+package org.example.lv6.kitchen;
+
+import org.example.lv6.app.Backpressure;
+import org.example.lv6.app.OrderListener;
+import org.example.lv6.app.OrderRejectedException;
+import org.example.lv6.app.metrics.Histogram;
+import org.example.lv6.app.metrics.MetricsSource;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.order.Order;
+import org.example.lv6.domain.order.OrderLine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 완료된 주문을 카테고리별 주방 스테이션(Burgers, Drinks, Desserts 등)에 전달하는 클래스이다.
+ *
+ * 키오스크에 `OrderListener`로 등록하여 사용한다. 주문은 크기가 정해진 원형 버퍼에 차례대로
+ * 기록되고, 스테이션마다 하나의 스레드가 버퍼를 따라 읽으며 자신의 카테고리에 속한 항목만
+ * 주문표(`KitchenTicket`)로 만들어 `StationHandler`에 전달한다. 스테이션 스레드는 그동안
+ * 쌓인 주문을 최대 `maxBatch`개까지 한 번에 전달받는다.
+ *
+ * 여러 세션이 동시에 주문을 완료해도 기록은 잠금으로 한 번에 하나씩 이루어지므로, 버퍼에
+ * 기록하는 쪽은 항상 하나이다. 각 스테이션은 자신이 읽은 위치만 기록하므로 서로를 기다리지
+ * 않으며, 버퍼의 칸은 모든 스테이션이 읽고 지나간 후에 재사용된다.
+ *
+ * 가장 느린 스테이션이 버퍼 크기만큼 뒤처지면 주문을 완료한 세션은 자리가 날 때까지
+ * 최대 `maxWaitNanos`만큼만 기다리고, 그래도 자리가 나지 않으면 주문을 전달하지 않고 예외를 던진다.
+ * 이벤트 루프의 작업 스레드처럼 여러 세션을 실행하는 스레드가 느린 스테이션 때문에 멈춰 있지
+ * 않도록 하기 위함이며, 키오스크는 예외의 메시지를 고객에게 안내한다.
+ * 그 전에 대기 주문이 버퍼 크기의 3/4을 넘으면 `isBackedUp()`이 true를 반환하여,
+ * 키오스크가 준비가 늦어질 수 있음을 안내할 수 있게 한다.
+ *
+ * 메뉴 항목의 스테이션은 처음 주문될 때 현재 메뉴 카탈로그에서 찾아 정해지며, 처음 보는
+ * 카테고리의 스테이션은 그때 만들어진다. 카탈로그에서 찾을 수 없는 메뉴 항목은
+ * `UNASSIGNED` 스테이션에 전달한다.
+ *
+ * - `catalog`: 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+ * - `handler`: 스테이션에 전달된 주문표를 처리하는 객체
+ * - `maxBatch`: 스테이션이 한 번에 전달받는 최대 주문 수
+ * - `maxWaitNanos`: 버퍼가 가득 찼을 때 주문을 완료한 세션이 기다리는 최대 시간(나노초)
+ * - `slots`, `mask`: 주문을 기록하는 원형 버퍼와 위치를 칸 번호로 바꾸는 비트 마스크
+ * - `published`: 지금까지 버퍼에 기록된 주문의 수(다음에 기록할 위치)
+ * - `stations`: 만들어진 순서대로의 스테이션 배열
+ * - `stationsByName`, `stationsById`: 카테고리 이름별, 메뉴 항목 id별 스테이션(`lock` 안에서만 사용한다)
+ * - `stationsByIdMenus`: `stationsById`를 채울 때 참조한 카탈로그의 메뉴 리스트(카탈로그가 교체되면 비운다)
+ * - `lock`, `notEmpty`, `notFull`: 기록과 대기를 위한 잠금과 조건
+ * - `waits`, `waitNanos`: 버퍼가 가득 차 주문을 완료한 세션이 기다린 횟수와 시간
+ * - `rejections`: 기다려도 자리가 나지 않아 전달하지 못한 주문의 수
+ */
+public class KitchenDispatcher implements OrderListener, Backpressure, MetricsSource, Closeable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH = 32;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 100;
+    public static final String UNASSIGNED = "기타";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 1.0};
+
+    private final MenuCatalog catalog;
+    private final StationHandler handler;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final Slot[] slots;
+    private final int mask;
+    private final int highWaterMark;
+
+    private volatile long published;
+    private volatile Station[] stations = new Station[0];
+    private final Map<String, Station> stationsByName = new HashMap<>();
+    private Station[] stationsById = new Station[64];
+    private List<Menu> stationsByIdMenus;
+    private boolean closed;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * 원형 버퍼의 칸 하나로, 주문과 주문 항목별 스테이션 번호를 담는다.
+     * 모든 스테이션이 읽고 지나가면 다음 주문을 담는 데 재사용된다.
+     */
+    private static final class Slot {
+        private Order order;
+        private int[] stationIndexes = new int[8];
+        private long publishedAt; // 버퍼에 기록된 시각(나노초)
+    }
+
+    /**
+     * 주방 스테이션 하나의 읽은 위치와 처리 실적을 관리하는 클래스이다.
+     * 읽은 위치와 처리 실적은 스테이션 스레드만 기록한다.
+     */
+    private final class Station {
+        private final String name;
+        private final int index; // `stations` 배열에서의 위치
+        private final Thread thread;
+        private volatile long sequence; // 다음에 읽을 위치
+        private volatile long tickets;
+        private volatile long items;
+        private volatile long batches;
+        private final Histogram latencyNanos = new Histogram();
+        private final Histogram batchSizes = new Histogram();
+
+        private Station(String name, int index, long sequence) {
+            this.name = name;
+            this.index = index;
+            this.sequence = sequence;
+            this.thread = new Thread(() -> consume(this), "kitchen-" + name);
+            this.thread.setDaemon(true);
+        }
+    }
+
+    /**
+     * 기본 버퍼 크기, 최대 전달 수, 최대 대기 시간으로 `KitchenDispatcher` 객체를 생성한다.
+     *
+     * @param catalog 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+     * @param handler 스테이션에 전달된 주문표를 처리하는 객체
+     */
+    public KitchenDispatcher(MenuCatalog catalog, StationHandler handler) {
+        this(catalog, handler, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * 주어진 버퍼 크기와 최대 전달 수, 기본 최대 대기 시간으로 `KitchenDispatcher` 객체를 생성한다.
+     *
+     * @param catalog 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+     * @param handler 스테이션에 전달된 주문표를 처리하는 객체
+     * @param capacity 원형 버퍼의 크기(2의 거듭제곱)
+     * @param maxBatch 스테이션이 한 번에 전달받는 최대 주문 수
+     * @throws IllegalArgumentException 버퍼 크기가 2의 거듭제곱이 아니거나 최대 전달 수가 1보다 작은 경우
+     */
+    public KitchenDispatcher(MenuCatalog catalog, StationHandler handler, int capacity, int maxBatch) {
+        this(catalog, handler, capacity, maxBatch, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    /**
+     * 주어진 버퍼 크기, 최대 전달 수, 최대 대기 시간으로 `KitchenDispatcher` 객체를 생성한다.
+     *
+     * @param catalog 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+     * @param handler 스테이션에 전달된 주문표를 처리하는 객체
+     * @param capacity 원형 버퍼의 크기(2의 거듭제곱)
+     * @param maxBatch 스테이션이 한 번에 전달받는 최대 주문 수
+     * @param maxWaitMillis 버퍼가 가득 찼을 때 기다리는 최대 시간(밀리초), 0이면 기다리지 않는다
+     * @throws IllegalArgumentException 버퍼 크기가 2의 거듭제곱이 아니거나, 최대 전달 수가 1보다 작거나,
+     *                                  최대 대기 시간이 음수인 경우
+     */
+    public KitchenDispatcher(MenuCatalog catalog, StationHandler handler, int capacity, int maxBatch, long maxWaitMillis) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("최대 전달 수는 1 이상이어야 합니다: " + maxBatch);
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("최대 대기 시간은 0 이상이어야 합니다: " + maxWaitMillis);
+        }
+
+        this.catalog = catalog;
+        this.handler = handler;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.highWaterMark = Math.max(1, capacity - capacity / 4);
+    }
+
+    /**
+     * 완료된 주문을 버퍼에 기록하여 스테이션에 전달한다.
+     *
+     * 가장 느린 스테이션이 버퍼 크기만큼 뒤처져 있으면 최대 대기 시간까지 자리가 나기를 기다린다.
+     *
+     * @param order 완료된 주문
+     * @throws IllegalStateException 주방 전달이 이미 종료된 경우
+     * @throws OrderRejectedException 기다려도 버퍼에 자리가 나지 않았거나 기다리는 중 중단된 경우
+     */
+    @Override
+    public void onOrder(Order order) {
+        List<OrderLine> orderLines = order.getOrderLines();
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("주방 전달이 종료되었습니다.");
+            }
+
+            if (published - minSequence() > mask) {
+                awaitSlot();
+            }
+
+            // 기다리는 동안 다른 세션이 기록했을 수 있으므로 기다린 후에 위치를 읽는다.
+            // 모든 스테이션이 읽고 지나간 칸이므로 그대로 덮어쓴다.
+            long sequence = published;
+            Slot slot = slots[(int) sequence & mask];
+            int[] stationIndexes = slot.stationIndexes;
+            if (stationIndexes.length < orderLines.size()) {
+                stationIndexes = new int[Math.max(orderLines.size(), stationIndexes.length * 2)];
+            }
+            for (int i = 0; i < orderLines.size(); i++) {
+                stationIndexes[i] = findStation(orderLines.get(i)).index;
+            }
+
+            slot.order = order;
+            slot.stationIndexes = stationIndexes;
+            slot.publishedAt = System.nanoTime();
+            published = sequence + 1; // 칸에 기록한 후 공개한다.
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 스테이션이 아직 처리를 마치지 않은 주문의 수를 반환한다.
+     *
+     * @return 대기 중인 주문의 수
+     */
+    @Override
+    public int getBacklog() {
+        return (int) (published - minSequence());
+    }
+
+    /**
+     * 대기 중인 주문이 버퍼 크기의 3/4 이상인지 여부를 반환한다.
+     *
+     * @return 주방이 밀려 있으면 true
+     */
+    @Override
+    public boolean isBackedUp() {
+        return getBacklog() >= highWaterMark;
+    }
+
+    /**
+     * 지금까지 전달된 주문의 수를 반환한다.
+     *
+     * @return 전달된 주문의 수
+     */
+    public long getOrderCount() {
+        return published;
+    }
+
+    /**
+     * 스테이션별 누적 처리 실적을 스테이션이 만들어진 순서대로 반환한다.
+     *
+     * @return 스테이션별 처리 실적 리스트
+     */
+    public List<StationStats> getStationStats() {
+        long current = published;
+        List<StationStats> stats = new ArrayList<>();
+        for (Station station : stations) {
+            stats.add(new StationStats(station.name, station.tickets, station.items, station.batches,
+                    current - station.sequence, station.latencyNanos.getValueAtQuantile(0.5),
+                    station.latencyNanos.getValueAtQuantile(0.99)));
+        }
+        return stats;
+    }
+
+    /**
+     * 스테이션별 처리 실적과 대기 현황을 Prometheus 텍스트 형식으로 기록한다.
+     *
+     * @param writer 처리 실적을 기록할 Writer
+     * @throws IOException 기록하는 중 오류가 발생한 경우
+     */
+    @Override
+    public void writePrometheus(Writer writer) throws IOException {
+        Station[] current = stations;
+        long currentPublished = published;
+
+        writeHeader(writer, "kiosk_kitchen_orders_total", "주방에 전달된 주문 수", "counter");
+        writer.write("kiosk_kitchen_orders_total " + currentPublished + "\n");
+        writeHeader(writer, "kiosk_kitchen_tickets_total", "스테이션별 처리한 주문표 수", "counter");
+        for (Station station : current) {
+            writer.write("kiosk_kitchen_tickets_total" + stationLabel(station) + " " + station.tickets + "\n");
+        }
+        writeHeader(writer, "kiosk_kitchen_items_total", "스테이션별 처리한 메뉴 항목 수량", "counter");
+        for (Station station : current) {
+            writer.write("kiosk_kitchen_items_total" + stationLabel(station) + " " + station.items + "\n");
+        }
+        writeHeader(writer, "kiosk_kitchen_backlog", "스테이션별 아직 확인하지 않은 주문 수", "gauge");
+        for (Station station : current) {
+            writer.write("kiosk_kitchen_backlog" + stationLabel(station) + " " + (currentPublished - station.sequence) + "\n");
+        }
+        writeHeader(writer, "kiosk_kitchen_batch_size", "스테이션별 한 번에 전달받은 주문표 수", "summary");
+        for (Station station : current) {
+            writeSummary(writer, "kiosk_kitchen_batch_size", station, station.batchSizes, 1);
+        }
+        writeHeader(writer, "kiosk_kitchen_latency_seconds", "주문이 전달된 후 스테이션의 처리가 끝나기까지 걸린 시간", "summary");
+        for (Station station : current) {
+            writeSummary(writer, "kiosk_kitchen_latency_seconds", station, station.latencyNanos, NANOS_PER_SECOND);
+        }
+
+        writeHeader(writer, "kiosk_kitchen_backpressure_waits_total", "버퍼가 가득 차 주문을 완료한 세션이 기다린 횟수", "counter");
+        writer.write("kiosk_kitchen_backpressure_waits_total " + waits.sum() + "\n");
+        writeHeader(writer, "kiosk_kitchen_backpressure_wait_seconds_total", "버퍼가 가득 차 주문을 완료한 세션이 기다린 시간", "counter");
+        writer.write("kiosk_kitchen_backpressure_wait_seconds_total " + format(waitNanos.sum() / NANOS_PER_SECOND) + "\n");
+        writeHeader(writer, "kiosk_kitchen_rejected_orders_total", "기다려도 버퍼에 자리가 나지 않아 전달하지 못한 주문 수", "counter");
+        writer.write("kiosk_kitchen_rejected_orders_total " + rejections.sum() + "\n");
+        writer.flush();
+    }
+
+    /**
+     * 주문 전달을 종료한다.
+     *
+     * 이미 버퍼에 기록된 주문은 모든 스테이션에 전달될 때까지 기다린다.
+     */
+    @Override
+    public void close() {
+        Station[] current;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            current = stations;
+        } finally {
+            lock.unlock();
+        }
+
+        for (Station station : current) {
+            try {
+                station.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 가장 느린 스테이션이 다음에 기록할 위치의 칸을 비울 때까지 최대 대기 시간만큼 기다린다.
+     *
+     * @throws IllegalStateException 기다리는 중 주방 전달이 종료된 경우
+     * @throws OrderRejectedException 기다리는 중 중단되었거나 시간이 초과된 경우
+     */
+    private void awaitSlot() {
+        long start = System.nanoTime();
+        long remaining = maxWaitNanos;
+        waits.increment();
+        try {
+            while (published - minSequence() > mask) {
+                if (closed) {
+                    throw new IllegalStateException("주방 전달이 종료되었습니다.");
+                }
+                if (remaining <= 0) {
+                    rejections.increment();
+                    throw new OrderRejectedException("주방에 주문이 밀려 있어 주문을 주방에 전달하지 못했습니다.");
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejections.increment();
+            throw new OrderRejectedException("주방에 주문을 전달하는 중 중단되었습니다.");
+        } finally {
+            waitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 스테이션 스레드에서 실행되며, 버퍼를 따라 읽으며 주문표를 만들어 전달한다.
+     */
+    private void consume(Station station) {
+        List<KitchenTicket> tickets = new ArrayList<>(maxBatch);
+        long[] publishedAts = new long[maxBatch];
+        long next = station.sequence;
+        while (true) {
+            long available = published;
+            if (next == available) {
+                available = awaitPublished(next);
+                if (available == next) { // 종료되었고 남은 주문이 없는 경우
+                    return;
+                }
+            }
+
+            long end = Math.min(available, next + maxBatch);
+            tickets.clear();
+            long items = 0;
+            for (long sequence = next; sequence < end; sequence++) {
+                Slot slot = slots[(int) sequence & mask];
+                List<OrderLine> orderLines = selectLines(slot, station.index);
+                if (!orderLines.isEmpty()) {
+                    publishedAts[tickets.size()] = slot.publishedAt;
+                    tickets.add(new KitchenTicket(sequence + 1, slot.order.getOrderedAt(), orderLines));
+                    for (OrderLine line : orderLines) {
+                        items += line.getCount();
+                    }
+                }
+            }
+
+            if (!tickets.isEmpty()) {
+                try {
+                    handler.handle(station.name, tickets);
+                } catch (RuntimeException e) {
+                    System.err.println(station.name + " 스테이션이 주문표를 처리하지 못했습니다: " + e);
+                }
+                long now = System.nanoTime();
+                for (int i = 0; i < tickets.size(); i++) {
+                    station.latencyNanos.record(now - publishedAts[i]);
+                }
+                station.batchSizes.record(tickets.size());
+                station.tickets += tickets.size();
+                station.items += items;
+                station.batches++;
+            }
+
+            // 주문표를 처리한 후에 읽은 위치를 옮겨, 처리가 밀리면 버퍼에 자리가 나지 않도록 한다.
+            next = end;
+            station.sequence = next;
+            signalNotFull();
+        }
+    }
+
+    /**
+     * 주어진 위치 이후에 주문이 기록되거나 전달이 종료될 때까지 기다린다.
+     *
+     * @param sequence 다음에 읽을 위치
+     * @return 기록된 주문의 수, 종료된 경우 `sequence`
+     */
+    private long awaitPublished(long sequence) {
+        lock.lock();
+        try {
+            while (published == sequence && !closed) {
+                notEmpty.await();
+            }
+            return published;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        lock.lock();
+        try {
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 칸에 담긴 주문에서 주어진 스테이션에 속한 항목만 골라 반환한다.
+     */
+    private static List<OrderLine> selectLines(Slot slot, int stationIndex) {
+        List<OrderLine> orderLines = slot.order.getOrderLines();
+        int[] stationIndexes = slot.stationIndexes;
+        int count = 0;
+        for (int i = 0; i < orderLines.size(); i++) {
+            if (stationIndexes[i] == stationIndex) {
+                count++;
+            }
+        }
+        if (count == orderLines.size()) {
+            return orderLines;
+        }
+        if (count == 0) {
+            return List.of();
+        }
+
+        OrderLine[] selected = new OrderLine[count];
+        int j = 0;
+        for (int i = 0; i < orderLines.size(); i++) {
+            if (stationIndexes[i] == stationIndex) {
+                selected[j++] = orderLines.get(i);
+            }
+        }
+        return List.of(selected);
+    }
+
+    /**
+     * 모든 스테이션 중 가장 뒤처진 스테이션의 읽은 위치를 반환한다.
+     * 스테이션이 없으면 기록된 주문의 수를 반환한다.
+     */
+    private long minSequence() {
+        long min = published;
+        for (Station station : stations) {
+            min = Math.min(min, station.sequence);
+        }
+        return min;
+    }
+
+    /**
+     * 주문 항목의 메뉴 항목이 속한 스테이션을 찾는다. 처음 보는 카테고리이면 스테이션을 새로 만든다.
+     * 카탈로그가 교체되면 항목의 카테고리가 바뀌었을 수 있으므로 id별 스테이션을 다시 찾는다.
+     * `lock` 안에서 호출된다.
+     */
+    private Station findStation(OrderLine line) {
+        List<Menu> menus = catalog.getMenus();
+        int id = line.getItemId();
+        if (id == OrderLine.UNKNOWN_ITEM_ID) {
+            return findStation(findCategoryByName(menus, line.getName()));
+        }
+
+        if (menus != stationsByIdMenus) {
+            Arrays.fill(stationsById, null);
+            stationsByIdMenus = menus;
+        }
+        if (id < stationsById.length && stationsById[id] != null) {
+            return stationsById[id];
+        }
+        if (id >= stationsById.length) {
+            stationsById = Arrays.copyOf(stationsById, Math.max(id + 1, stationsById.length * 2));
+        }
+        Station station = findStation(findCategoryById(menus, id));
+        stationsById[id] = station;
+        return station;
+    }
+
+    private Station findStation(String category) {
+        Station station = stationsByName.get(category);
+        if (station != null) {
+            return station;
+        }
+
+        // 새 스테이션은 다음에 기록될 주문부터 읽는다.
+        Station[] current = stations;
+        station = new Station(category, current.length, published);
+        Station[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = station;
+        stations = grown;
+        stationsByName.put(category, station);
+        station.thread.start();
+        return station;
+    }
+
+    private static String findCategoryById(List<Menu> menus, int id) {
+        for (Menu menu : menus) {
+            for (MenuItem menuItem : menu.getMenuItems()) {
+                if (menuItem.getId() == id) {
+                    return menu.getCategory();
+                }
+            }
+        }
+        return UNASSIGNED;
+    }
+
+    private static String findCategoryByName(List<Menu> menus, String name) {
+        for (Menu menu : menus) {
+            if (menu.findMenuItem(name).isPresent()) {
+                return menu.getCategory();
+            }
+        }
+        return UNASSIGNED;
+    }
+
+    private static String stationLabel(Station station) {
+        return "{station=\"" + escape(station.name) + "\"}";
+    }
+
+    private static void writeHeader(Writer writer, String name, String help, String type) throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void writeSummary(Writer writer, String name, Station station, Histogram histogram, double scale) throws IOException {
+        String labels = "station=\"" + escape(station.name) + "\"";
+        for (double quantile : QUANTILES) {
+            writer.write(name + "{" + labels + ",quantile=\"" + quantile + "\"} "
+                    + format(histogram.getValueAtQuantile(quantile) / scale) + "\n");
+        }
+        writer.write(name + "_sum{" + labels + "} " + format(histogram.getSum() / scale) + "\n");
+        writer.write(name + "_count{" + labels + "} " + histogram.getCount() + "\n");
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
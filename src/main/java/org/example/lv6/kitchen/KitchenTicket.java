@@ -0,0 +1,15 @@
+package org.example.lv6.kitchen;
+
+import org.example.lv6.domain.order.OrderLine;
+
+import java.util.List;
+
+/**
+ * 주문 하나 중에서 한 스테이션이 준비해야 하는 항목을 나타내는 클래스이다.
+ *
+ * @param orderNumber 주방에 전달된 순서대로 매긴 주문 번호(1부터 시작한다)
+ * @param orderedAt 주문이 완료된 시각(epoch 밀리초)
+ * @param orderLines 스테이션이 준비해야 하는 주문 항목 리스트
+ */
+public record KitchenTicket(long orderNumber, long orderedAt, List<OrderLine> orderLines) {
+}
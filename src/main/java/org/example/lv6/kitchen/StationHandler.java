@@ -0,0 +1,22 @@
+package org.example.lv6.kitchen;
+
+import java.util.List;
+
+/**
+ * 주방 스테이션에 전달된 주문표를 처리하는 인터페이스이다.
+ *
+ * 스테이션마다 하나의 스레드에서 호출되며, 그동안 쌓인 주문표를 한 번에 전달받는다.
+ * 처리가 끝나 반환해야 다음 주문표를 전달받으므로, 처리가 늦어지면 키오스크에
+ * 주방이 밀려 있다는 신호가 전달된다.
+ */
+@FunctionalInterface
+public interface StationHandler {
+
+    /**
+     * 스테이션에 전달된 주문표를 처리한다.
+     *
+     * @param station 스테이션 이름(`Menu.getCategory()`)
+     * @param tickets 전달된 순서대로 정렬된 주문표 리스트(호출이 끝나면 재사용된다)
+     */
+    void handle(String station, List<KitchenTicket> tickets);
+}
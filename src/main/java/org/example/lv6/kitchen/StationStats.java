@@ -0,0 +1,16 @@
+package org.example.lv6.kitchen;
+
+/**
+ * 주방 스테이션 하나의 누적 처리 실적을 나타내는 클래스이다.
+ *
+ * @param station 스테이션 이름(`Menu.getCategory()`)
+ * @param tickets 처리한 주문표의 수
+ * @param items 처리한 주문표에 포함된 메뉴 항목의 수량
+ * @param batches 주문표를 전달받은 횟수
+ * @param backlog 스테이션이 아직 확인하지 않은 주문의 수
+ * @param medianLatencyNanos 주문이 전달된 후 처리가 끝나기까지 걸린 시간의 중앙값(나노초)
+ * @param p99LatencyNanos 주문이 전달된 후 처리가 끝나기까지 걸린 시간의 99번째 백분위수(나노초)
+ */
+public record StationStats(String station, long tickets, long items, long batches, long backlog,
+                           long medianLatencyNanos, long p99LatencyNanos) {
+}
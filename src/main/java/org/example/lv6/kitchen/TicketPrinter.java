@@ -0,0 +1,64 @@
+package org.example.lv6.kitchen;
+
+import org.example.lv6.domain.order.OrderLine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 스테이션에 전달된 주문표를 스테이션별 텍스트 파일(`<스테이션>.txt`)에 덧붙여 출력하는 클래스이다.
+ *
+ * 주방 화면이나 프린터 대신 사용하며, 한 번에 전달받은 주문표를 파일을 한 번 열어 모두 기록한다.
+ *
+ * - `directory`: 주문표 파일을 저장할 디렉터리
+ */
+public class TicketPrinter implements StationHandler {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private final Path directory;
+
+    /**
+     * 주어진 디렉터리에 주문표를 출력하는 `TicketPrinter` 객체를 생성한다.
+     *
+     * @param directory 주문표 파일을 저장할 디렉터리
+     * @throws IOException 디렉터리를 만들 수 없는 경우
+     */
+    public TicketPrinter(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * 주문표를 스테이션의 파일에 덧붙여 기록한다.
+     *
+     * @param station 스테이션 이름
+     * @param tickets 기록할 주문표 리스트
+     * @throws UncheckedIOException 파일에 기록할 수 없는 경우
+     */
+    @Override
+    public void handle(String station, List<KitchenTicket> tickets) {
+        Path path = directory.resolve(station.replaceAll("[\\\\/:*?\"<>|]", "_") + ".txt");
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (KitchenTicket ticket : tickets) {
+                writer.write("[ 주문 #" + ticket.orderNumber() + " ] "
+                        + TIME_FORMAT.format(Instant.ofEpochMilli(ticket.orderedAt())) + "\n");
+                for (OrderLine line : ticket.orderLines()) {
+                    writer.write(line.getName() + " x " + line.getCount() + "\n");
+                }
+                writer.write("\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
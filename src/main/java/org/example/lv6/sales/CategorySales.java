@@ -0,0 +1,13 @@
+package org.example.lv6.sales;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 메뉴 카테고리 하나의 누적 판매 실적을 나타내는 클래스이다.
+ *
+ * @param category 카테고리 이름(`Menu.getCategory()`)
+ * @param quantity 카테고리에 속한 메뉴 항목의 판매 수량
+ * @param revenue 카테고리에 속한 메뉴 항목의 판매 금액(할인 전)
+ */
+public record CategorySales(String category, long quantity, Money revenue) {
+}
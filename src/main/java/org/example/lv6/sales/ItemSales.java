@@ -0,0 +1,14 @@
+package org.example.lv6.sales;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 메뉴 항목 하나의 누적 판매 실적을 나타내는 클래스이다.
+ *
+ * @param name 메뉴 항목의 이름
+ * @param category 메뉴 항목이 속한 카테고리
+ * @param quantity 판매된 수량
+ * @param revenue 판매 금액(할인 전)
+ */
+public record ItemSales(String name, String category, long quantity, Money revenue) {
+}
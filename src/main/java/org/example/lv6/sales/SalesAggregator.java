@@ -0,0 +1,394 @@
+package org.example.lv6.sales;
+
+import org.example.lv6.app.OrderListener;
+import org.example.lv6.app.metrics.MetricsSource;
+import org.example.lv6.catalog.MenuCatalog;
+import org.example.lv6.domain.menu.Menu;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.example.lv6.domain.order.OrderLine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 완료된 주문으로부터 메뉴 항목별, 카테고리별 판매 실적을 실시간으로 집계하는 클래스이다.
+ *
+ * 키오스크에 `OrderListener`로 등록하여 사용하며, 여러 세션이 동시에 주문을 완료해도
+ * 서로를 기다리지 않는다. 메뉴 항목별 집계는 메뉴 항목의 id를 인덱스로 하는 배열에서
+ * 찾고, 수량과 금액은 `LongAdder`에 더하므로 주문 하나를 집계할 때 잠금을 사용하지 않는다.
+ * 처음 판매된 메뉴 항목의 집계를 만들 때만 잠금을 사용한다.
+ *
+ * 메뉴 항목의 카테고리는 처음 판매될 때 현재 메뉴 카탈로그에서 찾아 정해진다.
+ * 카탈로그에서 찾을 수 없는 메뉴 항목은 `UNCATEGORIZED`로 집계한다.
+ *
+ * 최근 판매 실적은 1분 단위의 구간 `WINDOW_MINUTES`개를 순환하며 기록하므로,
+ * 최근 최대 `WINDOW_MINUTES`분 동안의 실적을 조회할 수 있다.
+ *
+ * 메뉴 항목별, 카테고리별 금액은 할인 전 금액이고, 전체 매출과 최근 실적의 금액은
+ * 할인이 적용된 결제 금액이다. 할인은 주문 단위로 적용되어 항목별로 나눌 수 없기 때문이다.
+ *
+ * - `catalog`: 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+ * - `itemsById`: 메뉴 항목의 id를 인덱스로 하는 메뉴 항목별 집계
+ * - `itemsByName`: id를 알 수 없는 주문 항목의 이름별 집계
+ * - `categories`: 카테고리 이름별 집계
+ * - `minutes`: 1분 단위 구간별 최근 실적
+ * - `orders`, `revenue`: 누적 주문 수와 결제 금액(최소 단위)
+ */
+public class SalesAggregator implements OrderListener, MetricsSource {
+    public static final int WINDOW_MINUTES = 60;
+    public static final String UNCATEGORIZED = "기타";
+
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final int[] EXPORTED_WINDOWS = {1, 15, 60};
+
+    private final MenuCatalog catalog;
+    private final Object growLock = new Object();
+    private volatile ItemCounter[] itemsById = new ItemCounter[64];
+    private final Map<String, ItemCounter> itemsByName = new ConcurrentHashMap<>();
+    private final Map<String, CategoryCounter> categories = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<MinuteBucket> minutes = new AtomicReferenceArray<>(WINDOW_MINUTES);
+    private final LongAdder orders = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+
+    /**
+     * 카테고리 하나의 판매 수량과 금액(최소 단위)을 세는 클래스이다.
+     */
+    private static final class CategoryCounter {
+        private final String category;
+        private final LongAdder quantity = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+
+        private CategoryCounter(String category) {
+            this.category = category;
+        }
+    }
+
+    /**
+     * 메뉴 항목 하나의 판매 수량과 금액(최소 단위)을 세는 클래스이다.
+     * 속한 카테고리의 집계를 함께 보관하여, 주문을 집계할 때 카테고리를 다시 찾지 않는다.
+     */
+    private static final class ItemCounter {
+        private final String name;
+        private final CategoryCounter category;
+        private final LongAdder quantity = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+
+        private ItemCounter(String name, CategoryCounter category) {
+            this.name = name;
+            this.category = category;
+        }
+    }
+
+    /**
+     * 판매 실적을 합산할 메뉴 항목을 구분하는 키로, 이름과 카테고리로 이루어진다.
+     */
+    private record ItemKey(String name, String category) {
+    }
+
+    /**
+     * 1분 동안의 주문 수, 판매 수량, 결제 금액(최소 단위)을 세는 클래스이다.
+     * 구간이 다음 순환의 분으로 넘어가면 새로운 객체로 교체된다.
+     */
+    private static final class MinuteBucket {
+        private final long minute;
+        private final LongAdder orders = new LongAdder();
+        private final LongAdder quantity = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+
+        private MinuteBucket(long minute) {
+            this.minute = minute;
+        }
+    }
+
+    /**
+     * 주어진 메뉴 카탈로그를 사용하여 카테고리를 찾는 `SalesAggregator` 객체를 생성한다.
+     *
+     * @param catalog 메뉴 항목의 카테고리를 찾을 메뉴 카탈로그
+     */
+    public SalesAggregator(MenuCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * 완료된 주문을 집계한다.
+     *
+     * @param order 완료된 주문
+     */
+    @Override
+    public void onOrder(Order order) {
+        long quantity = 0;
+        for (OrderLine line : order.getOrderLines()) {
+            ItemCounter item = findItemCounter(line);
+            long lineRevenue = line.getUnitPrice().toMinor() * line.getCount();
+            item.quantity.add(line.getCount());
+            item.revenue.add(lineRevenue);
+            item.category.quantity.add(line.getCount());
+            item.category.revenue.add(lineRevenue);
+            quantity += line.getCount();
+        }
+
+        long payment = order.getPaymentPrice().toMinor();
+        orders.increment();
+        revenue.add(payment);
+        recordMinute(order.getOrderedAt(), quantity, payment);
+    }
+
+    /**
+     * 누적 주문 수를 반환한다.
+     *
+     * @return 누적 주문 수
+     */
+    public long getOrderCount() {
+        return orders.sum();
+    }
+
+    /**
+     * 누적 결제 금액을 반환한다.
+     *
+     * @return 누적 결제 금액(할인 후)
+     */
+    public Money getRevenue() {
+        return Money.ofMinor(revenue.sum());
+    }
+
+    /**
+     * 메뉴 항목별 누적 판매 실적을 판매 금액이 큰 순서대로 반환한다.
+     *
+     * 메뉴 항목의 id는 이름마다 정해지므로 메뉴가 교체되어 가격이 바뀌어도 하나로 집계되며,
+     * 주문 기록 파일에서 읽어 id가 없는 실적도 이름과 카테고리가 같으면 하나의 메뉴 항목으로 합산한다.
+     *
+     * @return 메뉴 항목별 판매 실적 리스트
+     */
+    public List<ItemSales> getItemSales() {
+        Map<ItemKey, ItemSales> merged = new LinkedHashMap<>();
+        for (ItemCounter item : itemsById) {
+            if (item != null) {
+                merge(merged, item);
+            }
+        }
+        itemsByName.values().forEach(item -> merge(merged, item));
+
+        List<ItemSales> itemSales = new ArrayList<>(merged.values());
+        itemSales.sort(Comparator.comparing(ItemSales::revenue).reversed());
+        return itemSales;
+    }
+
+    /**
+     * 카테고리별 누적 판매 실적을 판매 금액이 큰 순서대로 반환한다.
+     *
+     * @return 카테고리별 판매 실적 리스트
+     */
+    public List<CategorySales> getCategorySales() {
+        List<CategorySales> categorySales = new ArrayList<>();
+        for (CategoryCounter category : categories.values()) {
+            categorySales.add(new CategorySales(category.category, category.quantity.sum(), Money.ofMinor(category.revenue.sum())));
+        }
+        categorySales.sort(Comparator.comparing(CategorySales::revenue).reversed());
+        return categorySales;
+    }
+
+    /**
+     * 현재 시각까지 최근 주어진 시간 동안의 판매 실적을 반환한다.
+     *
+     * @param minutes 집계할 기간(분, 1 ~ `WINDOW_MINUTES`)
+     * @return 최근 판매 실적
+     */
+    public SalesWindow getRecentSales(int minutes) {
+        return getRecentSales(minutes, System.currentTimeMillis());
+    }
+
+    /**
+     * 주어진 시각까지 최근 주어진 시간 동안의 판매 실적을 반환한다.
+     *
+     * 주어진 시각이 속한 1분 구간을 포함하여, 그 이전 `minutes`개의 구간을 합산한다.
+     *
+     * @param minutes 집계할 기간(분, 1 ~ `WINDOW_MINUTES`)
+     * @param now 기준 시각(epoch 밀리초)
+     * @return 최근 판매 실적
+     * @throws IllegalArgumentException 기간이 범위를 벗어난 경우
+     */
+    public SalesWindow getRecentSales(int minutes, long now) {
+        if (minutes < 1 || minutes > WINDOW_MINUTES) {
+            throw new IllegalArgumentException("집계 기간은 1분에서 " + WINDOW_MINUTES + "분 사이여야 합니다: " + minutes);
+        }
+
+        long current = now / MILLIS_PER_MINUTE;
+        long orderCount = 0;
+        long quantity = 0;
+        long amount = 0;
+        for (int i = 0; i < WINDOW_MINUTES; i++) {
+            MinuteBucket bucket = this.minutes.get(i);
+            if (bucket != null && bucket.minute <= current && bucket.minute > current - minutes) {
+                orderCount += bucket.orders.sum();
+                quantity += bucket.quantity.sum();
+                amount += bucket.revenue.sum();
+            }
+        }
+        return new SalesWindow(minutes, orderCount, quantity, Money.ofMinor(amount));
+    }
+
+    /**
+     * 판매 실적을 Prometheus 텍스트 형식으로 기록한다.
+     *
+     * 누적 실적은 카운터로, 최근 1분, 15분, 60분 동안의 실적은 게이지로 내보낸다.
+     *
+     * @param writer 판매 실적을 기록할 Writer
+     * @throws IOException 기록하는 중 오류가 발생한 경우
+     */
+    @Override
+    public void writePrometheus(Writer writer) throws IOException {
+        List<ItemSales> itemSales = getItemSales();
+        writeHeader(writer, "kiosk_item_sold_total", "메뉴 항목별 판매 수량", "counter");
+        for (ItemSales item : itemSales) {
+            writer.write("kiosk_item_sold_total" + itemLabels(item) + " " + item.quantity() + "\n");
+        }
+        writeHeader(writer, "kiosk_item_sales_total", "메뉴 항목별 판매 금액(할인 전)", "counter");
+        for (ItemSales item : itemSales) {
+            writer.write("kiosk_item_sales_total" + itemLabels(item) + " " + item.revenue() + "\n");
+        }
+
+        List<CategorySales> categorySales = getCategorySales();
+        writeHeader(writer, "kiosk_category_sold_total", "카테고리별 판매 수량", "counter");
+        for (CategorySales category : categorySales) {
+            writer.write("kiosk_category_sold_total{category=\"" + escape(category.category()) + "\"} " + category.quantity() + "\n");
+        }
+        writeHeader(writer, "kiosk_category_sales_total", "카테고리별 판매 금액(할인 전)", "counter");
+        for (CategorySales category : categorySales) {
+            writer.write("kiosk_category_sales_total{category=\"" + escape(category.category()) + "\"} " + category.revenue() + "\n");
+        }
+
+        writeHeader(writer, "kiosk_sales_total", "결제 금액(할인 후)", "counter");
+        writer.write("kiosk_sales_total " + getRevenue() + "\n");
+
+        long now = System.currentTimeMillis();
+        writeHeader(writer, "kiosk_recent_orders", "최근 완료된 주문 수", "gauge");
+        for (int window : EXPORTED_WINDOWS) {
+            writer.write("kiosk_recent_orders{window=\"" + window + "m\"} " + getRecentSales(window, now).orders() + "\n");
+        }
+        writeHeader(writer, "kiosk_recent_sales", "최근 결제 금액(할인 후)", "gauge");
+        for (int window : EXPORTED_WINDOWS) {
+            writer.write("kiosk_recent_sales{window=\"" + window + "m\"} " + getRecentSales(window, now).revenue() + "\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * 주문 항목의 메뉴 항목에 대한 집계를 찾는다. 처음 판매된 메뉴 항목이면 새로 만든다.
+     *
+     * @param line 주문 항목
+     * @return 메뉴 항목의 집계
+     */
+    private ItemCounter findItemCounter(OrderLine line) {
+        int id = line.getItemId();
+        if (id == OrderLine.UNKNOWN_ITEM_ID) {
+            return itemsByName.computeIfAbsent(line.getName(),
+                    name -> new ItemCounter(name, findCategoryCounter(findCategoryByName(name))));
+        }
+
+        ItemCounter[] current = itemsById;
+        if (id < current.length && current[id] != null) {
+            return current[id];
+        }
+        return createItemCounter(id, line.getName());
+    }
+
+    private ItemCounter createItemCounter(int id, String name) {
+        synchronized (growLock) {
+            ItemCounter[] current = itemsById;
+            if (id < current.length && current[id] != null) {
+                return current[id];
+            }
+
+            if (id >= current.length) {
+                current = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+            }
+            ItemCounter item = new ItemCounter(name, findCategoryCounter(findCategoryById(id)));
+            current[id] = item;
+            itemsById = current; // 배열에 기록한 후 공개한다.
+            return item;
+        }
+    }
+
+    private CategoryCounter findCategoryCounter(String category) {
+        return categories.computeIfAbsent(category, CategoryCounter::new);
+    }
+
+    private String findCategoryById(int id) {
+        for (Menu menu : catalog.getMenus()) {
+            for (MenuItem menuItem : menu.getMenuItems()) {
+                if (menuItem.getId() == id) {
+                    return menu.getCategory();
+                }
+            }
+        }
+        return UNCATEGORIZED;
+    }
+
+    private String findCategoryByName(String name) {
+        for (Menu menu : catalog.getMenus()) {
+            if (menu.findMenuItem(name).isPresent()) {
+                return menu.getCategory();
+            }
+        }
+        return UNCATEGORIZED;
+    }
+
+    /**
+     * 주문이 완료된 시각이 속한 1분 구간에 실적을 더한다.
+     *
+     * 구간에 이전 순환의 실적이 남아 있으면 새로운 구간으로 교체하며, 이미 다음 순환으로
+     * 넘어간 구간에 속하는 오래된 주문은 최근 실적에 더하지 않는다.
+     */
+    private void recordMinute(long orderedAt, long quantity, long amount) {
+        long minute = orderedAt / MILLIS_PER_MINUTE;
+        int slot = (int) (minute % WINDOW_MINUTES);
+        MinuteBucket bucket = minutes.get(slot);
+        while (bucket == null || bucket.minute < minute) {
+            MinuteBucket fresh = new MinuteBucket(minute);
+            if (minutes.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = minutes.get(slot);
+            }
+        }
+        if (bucket.minute != minute) {
+            return;
+        }
+
+        bucket.orders.increment();
+        bucket.quantity.add(quantity);
+        bucket.revenue.add(amount);
+    }
+
+    private static void merge(Map<ItemKey, ItemSales> merged, ItemCounter item) {
+        long quantity = item.quantity.sum();
+        long amount = item.revenue.sum();
+        merged.merge(new ItemKey(item.name, item.category.category),
+                new ItemSales(item.name, item.category.category, quantity, Money.ofMinor(amount)),
+                (a, b) -> new ItemSales(a.name(), a.category(), a.quantity() + b.quantity(), a.revenue().plus(b.revenue())));
+    }
+
+    private static String itemLabels(ItemSales item) {
+        return "{item=\"" + escape(item.name()) + "\",category=\"" + escape(item.category()) + "\"}";
+    }
+
+    private static void writeHeader(Writer writer, String name, String help, String type) throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.lv6.sales;
+
+import org.example.lv6.domain.money.Money;
+
+/**
+ * 최근 일정 시간 동안의 판매 실적을 나타내는 클래스이다.
+ *
+ * @param minutes 집계한 기간(분)
+ * @param orders 완료된 주문 수
+ * @param quantity 판매된 메뉴 항목의 수량
+ * @param revenue 결제 금액(할인 후)
+ */
+public record SalesWindow(int minutes, long orders, long quantity, Money revenue) {
+}
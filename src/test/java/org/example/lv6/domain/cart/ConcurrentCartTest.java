@@ -0,0 +1,147 @@
+package org.example.lv6.domain.cart;
+
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 스레드가 동시에 같은 `ConcurrentCart`를 변경할 때 수량이 사라지지 않는지 확인하는 테스트이다.
+ *
+ * 각 스레드는 항목을 추가하고, 항목을 제거하고, 장바구니를 꺼내 비우는(`drain()`) 작업을 무작위로
+ * 섞어 반복한다. 추가한 수량을 항목별로 세어 두었다가, 꺼낸 수량과 마지막에 남은 수량의 합과
+ * 비교한다. 제거되는 항목은 따로 두어, 제거 작업이 잠금을 다투되 보존 법칙의 계산에는 끼어들지
+ * 않도록 한다.
+ */
+class ConcurrentCartTest {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 20_000;
+
+    private final List<MenuItem> keptItems = List.of(
+            MenuItem.of("StressBurger", Money.parse("6.9"), "보존 확인용"),
+            MenuItem.of("StressCoke", Money.parse("2.5"), "보존 확인용"),
+            MenuItem.of("StressShake", Money.parse("5.0"), "보존 확인용"));
+    private final MenuItem removedItem = MenuItem.of("StressFries", Money.parse("3.1"), "제거 확인용");
+
+    @Test
+    void addRemoveAndDrainConserveItemCount() throws Exception {
+        ConcurrentCart cart = new ConcurrentCart();
+        AtomicLongArray added = new AtomicLongArray(keptItems.size());
+        AtomicLongArray drained = new AtomicLongArray(keptItems.size());
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                int operation = random.nextInt(10);
+                if (operation < 6) {
+                    int index = random.nextInt(keptItems.size());
+                    cart.addCartItem(keptItems.get(index));
+                    added.incrementAndGet(index);
+                } else if (operation < 8) {
+                    cart.addCartItem(removedItem);
+                } else if (operation < 9) {
+                    cart.removeItemByName("stressfries");
+                } else {
+                    List<CartItem> cartItems = cart.drain();
+                    assertConsistent(cartItems);
+                    for (CartItem cartItem : cartItems) {
+                        int index = keptItems.indexOf(cartItem.getMenuItem());
+                        if (index >= 0) {
+                            drained.addAndGet(index, cartItem.getCount());
+                        }
+                    }
+                }
+            }
+        });
+
+        cart.removeItemByName(removedItem.getName());
+        List<CartItem> remaining = cart.getCartItems();
+        long[] remainingCounts = new long[keptItems.size()];
+        for (CartItem cartItem : remaining) {
+            remainingCounts[keptItems.indexOf(cartItem.getMenuItem())] += cartItem.getCount();
+        }
+        for (int i = 0; i < keptItems.size(); i++) {
+            assertTrue(added.get(i) > 0);
+            assertEquals(added.get(i), drained.get(i) + remainingCounts[i], keptItems.get(i).getName());
+        }
+        assertEquals(sumCounts(remaining), cart.getItemCount());
+        assertEquals(sumPrices(remaining), cart.getTotalPrice());
+    }
+
+    @Test
+    void itemCountAndTotalPriceMatchItemsAfterContention() throws Exception {
+        ConcurrentCart cart = new ConcurrentCart();
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if (random.nextInt(4) == 0) {
+                    cart.removeItemByName(removedItem.getName());
+                } else if (random.nextBoolean()) {
+                    cart.addCartItem(removedItem);
+                } else {
+                    cart.addCartItem(keptItems.get(random.nextInt(keptItems.size())));
+                }
+            }
+        });
+
+        List<CartItem> cartItems = cart.getCartItems();
+        assertEquals(sumCounts(cartItems), cart.getItemCount());
+        assertEquals(sumPrices(cartItems), cart.getTotalPrice());
+    }
+
+    /**
+     * 모든 스레드가 동시에 작업을 시작하도록 한 후, 끝날 때까지 기다린다.
+     * 작업 중 발생한 예외나 실패한 검증은 다시 던진다.
+     */
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertConsistent(List<CartItem> cartItems) {
+        for (CartItem cartItem : cartItems) {
+            assertTrue(cartItem.getCount() > 0);
+        }
+    }
+
+    private static int sumCounts(List<CartItem> cartItems) {
+        return cartItems.stream().mapToInt(CartItem::getCount).sum();
+    }
+
+    private static Money sumPrices(List<CartItem> cartItems) {
+        Money total = Money.ZERO;
+        for (CartItem cartItem : cartItems) {
+            total = total.plus(cartItem.getPrice());
+        }
+        return total;
+    }
+}
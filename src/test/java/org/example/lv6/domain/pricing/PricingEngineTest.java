@@ -0,0 +1,46 @@
+package org.example.lv6.domain.pricing;
+
+import org.example.lv6.domain.cart.CartItem;
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 할인 규칙을 만든 후 메뉴를 다시 불러와 가격이 바뀌어도 규칙이 계속 적용되는지 확인하는 테스트이다.
+ *
+ * 규칙은 처음 불러온 메뉴 항목으로 만들고, 장바구니에는 같은 이름으로 다시 만든 메뉴 항목을 담는다.
+ */
+class PricingEngineTest {
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    private final MenuItem burger = MenuItem.of("PricingBurger", Money.parse("6.9"), "처음 불러온 메뉴");
+    private final MenuItem coke = MenuItem.of("PricingCoke", Money.parse("2.5"), "처음 불러온 메뉴");
+
+    @Test
+    void comboRuleAppliesToReloadedItems() {
+        PricingEngine engine = new PricingEngine(List.of(
+                new ComboRule(List.of(List.of(burger), List.of(coke)), Money.parse("1.0"))));
+
+        MenuItem reloadedBurger = MenuItem.of("PricingBurger", Money.parse("7.9"), "다시 불러온 메뉴");
+        MenuItem reloadedCoke = MenuItem.of("PricingCoke", Money.parse("2.5"), "설명만 바뀐 메뉴");
+        List<CartItem> cartItems = List.of(new CartItem(reloadedBurger, 2), new CartItem(reloadedCoke, 1));
+
+        assertEquals(Money.parse("17.3"), engine.price(cartItems, UserType.GENERAL, NOON));
+    }
+
+    @Test
+    void quantityBreakRuleUsesCurrentPriceOfReloadedItems() {
+        PricingEngine engine = new PricingEngine(List.of(new QuantityBreakRule(List.of(coke), 3, 10)));
+
+        MenuItem reloadedCoke = MenuItem.of("PricingCoke", Money.parse("3.0"), "가격이 바뀐 메뉴");
+        List<CartItem> cartItems = List.of(new CartItem(reloadedCoke, 3));
+
+        assertEquals(Money.parse("8.1"), engine.price(cartItems, UserType.GENERAL, NOON));
+    }
+}
@@ -0,0 +1,238 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.cart.Cart;
+import org.example.lv6.domain.cart.SimpleCart;
+import org.example.lv6.domain.menu.MenuItem;
+import org.example.lv6.domain.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 장바구니 로그를 기록한 뒤 키오스크가 비정상 종료된 상황을 파일로 꾸며, 다시 열었을 때
+ * 장바구니가 올바르게 복원되는지 확인하는 테스트이다.
+ *
+ * 기록 도중 잘린 마지막 레코드, 중간에 손상된 레코드, 스냅샷 저장 직후 로그를 비우기 전의 중단,
+ * 비우기 이벤트를 기록한 직후의 중단을 각각 재현하고, 메뉴가 교체된 후에도 항목이 담을 때의
+ * 가격으로 복원되는지 확인한다.
+ */
+class CartEventLogTest {
+    private static final String SESSION = "kiosk-1";
+
+    private final MenuItem burger = MenuItem.of("Burger", Money.parse("6.9"), "버거");
+    private final MenuItem cokes = MenuItem.of("Cokes", Money.parse("2.5"), "음료");
+    private final MenuItem fries = MenuItem.of("Fries", Money.parse("3.1"), "사이드");
+    private final Map<String, MenuItem> menu = Map.of("burger", burger, "cokes", cokes, "fries", fries);
+    private final Function<String, Optional<MenuItem>> resolver = name -> Optional.ofNullable(menu.get(name.toLowerCase()));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void eventsAreReplayedAfterReopen() throws Exception {
+        try (JournaledCart cart = open()) {
+            cart.addCartItem(burger);
+            cart.addCartItem(burger);
+            cart.addCartItem(cokes);
+            cart.addCartItem(fries);
+            cart.removeItemByName("cokes");
+        }
+
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Burger x2 @690", "Fries x1 @310"), describe(cart));
+        }
+    }
+
+    @Test
+    void truncatedTailIsDiscardedAndLoggingContinues() throws Exception {
+        try (JournaledCart cart = open()) {
+            cart.addCartItem(burger);
+            cart.addCartItem(cokes);
+            cart.addCartItem(fries);
+        }
+        truncate(logPath(), Files.size(logPath()) - 1); // 마지막 레코드를 기록하던 중 중단
+
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Burger x1 @690", "Cokes x1 @250"), describe(cart));
+            cart.addCartItem(burger);
+        }
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Burger x2 @690", "Cokes x1 @250"), describe(cart));
+        }
+    }
+
+    @Test
+    void replayStopsAtFirstCorruptedRecord() throws Exception {
+        try (JournaledCart cart = open()) {
+            cart.addCartItem(cokes);
+            cart.addCartItem(fries);
+            cart.addCartItem(cokes);
+        }
+        long recordSize = Files.size(logPath()) / 3; // 이름 길이가 같아 레코드 크기도 같다.
+        flipByte(logPath(), recordSize * 2 - 1);
+
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Cokes x1 @250"), describe(cart));
+        }
+        assertEquals(recordSize, Files.size(logPath()));
+    }
+
+    @Test
+    void eventsAlreadyInSnapshotAreSkipped() throws Exception {
+        byte[] logBeforeSnapshot;
+        try (CartEventLog eventLog = new CartEventLog(directory, SESSION, CartEventLog.DEFAULT_SNAPSHOT_INTERVAL)) {
+            Cart cart = new SimpleCart();
+            eventLog.replay(cart, resolver);
+            cart.addCartItem(burger);
+            eventLog.recordAdd(burger);
+            cart.addCartItem(cokes);
+            eventLog.recordAdd(cokes);
+            logBeforeSnapshot = Files.readAllBytes(logPath());
+            eventLog.writeSnapshot(cart.getCartItems());
+        }
+        assertFalse(Files.exists(snapshotPath().resolveSibling(snapshotPath().getFileName() + ".tmp")));
+        Files.write(logPath(), logBeforeSnapshot); // 스냅샷을 교체한 후 로그를 비우기 전에 중단
+
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Burger x1 @690", "Cokes x1 @250"), describe(cart));
+            cart.addCartItem(fries);
+        }
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Burger x1 @690", "Cokes x1 @250", "Fries x1 @310"), describe(cart));
+        }
+    }
+
+    @Test
+    void clearEventDiscardsSnapshotAndEarlierEvents() throws Exception {
+        try (CartEventLog eventLog = new CartEventLog(directory, SESSION, CartEventLog.DEFAULT_SNAPSHOT_INTERVAL)) {
+            Cart cart = new SimpleCart();
+            eventLog.replay(cart, resolver);
+            cart.addCartItem(burger);
+            eventLog.recordAdd(burger);
+            eventLog.writeSnapshot(cart.getCartItems());
+            eventLog.recordAdd(cokes);
+        }
+        // 비우기 이벤트를 디스크에 기록한 후, 스냅샷을 지우고 로그를 비우기 전에 중단
+        appendClear(logPath(), 3);
+
+        try (JournaledCart cart = open()) {
+            assertTrue(cart.isEmpty());
+            cart.addCartItem(fries);
+        }
+        try (JournaledCart cart = open()) {
+            assertEquals(List.of("Fries x1 @310"), describe(cart));
+        }
+    }
+
+    @Test
+    void cartIsRestoredAcrossSnapshotCompaction() throws Exception {
+        Cart expected = new SimpleCart();
+        try (JournaledCart cart = open()) {
+            List<MenuItem> menuItems = List.of(burger, cokes, fries);
+            for (int i = 0; i < CartEventLog.DEFAULT_SNAPSHOT_INTERVAL + 10; i++) {
+                MenuItem menuItem = menuItems.get(i % menuItems.size());
+                cart.addCartItem(menuItem);
+                expected.addCartItem(menuItem);
+                if (i % 10 == 9) {
+                    cart.removeItemByName("cokes");
+                    expected.removeItemByName("cokes");
+                }
+            }
+            assertTrue(Files.exists(snapshotPath()));
+            cart.addCartItem(MenuItem.of("Shake", Money.parse("5.0"), "음료"));
+        }
+        truncate(logPath(), Files.size(logPath()) - 1); // 스냅샷 이후 마지막 레코드를 기록하던 중 중단
+
+        try (JournaledCart cart = open()) {
+            assertEquals(describe(expected), describe(cart));
+        }
+    }
+
+    @Test
+    void restoredItemsKeepRecordedPrices() throws Exception {
+        try (CartEventLog eventLog = new CartEventLog(directory, SESSION, CartEventLog.DEFAULT_SNAPSHOT_INTERVAL)) {
+            Cart cart = new SimpleCart();
+            eventLog.replay(cart, resolver);
+            cart.addCartItem(burger);
+            eventLog.recordAdd(burger);
+            eventLog.writeSnapshot(cart.getCartItems());
+            eventLog.recordAdd(cokes);
+        }
+
+        // 메뉴가 교체되어 Burger의 가격이 바뀌고 Cokes가 빠졌다.
+        MenuItem repricedBurger = MenuItem.of("Burger", Money.parse("7.9"), "버거");
+        try (CartEventLog eventLog = new CartEventLog(directory, SESSION, CartEventLog.DEFAULT_SNAPSHOT_INTERVAL)) {
+            Cart cart = new SimpleCart();
+            eventLog.replay(cart, name -> name.equalsIgnoreCase("burger") ? Optional.of(repricedBurger) : Optional.empty());
+            assertEquals(List.of("Burger x1 @690", "Cokes x1 @250"), describe(cart));
+        }
+    }
+
+    private JournaledCart open() throws IOException {
+        return JournaledCart.open(directory, SESSION, new SimpleCart(), resolver);
+    }
+
+    private Path logPath() {
+        return directory.resolve("cart-" + SESSION + ".wal");
+    }
+
+    private Path snapshotPath() {
+        return directory.resolve("cart-" + SESSION + ".snapshot");
+    }
+
+    private static List<String> describe(Cart cart) {
+        return cart.getCartItems().stream()
+                .map(c -> c.getMenuItem().getName() + " x" + c.getCount() + " @" + c.getMenuItem().getPrice().toMinor())
+                .toList();
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static void flipByte(Path path, long position) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[(int) position] ^= 0x5A;
+        Files.write(path, bytes);
+    }
+
+    /**
+     * 로그 형식대로 비우기 이벤트 레코드를 로그 끝에 덧붙인다.
+     */
+    private static void appendClear(Path path, long sequence) throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(Long.BYTES + 1);
+        body.putLong(sequence);
+        body.put(CartEventLog.CLEAR);
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        ByteBuffer record = ByteBuffer.allocate(CartEventLog.HEADER_SIZE + body.remaining());
+        record.putInt(body.remaining());
+        record.putInt((int) crc.getValue());
+        record.put(body);
+        record.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        }
+    }
+}
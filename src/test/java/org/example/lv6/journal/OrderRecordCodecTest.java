@@ -0,0 +1,93 @@
+package org.example.lv6.journal;
+
+import org.example.lv6.domain.enums.UserType;
+import org.example.lv6.domain.money.Money;
+import org.example.lv6.domain.order.Order;
+import org.example.lv6.domain.order.OrderLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 주문을 레코드로 기록한 뒤 `OrderJournalReader`로 다시 읽었을 때 같은 주문이 복원되는지,
+ * 레코드 형식에 담을 수 없는 주문은 기록하지 않고 거부하는지 확인하는 테스트이다.
+ */
+class OrderRecordCodecTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void encodedOrdersAreReadBackByReader() throws Exception {
+        List<Order> orders = List.of(
+                order(UserType.GENERAL, new OrderLine(1, "ShackBurger", Money.parse("6.9"), 2),
+                        new OrderLine(2, "불고기 버거", Money.parse("5.4"), 1)),
+                order(UserType.STUDENT, new OrderLine(3, "Coke", Money.parse("2.5"), 3)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(orders.stream().mapToInt(OrderRecordCodec::maxRecordSize).sum());
+        for (Order order : orders) {
+            OrderRecordCodec.encode(order, buffer);
+        }
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Files.write(directory.resolve(OrderJournalReader.segmentName(0)), bytes);
+
+        List<Order> read = OrderJournalReader.readAll(directory);
+        assertEquals(orders.size(), read.size());
+        for (int i = 0; i < orders.size(); i++) {
+            assertSameOrder(orders.get(i), read.get(i));
+        }
+    }
+
+    @Test
+    void tooManyLinesAreRejected() {
+        List<OrderLine> orderLines = new ArrayList<>(Collections.nCopies(OrderRecordCodec.MAX_SHORT_VALUE + 1,
+                new OrderLine(1, "Coke", Money.parse("2.5"), 1)));
+        Order order = order(UserType.GENERAL, orderLines.toArray(OrderLine[]::new));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> OrderRecordCodec.encode(order, ByteBuffer.allocate(OrderRecordCodec.maxRecordSize(order))));
+    }
+
+    @Test
+    void tooLongNameIsRejected() {
+        String name = "가".repeat(OrderRecordCodec.MAX_SHORT_VALUE / 3 + 1); // UTF-8로 3바이트씩
+        Order order = order(UserType.GENERAL, new OrderLine(1, name, Money.parse("2.5"), 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> OrderRecordCodec.encode(order, ByteBuffer.allocate(OrderRecordCodec.maxRecordSize(order))));
+    }
+
+    private static Order order(UserType userType, OrderLine... orderLines) {
+        Money totalPrice = Money.ZERO;
+        for (OrderLine orderLine : orderLines) {
+            totalPrice = totalPrice.plus(orderLine.getPrice());
+        }
+        return new Order(1_700_000_000_000L, List.of(orderLines), userType, totalPrice, totalPrice);
+    }
+
+    private static void assertSameOrder(Order expected, Order actual) {
+        assertEquals(expected.getOrderedAt(), actual.getOrderedAt());
+        assertEquals(expected.getUserType(), actual.getUserType());
+        assertEquals(expected.getTotalPrice().toMinor(), actual.getTotalPrice().toMinor());
+        assertEquals(expected.getPaymentPrice().toMinor(), actual.getPaymentPrice().toMinor());
+        assertEquals(expected.getOrderLines().size(), actual.getOrderLines().size());
+        for (int i = 0; i < expected.getOrderLines().size(); i++) {
+            OrderLine expectedLine = expected.getOrderLines().get(i);
+            OrderLine actualLine = actual.getOrderLines().get(i);
+            assertEquals(expectedLine.getName(), actualLine.getName());
+            assertEquals(expectedLine.getCount(), actualLine.getCount());
+            assertEquals(expectedLine.getUnitPrice().toMinor(), actualLine.getUnitPrice().toMinor());
+        }
+    }
+}